@@ -0,0 +1,69 @@
+package io.github.xanthic.cache.api;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * An asynchronous companion to {@link Cache}, whose lookups yield {@link CompletableFuture} instances.
+ * <p>
+ * Concurrent loads for the same key should share a single in-flight future,
+ * such that the mapping function is not invoked more than once per absent key.
+ * <p>
+ * Instances must be thread-safe.
+ *
+ * @param <K> The type of keys that form the cache
+ * @param <V> The type of values contained in the cache
+ * @see Cache
+ */
+public interface AsyncCache<K, V> extends AutoCloseable {
+
+	/**
+	 * Obtains the value associated with the specified key.
+	 * <p>
+	 * If a value is currently being loaded for this key, the in-flight future is returned.
+	 *
+	 * @param key the key whose mapped value should be queried
+	 * @return a future that completes with the value associated with the key, or null if no such mapping was found
+	 * @throws NullPointerException if the specified key is null
+	 */
+	@NotNull
+	CompletableFuture<V> getAsync(@NotNull K key);
+
+	/**
+	 * Obtains the value currently associated with the specified key,
+	 * or asynchronously computes and stores the value if no such mapping exists.
+	 * <p>
+	 * Callers that request the same key while a computation is in progress will receive the same future.
+	 * If the computation throws an exception, the future completes exceptionally and no mapping is recorded.
+	 *
+	 * @param key         the key whose mapping should be created or returned
+	 * @param computeFunc the value supplier for a given key, if no mapping already existed
+	 * @return a future that completes with the current (existing or computed) value associated with the key
+	 * @throws NullPointerException if the specified key or compute function is null
+	 */
+	@NotNull
+	CompletableFuture<V> computeIfAbsentAsync(@NotNull K key, @NotNull Function<K, V> computeFunc);
+
+	/**
+	 * Provides a blocking view of this cache.
+	 * <p>
+	 * Operations on the returned view are reflected in this cache, and vice versa.
+	 *
+	 * @return the synchronous {@link Cache} view backed by this instance
+	 */
+	@NotNull
+	Cache<K, V> synchronous();
+
+	/**
+	 * Releases the resources held by this cache.
+	 *
+	 * @see Cache#close()
+	 */
+	@Override
+	default void close() {
+		synchronous().close();
+	}
+
+}
@@ -0,0 +1,31 @@
+package io.github.xanthic.cache.api;
+
+import io.github.xanthic.cache.api.domain.RemovalDispatchMode;
+import io.github.xanthic.cache.api.domain.RemovalEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Listens to entry removals in the cache, which are delivered in batches.
+ * <p>
+ * Batches are always delivered asynchronously, in accordance with {@link RemovalDispatchMode#BATCHED}.
+ *
+ * @param <K> the type of keys that form the cache
+ * @param <V> the type of values that are contained in the cache
+ * @see ICacheSpec#batchRemovalListener()
+ */
+@FunctionalInterface
+public interface BatchRemovalListener<K, V> {
+
+	/**
+	 * Called with the entries that were removed since the previous batch.
+	 * <p>
+	 * Events are ordered as they were enqueued, but batches may not be contiguous
+	 * if events overflowed according to {@link ICacheSpec#removalOverflowPolicy()}.
+	 *
+	 * @param events the non-empty list of removals, which must not be modified
+	 */
+	void onRemovals(@NotNull List<RemovalEvent<K, V>> events);
+
+}
@@ -1,9 +1,13 @@
 package io.github.xanthic.cache.api;
 
+import io.github.xanthic.cache.api.domain.CacheStats;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
@@ -21,11 +25,14 @@ import java.util.function.Function;
  * this is achieved through fine-grained locking or blunt synchronization.
  * <p>
  * Implementations ought to implement expiry and size-based eviction, as defined in {@link ICacheSpec}.
+ * <p>
+ * Caches that are discarded before the application exits (e.g., dynamically created caches) should be {@link #close() closed},
+ * so that any scheduled tasks or native resources of the provider are released.
  *
  * @param <K> The type of keys that form the cache
  * @param <V> The type of values contained in the cache
  */
-public interface Cache<K, V> {
+public interface Cache<K, V> extends AutoCloseable {
 
 	/**
 	 * Obtains the value associated with the specified key.
@@ -49,6 +56,26 @@ public interface Cache<K, V> {
 	@Nullable
 	V put(@NotNull K key, @NotNull V value);
 
+	/**
+	 * Associates the specified key with the specified value,
+	 * creating or replacing the mapping as needed,
+	 * such that the mapping expires after the specified duration.
+	 * <p>
+	 * The duration overrides any lifetime that {@link ICacheSpec#expiryCalculator()} would otherwise assign to this write.
+	 *
+	 * @param key   the key whose mapping should be created or updated
+	 * @param value the value to be associated with the specified key
+	 * @param ttl   the positive duration after which the mapping should expire
+	 * @return the previous value associated with the key, or null if no prior mapping existed
+	 * @throws NullPointerException          if the specified key, value, or duration is null
+	 * @throws UnsupportedOperationException if the cache does not support per-entry expiry
+	 * @implNote Most providers only support this operation when {@link ICacheSpec#expiryCalculator()} is specified
+	 */
+	@Nullable
+	default V put(@NotNull K key, @NotNull V value, @NotNull Duration ttl) {
+		throw new UnsupportedOperationException("Per-entry expiry is not supported by this cache"); // avoids breaking change
+	}
+
 	/**
 	 * Deletes any mapping that may exist for the specified key.
 	 *
@@ -59,6 +86,19 @@ public interface Cache<K, V> {
 	@Nullable
 	V remove(@NotNull K key);
 
+	/**
+	 * Deletes any mappings that may exist for the specified keys.
+	 *
+	 * @param keys the keys whose mappings should be deleted
+	 * @throws NullPointerException if the specified collection is null or contains a null key
+	 * @implNote Providers ought to override this method to utilize a more efficient bulk removal, if available
+	 */
+	default void removeAll(@NotNull Collection<? extends K> keys) {
+		for (K key : keys) {
+			remove(key);
+		}
+	}
+
 	/**
 	 * Removes all entries from the cache.
 	 */
@@ -66,9 +106,33 @@ public interface Cache<K, V> {
 
 	/**
 	 * @return the estimated number of entries contained in the cache
+	 * @see #estimatedSize()
 	 */
 	long size();
 
+	/**
+	 * Obtains an approximation of the number of entries in the cache, without performing any pending maintenance or iteration.
+	 * <p>
+	 * This is meant for frequent polling (e.g., by a metrics gauge); the value may include entries that have expired
+	 * but not yet been removed, or lag behind concurrent modifications. Use {@link #size()} when accuracy matters.
+	 *
+	 * @return the approximate number of entries contained in the cache
+	 * @implNote This runs in constant time for most providers; otherwise, it falls back to {@link #size()}.
+	 */
+	default long estimatedSize() {
+		return size(); // avoids breaking change
+	}
+
+	/**
+	 * Obtains a snapshot of the performance statistics of this cache.
+	 *
+	 * @return the cache statistics, or {@link CacheStats#EMPTY} if {@link ICacheSpec#recordStats()} was not enabled
+	 */
+	@NotNull
+	default CacheStats stats() {
+		return CacheStats.EMPTY; // avoids breaking change
+	}
+
 	/**
 	 * Computes what value should be associated with the specified key, or null if the mapping should be removed.
 	 *
@@ -77,6 +141,7 @@ public interface Cache<K, V> {
 	 * @return the new value associated with the specified key, or null if none
 	 * @throws NullPointerException if the specified key is null or the compute function is null
 	 * @implNote atomicity is dependent on provider characteristics
+	 * @apiNote The compute function must not write to this cache, since providers that lock per key (or per lock stripe) could deadlock.
 	 */
 	@Nullable
 	V compute(@NotNull K key, @NotNull BiFunction<? super K, ? super V, ? extends V> computeFunc);
@@ -89,6 +154,7 @@ public interface Cache<K, V> {
 	 * @param computeFunc the value supplier for a given key, if no mapping already existed
 	 * @return the current (existing or computed) value associated with the key
 	 * @throws NullPointerException if the specified key is null or the compute function is null
+	 * @apiNote The compute function must not write to this cache, since providers that lock per key (or per lock stripe) could deadlock.
 	 */
 	V computeIfAbsent(@NotNull K key, @NotNull Function<K, V> computeFunc);
 
@@ -101,6 +167,7 @@ public interface Cache<K, V> {
 	 * @param computeFunc the function to compute the new value for an already existing mapping
 	 * @return the new value associated with the key, or null if none
 	 * @throws NullPointerException if the specified key is null or the compute function is null
+	 * @apiNote The compute function must not write to this cache, since providers that lock per key (or per lock stripe) could deadlock.
 	 */
 	@Nullable
 	V computeIfPresent(@NotNull K key, @NotNull BiFunction<? super K, ? super V, ? extends V> computeFunc);
@@ -165,6 +232,28 @@ public interface Cache<K, V> {
 		return value != null ? value : defaultValue;
 	}
 
+	/**
+	 * Obtains the values associated with the specified keys.
+	 * <p>
+	 * Keys that do not have an associated value are omitted from the returned map.
+	 *
+	 * @param keys the keys whose mapped values should be queried
+	 * @return a map of the present keys to their associated values
+	 * @throws NullPointerException if the specified collection is null or contains a null key
+	 * @implNote Providers ought to override this method to utilize a more efficient bulk lookup, if available
+	 */
+	@NotNull
+	default Map<K, V> getAll(@NotNull Collection<? extends K> keys) {
+		Map<K, V> map = new HashMap<>();
+		for (K key : keys) {
+			V value = get(key);
+			if (value != null) {
+				map.put(key, value);
+			}
+		}
+		return map;
+	}
+
 	/**
 	 * Copies all of the mappings from the specified map to this cache.
 	 *
@@ -194,4 +283,33 @@ public interface Cache<K, V> {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Performs the specified action upon all entries within the cache,
+	 * starting with those that are most likely to be accessed again.
+	 * <p>
+	 * This is useful when only a prefix of the entries may be consumed (e.g., when persisting a warm-up snapshot).
+	 *
+	 * @param action the action to perform upon each entry
+	 * @throws UnsupportedOperationException if the underlying cache provider does not support iteration over entries
+	 * @implNote Providers that do not expose their eviction order iterate in the same order as {@link #forEach(BiConsumer)}
+	 */
+	@ApiStatus.Experimental
+	default void forEachHottest(@NotNull BiConsumer<? super K, ? super V> action) {
+		forEach(action); // avoids breaking change
+	}
+
+	/**
+	 * Releases the resources held by this cache, such as scheduled maintenance tasks and provider-managed native caches.
+	 * <p>
+	 * Closing an already closed cache has no effect.
+	 * The cache should not be used after it has been closed, and the behavior of further operations is undefined.
+	 * Removal listeners are not notified of the entries that are discarded upon closing.
+	 *
+	 * @implNote Providers without any such resources need not override this method.
+	 */
+	@Override
+	default void close() {
+		// avoids breaking change
+	}
+
 }
@@ -0,0 +1,69 @@
+package io.github.xanthic.cache.api;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Computes values for absent keys on behalf of a {@link LoadingCache}.
+ *
+ * @param <K> the type of keys that form the cache
+ * @param <V> the type of values that are contained in the cache
+ */
+@FunctionalInterface
+public interface CacheLoader<K, V> {
+
+	/**
+	 * Computes the value for the specified key.
+	 * <p>
+	 * Implementations must not return null.
+	 *
+	 * @param key the key whose value should be loaded
+	 * @return the value to be associated with the key
+	 * @throws Exception if the value could not be loaded
+	 */
+	@NotNull
+	V load(@NotNull K key) throws Exception;
+
+	/**
+	 * Computes the values for the specified keys in a single batch.
+	 * <p>
+	 * The returned map should contain an entry for each requested key.
+	 * It may contain additional entries, which will be stored in the cache as well.
+	 *
+	 * @param keys the keys whose values should be loaded
+	 * @return the loaded values, mapped to their keys
+	 * @throws Exception if the values could not be loaded
+	 * @implNote By default, this method calls {@link #load(Object)} for each key; implementations ought to override it
+	 * when the backing data source offers a more efficient bulk lookup.
+	 */
+	@NotNull
+	default Map<K, V> loadAll(@NotNull Set<? extends K> keys) throws Exception {
+		Map<K, V> map = new HashMap<>(keys.size() * 4 / 3 + 1);
+		for (K key : keys) {
+			map.put(key, load(key));
+		}
+		return map;
+	}
+
+	/**
+	 * Computes a replacement value for a key that is already present in the cache.
+	 * <p>
+	 * This is called in the background once an entry becomes eligible for refresh,
+	 * as configured by {@link ICacheSpec#refreshAfter()}.
+	 * Implementations must not return null.
+	 *
+	 * @param key      the key whose value should be reloaded
+	 * @param oldValue the value currently associated with the key
+	 * @return the new value to be associated with the key
+	 * @throws Exception if the value could not be reloaded, in which case the old value is retained
+	 * @implNote By default, this method delegates to {@link #load(Object)}.
+	 */
+	@NotNull
+	default V reload(@NotNull K key, @NotNull V oldValue) throws Exception {
+		return load(key);
+	}
+
+}
@@ -0,0 +1,33 @@
+package io.github.xanthic.cache.api;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Converts keys or values to and from their binary representation,
+ * for storage outside the Java heap (see {@link ICacheSpec#maxOffHeapBytes()}).
+ * <p>
+ * Instances must be thread-safe, and deserializing a serialized object should yield an equal object.
+ *
+ * @param <T> the type of objects that are serialized
+ */
+public interface CacheSerializer<T> {
+
+	/**
+	 * Encodes the specified object.
+	 *
+	 * @param object the key or value to encode
+	 * @return the binary representation of the object
+	 */
+	@NotNull
+	byte[] serialize(@NotNull T object);
+
+	/**
+	 * Decodes an object that was previously encoded by {@link #serialize(Object)}.
+	 *
+	 * @param bytes the binary representation of the object
+	 * @return the decoded key or value
+	 */
+	@NotNull
+	T deserialize(@NotNull byte[] bytes);
+
+}
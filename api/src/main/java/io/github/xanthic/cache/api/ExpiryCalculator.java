@@ -0,0 +1,29 @@
+package io.github.xanthic.cache.api;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * Calculates how long each cache entry should live, for use with {@link ICacheSpec#expiryCalculator()}.
+ *
+ * @param <K> the type of keys that form the cache
+ * @param <V> the type of values that are contained in the cache
+ */
+@FunctionalInterface
+public interface ExpiryCalculator<K, V> {
+
+	/**
+	 * Computes the lifetime of an entry.
+	 * <p>
+	 * This is called whenever an entry is created or its value is replaced,
+	 * and the returned duration is measured from the time of that write.
+	 *
+	 * @param key   the key of the entry
+	 * @param value the (new) value of the entry
+	 * @return the positive duration after which the entry should expire
+	 */
+	@NotNull
+	Duration expireAfterWrite(@NotNull K key, @NotNull V value);
+
+}
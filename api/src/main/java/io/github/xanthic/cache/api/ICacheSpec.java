@@ -1,10 +1,15 @@
 package io.github.xanthic.cache.api;
 
 import io.github.xanthic.cache.api.domain.ExpiryType;
+import io.github.xanthic.cache.api.domain.RemovalCause;
+import io.github.xanthic.cache.api.domain.RemovalDispatchMode;
+import io.github.xanthic.cache.api.domain.RemovalOverflowPolicy;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
 
 /**
@@ -31,13 +36,113 @@ public interface ICacheSpec<K, V> {
 	 * Null implies no constraint.
 	 * Not-null values must be non-negative.
 	 * <p>
-	 * Specifying a not-null value is highly recommended.
+	 * Specifying a not-null value (or {@link #maxWeight()}) is highly recommended.
 	 *
 	 * @return the maximum number of entries that may be contained in the cache
 	 */
 	@Nullable
 	Long maxSize();
 
+	/**
+	 * The maximum total weight of the cache, as computed by {@link #weigher()}.
+	 * <p>
+	 * Null implies no constraint.
+	 * Not-null values must be non-negative, and require {@link #weigher()} to be specified.
+	 * This cannot be combined with {@link #maxSize()}.
+	 *
+	 * @return the maximum sum of entry weights that may be contained in the cache
+	 */
+	@Nullable
+	default Long maxWeight() {
+		return null; // avoids breaking change
+	}
+
+	/**
+	 * The function that computes the weight of each entry.
+	 * <p>
+	 * This has no effect unless {@link #maxWeight()} is specified.
+	 *
+	 * @return the weigher for cache entries
+	 */
+	@Nullable
+	default Weigher<K, V> weigher() {
+		return null; // avoids breaking change
+	}
+
+	/**
+	 * The maximum number of bytes that the cache may store outside the Java heap.
+	 * <p>
+	 * Off-heap entries are not subject to garbage collection, at the cost of (de)serializing them upon access.
+	 * Where a provider keeps a heap tier in front of the off-heap store, {@link #maxSize()} bounds that heap tier.
+	 * <p>
+	 * Null implies entries are only stored on the heap.
+	 * Not-null values must be positive.
+	 *
+	 * @return the maximum size (in bytes) of the off-heap store
+	 * @see #keySerializer()
+	 * @see #valueSerializer()
+	 */
+	@Nullable
+	default Long maxOffHeapBytes() {
+		return null; // avoids breaking change
+	}
+
+	/**
+	 * The serializer for keys that are stored off-heap.
+	 * <p>
+	 * This has no effect unless {@link #maxOffHeapBytes()} is specified.
+	 * Null implies a provider-specific default (e.g., Java serialization).
+	 *
+	 * @return the serializer for cache keys
+	 */
+	@Nullable
+	default CacheSerializer<K> keySerializer() {
+		return null; // avoids breaking change
+	}
+
+	/**
+	 * The serializer for values that are stored off-heap.
+	 * <p>
+	 * This has no effect unless {@link #maxOffHeapBytes()} is specified.
+	 * Null implies a provider-specific default (e.g., Java serialization).
+	 *
+	 * @return the serializer for cache values
+	 */
+	@Nullable
+	default CacheSerializer<V> valueSerializer() {
+		return null; // avoids breaking change
+	}
+
+	/**
+	 * The directory in which entries may be stored, for datasets that exceed the memory of the cache.
+	 * <p>
+	 * Where supported, entries that do not fit into the memory tiers (see {@link #maxSize()} and {@link #maxOffHeapBytes()})
+	 * are written to files in this directory, rather than being evicted.
+	 * Entries are (de)serialized in the same manner as the off-heap tier (see {@link #keySerializer()}),
+	 * and the files are not intended to persist across restarts.
+	 * <p>
+	 * Null implies entries are never stored on disk.
+	 * Not-null values require {@link #maxDiskBytes()} to be specified.
+	 *
+	 * @return the directory of the disk tier
+	 */
+	@Nullable
+	default Path diskDirectory() {
+		return null; // avoids breaking change
+	}
+
+	/**
+	 * The maximum number of bytes that the cache may store in {@link #diskDirectory()}.
+	 * <p>
+	 * Not-null values must be positive, and require {@link #diskDirectory()} to be specified.
+	 *
+	 * @return the maximum size (in bytes) of the disk tier
+	 */
+	@Nullable
+	default Long maxDiskBytes() {
+		return null; // avoids breaking change
+	}
+
 	/**
 	 * The entry expiry time.
 	 * <p>
@@ -48,6 +153,19 @@ public interface ICacheSpec<K, V> {
 	@Nullable
 	Duration expiryTime();
 
+	/**
+	 * The function that computes the lifetime of each entry, upon being written.
+	 * <p>
+	 * This cannot be combined with {@link #expiryTime()}.
+	 * When specified, it is recommended to also specify {@link #executor()}.
+	 *
+	 * @return the per-entry expiry calculator
+	 */
+	@Nullable
+	default ExpiryCalculator<K, V> expiryCalculator() {
+		return null; // avoids breaking change
+	}
+
 	/**
 	 * The entry expiration policy.
 	 * <p>
@@ -62,16 +180,69 @@ public interface ICacheSpec<K, V> {
 	 * The cache entry removal listener.
 	 * <p>
 	 * For timely eviction events, it is recommended to also specify {@link #executor()}.
+	 * To keep slow listeners off the threads that cause removals, specify {@link #removalDispatchMode()}.
 	 *
 	 * @return the listener to cache entry removals
 	 */
 	@Nullable
 	RemovalListener<K, V> removalListener();
 
+	/**
+	 * The causes of the removals that {@link #removalListener()} and {@link #batchRemovalListener()} should be notified of.
+	 * <p>
+	 * Providers may use this to only subscribe to the corresponding native events,
+	 * avoiding the overhead of (for example) an event upon every overwrite when only evictions are of interest.
+	 * When unspecified, listeners are notified of every cause.
+	 *
+	 * @return the removal causes of interest to the listeners
+	 */
+	@Nullable
+	default Set<RemovalCause> removalCauses() {
+		return null; // avoids breaking change
+	}
+
+	/**
+	 * The cache entry removal listener that receives events in batches.
+	 * <p>
+	 * This can be combined with {@link #removalListener()}, and implies {@link RemovalDispatchMode#BATCHED}.
+	 *
+	 * @return the listener to batches of cache entry removals
+	 */
+	@Nullable
+	default BatchRemovalListener<K, V> batchRemovalListener() {
+		return null; // avoids breaking change
+	}
+
+	/**
+	 * The strategy for delivering removal events to {@link #removalListener()} and {@link #batchRemovalListener()}.
+	 * <p>
+	 * When unspecified, {@link RemovalDispatchMode#BATCHED} is used if a batch listener is specified,
+	 * and {@link RemovalDispatchMode#PROVIDER} otherwise.
+	 *
+	 * @return the removal dispatch mode
+	 */
+	@Nullable
+	default RemovalDispatchMode removalDispatchMode() {
+		return null; // avoids breaking change
+	}
+
+	/**
+	 * The handling of removal events when the buffer of {@link RemovalDispatchMode#BATCHED} is full.
+	 * <p>
+	 * When unspecified, {@link RemovalOverflowPolicy#CALLER_RUNS} is used.
+	 *
+	 * @return the removal overflow policy
+	 */
+	@Nullable
+	default RemovalOverflowPolicy removalOverflowPolicy() {
+		return null; // avoids breaking change
+	}
+
 	/**
 	 * The scheduler used by the cache.
 	 * <p>
 	 * When {@link #expiryTime()} is active, providing a not-null executor is highly recommended.
+	 * Otherwise, providers may perform periodic maintenance on a shared scheduler that is bounded by the number of cores.
 	 *
 	 * @return the executor to optionally use for cache operations
 	 */
@@ -93,4 +264,44 @@ public interface ICacheSpec<K, V> {
 		return null; // avoids breaking change
 	}
 
+	/**
+	 * Whether the cache should record performance statistics.
+	 * <p>
+	 * Recording statistics incurs some overhead, so it is disabled by default.
+	 *
+	 * @return whether {@link Cache#stats()} should be populated
+	 */
+	@Nullable
+	default Boolean recordStats() {
+		return null; // avoids breaking change
+	}
+
+	/**
+	 * The loader used to obtain values for absent keys.
+	 * <p>
+	 * When specified, the built cache is a {@link LoadingCache}.
+	 *
+	 * @return the loader that populates the cache on misses
+	 */
+	@Nullable
+	default CacheLoader<K, V> loader() {
+		return null; // avoids breaking change
+	}
+
+	/**
+	 * The duration after a write when an entry becomes eligible for refresh.
+	 * <p>
+	 * Reads of an eligible entry return the current value, while {@link CacheLoader#reload(Object, Object)}
+	 * is run in the background on {@link #executor()} (or a provider-specific default if unspecified).
+	 * <p>
+	 * Requires {@link #loader()} to be specified.
+	 * Not-null values must be positive.
+	 *
+	 * @return the time after which entries are asynchronously reloaded upon access
+	 */
+	@Nullable
+	default Duration refreshAfter() {
+		return null; // avoids breaking change
+	}
+
 }
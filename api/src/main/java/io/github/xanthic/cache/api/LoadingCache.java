@@ -0,0 +1,76 @@
+package io.github.xanthic.cache.api;
+
+import io.github.xanthic.cache.api.exception.CacheLoadingException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * A {@link Cache} that obtains absent values from the {@link CacheLoader} declared in {@link ICacheSpec#loader()}.
+ * <p>
+ * Exceptions thrown by the loader are propagated as-is if unchecked;
+ * checked exceptions are wrapped in a {@link CacheLoadingException}.
+ * In either case, no mapping is recorded for the affected key(s).
+ *
+ * @param <K> The type of keys that form the cache
+ * @param <V> The type of values contained in the cache
+ */
+public interface LoadingCache<K, V> extends Cache<K, V> {
+
+	/**
+	 * Obtains the value associated with the specified key, loading it if no mapping exists.
+	 * <p>
+	 * Concurrent calls for the same absent key will wait for a single load to complete.
+	 *
+	 * @param key the key whose mapped value should be obtained
+	 * @return the current (existing or loaded) value associated with the key
+	 * @throws NullPointerException  if the specified key is null
+	 * @throws CacheLoadingException if the loader threw a checked exception
+	 */
+	@NotNull
+	@Override
+	V get(@NotNull K key);
+
+	/**
+	 * Obtains the value associated with the specified key, without loading it.
+	 *
+	 * @param key the key whose mapped value should be queried
+	 * @return the value associated with the key in the cache, or null if no such mapping was found
+	 * @throws NullPointerException if the specified key is null
+	 */
+	@Nullable
+	V getIfPresent(@NotNull K key);
+
+	/**
+	 * Obtains the values associated with the specified keys,
+	 * loading all absent values through a single {@link CacheLoader#loadAll(java.util.Set)} call.
+	 *
+	 * @param keys the keys whose mapped values should be obtained
+	 * @return the values associated with the keys
+	 * @throws NullPointerException  if the specified collection is null or contains a null key
+	 * @throws CacheLoadingException if the loader threw a checked exception
+	 */
+	@NotNull
+	@Override
+	Map<K, V> getAll(@NotNull Collection<? extends K> keys);
+
+	/**
+	 * Obtains the value associated with the specified key, or the passed default value if no mapping existed.
+	 * <p>
+	 * Note: This method does <i>not</i> invoke the loader.
+	 *
+	 * @param key          the key whose mapped value should be queried
+	 * @param defaultValue the default value to return if no mapping exists for the specified key
+	 * @return the value mapped to the specified key, if present; otherwise, the specified default value
+	 * @throws NullPointerException if the specified key is null
+	 */
+	@NotNull
+	@Override
+	default V getOrDefault(@NotNull K key, @NotNull V defaultValue) {
+		V value = getIfPresent(key);
+		return value != null ? value : defaultValue;
+	}
+
+}
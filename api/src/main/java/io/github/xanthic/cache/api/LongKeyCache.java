@@ -0,0 +1,85 @@
+package io.github.xanthic.cache.api;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.LongFunction;
+
+/**
+ * A cache keyed by primitive {@code long} values, which avoids boxing keys on every operation.
+ * <p>
+ * This mirrors the core operations of {@link Cache} (e.g., for caches keyed by numeric identifiers),
+ * and honors the same size and expiry settings defined in {@link ICacheSpec}.
+ * <p>
+ * Null values are not permitted, and instances must be thread-safe.
+ *
+ * @param <V> The type of values contained in the cache
+ * @see Cache
+ */
+public interface LongKeyCache<V> {
+
+	/**
+	 * Obtains the value associated with the specified key.
+	 *
+	 * @param key the key whose mapped value should be queried
+	 * @return the value associated with the key in the cache, or null if no such mapping was found
+	 */
+	@Nullable
+	V get(long key);
+
+	/**
+	 * Associates the specified key with the specified value,
+	 * creating or replacing the mapping as needed.
+	 *
+	 * @param key   the key whose mapping should be created or updated
+	 * @param value the value to be associated with the specified key
+	 * @return the previous value associated with the key, or null if no prior mapping existed
+	 * @throws NullPointerException if the specified value is null
+	 */
+	@Nullable
+	V put(long key, @NotNull V value);
+
+	/**
+	 * Creates a mapping from the specified key to the specified value,
+	 * if no mapping for the key already existed.
+	 *
+	 * @param key   the key whose mapping should be created or returned
+	 * @param value the value that should be associated with the key if no prior mapping exists
+	 * @return the previous value associated with the key, or null if no mapping already existed
+	 * @throws NullPointerException if the specified value is null
+	 */
+	@Nullable
+	V putIfAbsent(long key, @NotNull V value);
+
+	/**
+	 * Obtains the value currently associated with the specified key,
+	 * or atomically stores the computed value if no prior mapping existed.
+	 *
+	 * @param key         the key whose mapping should be created or returned
+	 * @param computeFunc the value supplier for a given key, if no mapping already existed
+	 * @return the current (existing or computed) value associated with the key, or null if the function yielded null
+	 * @throws NullPointerException if the compute function is null
+	 */
+	@Nullable
+	V computeIfAbsent(long key, @NotNull LongFunction<? extends V> computeFunc);
+
+	/**
+	 * Deletes any mapping that may exist for the specified key.
+	 *
+	 * @param key the key whose mapping should be deleted
+	 * @return the value in the removed mapping, or null if no mapping existed
+	 */
+	@Nullable
+	V remove(long key);
+
+	/**
+	 * Removes all entries from the cache.
+	 */
+	void clear();
+
+	/**
+	 * @return the estimated number of entries contained in the cache
+	 */
+	long size();
+
+}
@@ -0,0 +1,25 @@
+package io.github.xanthic.cache.api;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Calculates the relative cost of cache entries, for use with {@link ICacheSpec#maxWeight()}.
+ *
+ * @param <K> the type of keys that form the cache
+ * @param <V> the type of values that are contained in the cache
+ */
+@FunctionalInterface
+public interface Weigher<K, V> {
+
+	/**
+	 * Computes the weight of an entry.
+	 * <p>
+	 * This is called when an entry is written, and the result is assumed to stay constant for the lifetime of the mapping.
+	 *
+	 * @param key   the key of the entry
+	 * @param value the value of the entry
+	 * @return the non-negative weight of the entry
+	 */
+	int weigh(@NotNull K key, @NotNull V value);
+
+}
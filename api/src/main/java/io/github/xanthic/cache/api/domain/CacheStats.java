@@ -0,0 +1,96 @@
+package io.github.xanthic.cache.api.domain;
+
+import io.github.xanthic.cache.api.Cache;
+import io.github.xanthic.cache.api.ICacheSpec;
+import lombok.Value;
+
+/**
+ * An immutable snapshot of the performance statistics of a {@link Cache}.
+ * <p>
+ * Statistics are only recorded when {@link ICacheSpec#recordStats()} is enabled.
+ * Counters that a provider cannot track are reported as zero.
+ *
+ * @see Cache#stats()
+ */
+@Value
+public class CacheStats {
+
+	/**
+	 * Statistics where every counter is zero, as reported by caches that do not record statistics.
+	 */
+	public static final CacheStats EMPTY = new CacheStats(0L, 0L, 0L, 0L, 0L, 0L, 0L);
+
+	/**
+	 * The number of lookups that found a mapping.
+	 */
+	long hitCount;
+
+	/**
+	 * The number of lookups that did not find a mapping.
+	 */
+	long missCount;
+
+	/**
+	 * The number of times a value was successfully loaded or computed for an absent key.
+	 */
+	long loadSuccessCount;
+
+	/**
+	 * The number of times loading or computing a value failed (or yielded null).
+	 */
+	long loadFailureCount;
+
+	/**
+	 * The total number of nanoseconds spent loading or computing values.
+	 */
+	long totalLoadTimeNanos;
+
+	/**
+	 * The number of entries that were evicted, due to size, weight, or time constraints.
+	 */
+	long evictionCount;
+
+	/**
+	 * The sum of the weights of evicted entries (where unweighted entries count as one).
+	 */
+	long evictionWeight;
+
+	/**
+	 * @return the total number of lookups
+	 */
+	public long requestCount() {
+		return hitCount + missCount;
+	}
+
+	/**
+	 * @return the ratio of lookups that found a mapping, or 1.0 if no lookups have occurred
+	 */
+	public double hitRate() {
+		long requests = requestCount();
+		return requests == 0 ? 1.0 : (double) hitCount / requests;
+	}
+
+	/**
+	 * @return the ratio of lookups that did not find a mapping, or 0.0 if no lookups have occurred
+	 */
+	public double missRate() {
+		long requests = requestCount();
+		return requests == 0 ? 0.0 : (double) missCount / requests;
+	}
+
+	/**
+	 * @return the total number of attempted loads
+	 */
+	public long loadCount() {
+		return loadSuccessCount + loadFailureCount;
+	}
+
+	/**
+	 * @return the average number of nanoseconds spent per load, or 0.0 if no loads have occurred
+	 */
+	public double averageLoadPenaltyNanos() {
+		long loads = loadCount();
+		return loads == 0 ? 0.0 : (double) totalLoadTimeNanos / loads;
+	}
+
+}
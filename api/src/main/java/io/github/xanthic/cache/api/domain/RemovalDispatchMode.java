@@ -0,0 +1,31 @@
+package io.github.xanthic.cache.api.domain;
+
+import io.github.xanthic.cache.api.BatchRemovalListener;
+import io.github.xanthic.cache.api.ICacheSpec;
+import io.github.xanthic.cache.api.RemovalListener;
+
+/**
+ * The strategy for delivering removal events to the listeners of a cache.
+ *
+ * @see ICacheSpec#removalDispatchMode()
+ */
+public enum RemovalDispatchMode {
+
+	/**
+	 * Listeners are invoked however the backing provider sees fit.
+	 * <p>
+	 * Some providers invoke {@link RemovalListener#onRemoval} on the thread that caused the removal,
+	 * potentially while holding internal locks, so slow listeners can throttle cache writes.
+	 */
+	PROVIDER,
+
+	/**
+	 * Removal events are enqueued in a bounded buffer and delivered in batches on {@link ICacheSpec#executor()}
+	 * (or a shared scheduler if unspecified), so listeners never run on the thread that caused the removal.
+	 * <p>
+	 * The behavior upon the buffer filling is dictated by {@link ICacheSpec#removalOverflowPolicy()}.
+	 * This mode is implied by specifying a {@link BatchRemovalListener}.
+	 */
+	BATCHED
+
+}
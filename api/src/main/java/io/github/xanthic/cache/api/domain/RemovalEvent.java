@@ -0,0 +1,31 @@
+package io.github.xanthic.cache.api.domain;
+
+import io.github.xanthic.cache.api.BatchRemovalListener;
+import lombok.Value;
+
+/**
+ * An immutable record of a cache entry removal.
+ *
+ * @param <K> the type of keys that form the cache
+ * @param <V> the type of values that are contained in the cache
+ * @see BatchRemovalListener
+ */
+@Value
+public class RemovalEvent<K, V> {
+
+	/**
+	 * The key whose mapping was removed or updated.
+	 */
+	K key;
+
+	/**
+	 * The mapped value that was removed.
+	 */
+	V value;
+
+	/**
+	 * The reason for the removal.
+	 */
+	RemovalCause cause;
+
+}
@@ -0,0 +1,27 @@
+package io.github.xanthic.cache.api.domain;
+
+import io.github.xanthic.cache.api.ICacheSpec;
+
+/**
+ * The policy that dictates how removal events are handled when the buffer of {@link RemovalDispatchMode#BATCHED} is full.
+ *
+ * @see ICacheSpec#removalOverflowPolicy()
+ */
+public enum RemovalOverflowPolicy {
+
+	/**
+	 * Delivers the event on the thread that caused the removal, as a singleton batch.
+	 * <p>
+	 * This applies backpressure to writers, but the event may be observed before those still in the buffer,
+	 * and listeners may be invoked concurrently.
+	 */
+	CALLER_RUNS,
+
+	/**
+	 * Drops the event, such that listeners are never notified of the removal.
+	 * <p>
+	 * This keeps writers unaffected by slow listeners, at the cost of lost events.
+	 */
+	DISCARD
+
+}
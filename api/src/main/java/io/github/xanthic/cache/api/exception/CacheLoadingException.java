@@ -0,0 +1,27 @@
+package io.github.xanthic.cache.api.exception;
+
+import io.github.xanthic.cache.api.CacheLoader;
+
+/**
+ * Thrown when a {@link CacheLoader} fails with a checked exception,
+ * which is available via {@link #getCause()}, or violates its contract (e.g., by yielding null).
+ */
+public class CacheLoadingException extends RuntimeException {
+
+	public CacheLoadingException(Throwable cause) {
+		super(cause);
+	}
+
+	public CacheLoadingException(String message) {
+		super(message);
+	}
+
+	/**
+	 * @param key the key for which the loader yielded null
+	 * @return an exception that reports the violation of the {@link CacheLoader} contract
+	 */
+	public static CacheLoadingException nullValue(Object key) {
+		return new CacheLoadingException("CacheLoader yielded null for key: " + key);
+	}
+
+}
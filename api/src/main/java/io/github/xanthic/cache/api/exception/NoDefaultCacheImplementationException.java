@@ -1,8 +1,14 @@
 package io.github.xanthic.cache.api.exception;
 
+import org.jetbrains.annotations.ApiStatus;
+
 /**
  * Thrown when a cache is to be built with no provider specified and no default provider was found.
+ *
+ * @deprecated no longer thrown by Xanthic, since cache-core falls back to a built-in provider
  */
+@Deprecated
+@ApiStatus.ScheduledForRemoval(inVersion = "1.0.0")
 public class NoDefaultCacheImplementationException extends RuntimeException {
 
 	public NoDefaultCacheImplementationException(String message) {
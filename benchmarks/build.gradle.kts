@@ -0,0 +1,37 @@
+plugins {
+    id("me.champeau.jmh") version "0.7.3"
+}
+
+dependencies {
+    jmh(project(":cache-core"))
+
+    // one module per backing library; older major versions (caffeine 2, infinispan 13/14) would conflict on a shared classpath
+    jmh(project(":cache-provider-androidx"))
+    jmh(project(":cache-provider-cache2k"))
+    jmh(project(":cache-provider-caffeine3"))
+    jmh(project(":cache-provider-ehcache"))
+    jmh(project(":cache-provider-expiringmap"))
+    jmh(project(":cache-provider-guava"))
+    jmh(project(":cache-provider-infinispan-java17"))
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_17
+    targetCompatibility = JavaVersion.VERSION_17
+}
+
+jmh {
+    jmhVersion.set("1.37")
+    profilers.add("gc") // report allocation rates alongside throughput
+    resultFormat.set("JSON")
+    (findProperty("jmh.includes") as String?)?.let { includes.add(it) }
+}
+
+// benchmarks are not part of the published artifacts
+tasks.withType<AbstractPublishToMaven>().configureEach {
+    enabled = false
+}
+
+tasks.withType<Sign>().configureEach {
+    enabled = false
+}
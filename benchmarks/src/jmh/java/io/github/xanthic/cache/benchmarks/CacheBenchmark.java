@@ -0,0 +1,54 @@
+package io.github.xanthic.cache.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Measures the throughput of common cache operations for each provider.
+ * <p>
+ * Subclasses determine the number of benchmark threads.
+ * Run with {@code ./gradlew :cache-benchmarks:jmh}, optionally narrowing the selection via {@code -Pjmh.includes=<regex>}.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public abstract class CacheBenchmark {
+	private static final Function<Integer, Integer> IDENTITY = key -> key;
+
+	@Benchmark
+	public Integer get(CacheState state, ThreadState thread) {
+		return state.cache.get(thread.next(state));
+	}
+
+	@Benchmark
+	public Integer put(CacheState state, ThreadState thread) {
+		Integer key = thread.next(state);
+		return state.cache.put(key, key);
+	}
+
+	@Benchmark
+	public Integer computeIfAbsent(CacheState state, ThreadState thread) {
+		return state.cache.computeIfAbsent(thread.next(state), IDENTITY);
+	}
+
+	/**
+	 * A read-heavy workload, where one in four operations is a write.
+	 */
+	@Benchmark
+	public Integer readWrite(CacheState state, ThreadState thread) {
+		Integer key = thread.next(state);
+		if ((thread.index & 3) == 0)
+			return state.cache.put(key, key);
+		return state.cache.get(key);
+	}
+}
@@ -0,0 +1,99 @@
+package io.github.xanthic.cache.benchmarks;
+
+import io.github.xanthic.cache.api.Cache;
+import io.github.xanthic.cache.api.CacheProvider;
+import io.github.xanthic.cache.api.domain.ExpiryType;
+import io.github.xanthic.cache.core.CacheApi;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The cache under test, shared by all benchmark threads.
+ * <p>
+ * The cache is pre-populated with half of the key space, so lookups yield a mix of hits and misses.
+ */
+@State(Scope.Benchmark)
+public class CacheState {
+	static final int MAXIMUM_SIZE = 1 << 14;
+	static final int KEY_SPACE = MAXIMUM_SIZE << 1;
+	static final int SAMPLES = 1 << 20;
+	static final int MASK = SAMPLES - 1;
+
+	/**
+	 * The canonical providers whose modules are on the benchmark classpath.
+	 */
+	@Param({
+		"io.github.xanthic.cache.provider.androidx.AndroidLruProvider",
+		"io.github.xanthic.cache.provider.cache2k.Cache2kProvider",
+		"io.github.xanthic.cache.provider.caffeine3.Caffeine3Provider",
+		"io.github.xanthic.cache.provider.ehcache.EhcacheProvider",
+		"io.github.xanthic.cache.provider.expiringmap.ExpiringMapProvider",
+		"io.github.xanthic.cache.provider.guava.GuavaProvider",
+		"io.github.xanthic.cache.provider.infinispanjdk17.InfinispanProvider",
+		"io.github.xanthic.cache.core.tinylfu.TinyLfuProvider"
+	})
+	public String provider;
+
+	@Param({ "ZIPFIAN", "UNIFORM" })
+	public Distribution distribution;
+
+	@Param({ "false", "true" })
+	public boolean highContention;
+
+	@Param({ "NONE", "EXPIRY", "LISTENER" })
+	public Feature feature;
+
+	Cache<Integer, Integer> cache;
+	Integer[] keys;
+
+	private ScheduledExecutorService executor;
+	private final LongAdder removals = new LongAdder();
+
+	@Setup(Level.Trial)
+	public void setup() throws ReflectiveOperationException {
+		CacheProvider cacheProvider = (CacheProvider) Class.forName(provider).getDeclaredConstructor().newInstance();
+		executor = Executors.newSingleThreadScheduledExecutor();
+		cache = CacheApi.create(spec -> {
+			spec.provider(cacheProvider);
+			spec.maxSize((long) MAXIMUM_SIZE);
+			spec.highContention(highContention);
+			spec.executor(executor);
+			if (feature == Feature.EXPIRY) {
+				spec.expiryTime(Duration.ofMinutes(1L));
+				spec.expiryType(ExpiryType.POST_WRITE);
+			} else if (feature == Feature.LISTENER) {
+				spec.removalListener((key, value, cause) -> removals.increment());
+			}
+		});
+
+		keys = distribution.sample(SAMPLES, KEY_SPACE, new Random(42L));
+		for (int i = 0; i < KEY_SPACE; i += 2) {
+			cache.put(i, i);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		cache.clear();
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Optional cache features whose overhead should be measured.
+	 */
+	public enum Feature {
+		NONE,
+		EXPIRY,
+		LISTENER
+	}
+}
@@ -0,0 +1,62 @@
+package io.github.xanthic.cache.benchmarks;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * The distribution from which benchmark keys are sampled.
+ */
+public enum Distribution {
+
+	/**
+	 * Every key is equally likely, which defeats recency and frequency heuristics.
+	 */
+	UNIFORM {
+		@Override
+		Integer[] sample(int samples, int keySpace, Random random) {
+			Integer[] keys = new Integer[samples];
+			for (int i = 0; i < samples; i++) {
+				keys[i] = random.nextInt(keySpace);
+			}
+			return keys;
+		}
+	},
+
+	/**
+	 * A skewed distribution (exponent {@value #ZIPF_EXPONENT}) where a few hot keys dominate, as in typical production traffic.
+	 */
+	ZIPFIAN {
+		@Override
+		Integer[] sample(int samples, int keySpace, Random random) {
+			// inverse transform sampling over the cumulative distribution function
+			double[] cdf = new double[keySpace];
+			double sum = 0;
+			for (int rank = 0; rank < keySpace; rank++) {
+				sum += 1.0 / Math.pow(rank + 1, ZIPF_EXPONENT);
+				cdf[rank] = sum;
+			}
+
+			Integer[] keys = new Integer[samples];
+			for (int i = 0; i < samples; i++) {
+				int index = Arrays.binarySearch(cdf, random.nextDouble() * sum);
+				keys[i] = Math.min(index >= 0 ? index : -index - 1, keySpace - 1);
+			}
+			return keys;
+		}
+	};
+
+	private static final double ZIPF_EXPONENT = 0.99; // matches the YCSB default
+
+	/**
+	 * Draws keys from this distribution.
+	 * <p>
+	 * Keys are boxed upfront so that the benchmarks do not measure integer caching or allocation.
+	 *
+	 * @param samples  the number of keys to draw
+	 * @param keySpace the exclusive upper bound of key values
+	 * @param random   the source of randomness
+	 * @return the sampled keys
+	 */
+	abstract Integer[] sample(int samples, int keySpace, Random random);
+
+}
@@ -0,0 +1,10 @@
+package io.github.xanthic.cache.benchmarks;
+
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Runs {@link CacheBenchmark} on all available processors, exposing contention.
+ */
+@Threads(Threads.MAX)
+public class MultiThreadedBenchmark extends CacheBenchmark {
+}
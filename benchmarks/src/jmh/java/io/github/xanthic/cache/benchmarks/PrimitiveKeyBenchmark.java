@@ -0,0 +1,99 @@
+package io.github.xanthic.cache.benchmarks;
+
+import io.github.xanthic.cache.api.Cache;
+import io.github.xanthic.cache.api.CacheProvider;
+import io.github.xanthic.cache.api.LongKeyCache;
+import io.github.xanthic.cache.core.CacheApi;
+import io.github.xanthic.cache.core.PrimitiveCacheApi;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link LongKeyCache} against boxed {@code Cache<Long, V>} instances, which allocate a key upon every lookup.
+ * <p>
+ * Run with the gc profiler to observe the allocation rate of each variant.
+ * The concurrent variants run on all available processors, exposing contention.
+ */
+@Fork(1)
+@Threads(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PrimitiveKeyBenchmark {
+
+	@Param({
+		"io.github.xanthic.cache.provider.androidx.AndroidLruProvider",
+		"io.github.xanthic.cache.provider.caffeine3.Caffeine3Provider"
+	})
+	public String provider;
+
+	@Param({ "ZIPFIAN", "UNIFORM" })
+	public Distribution distribution;
+
+	private Cache<Long, Object> boxed;
+	private LongKeyCache<Object> primitive;
+	private long[] keys;
+	private int index;
+
+	@Setup(Level.Trial)
+	public void setup() throws ReflectiveOperationException {
+		CacheProvider cacheProvider = (CacheProvider) Class.forName(provider).getDeclaredConstructor().newInstance();
+		boxed = CacheApi.create(spec -> {
+			spec.provider(cacheProvider);
+			spec.maxSize((long) CacheState.MAXIMUM_SIZE);
+		});
+		primitive = PrimitiveCacheApi.createLongKeyed(spec -> spec.maxSize((long) CacheState.MAXIMUM_SIZE));
+
+		// spread ids over the full range, as with typical entity identifiers
+		Integer[] samples = distribution.sample(CacheState.SAMPLES, CacheState.KEY_SPACE, new Random(42L));
+		keys = new long[samples.length];
+		for (int i = 0; i < samples.length; i++) {
+			keys[i] = samples[i] * 1_000_003L;
+		}
+
+		Object value = new Object();
+		for (long i = 0; i < CacheState.KEY_SPACE; i += 2) {
+			boxed.put(i * 1_000_003L, value);
+			primitive.put(i * 1_000_003L, value);
+		}
+	}
+
+	@Benchmark
+	public Object boxedGet() {
+		return boxed.get(keys[index++ & CacheState.MASK]);
+	}
+
+	@Benchmark
+	public Object primitiveGet() {
+		return primitive.get(keys[index++ & CacheState.MASK]);
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public Object boxedGetConcurrent(ThreadState thread) {
+		return boxed.get(keys[thread.index++ & CacheState.MASK]);
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public Object primitiveGetConcurrent(ThreadState thread) {
+		return primitive.get(keys[thread.index++ & CacheState.MASK]);
+	}
+
+}
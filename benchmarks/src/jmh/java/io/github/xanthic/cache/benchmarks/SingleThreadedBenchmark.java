@@ -0,0 +1,10 @@
+package io.github.xanthic.cache.benchmarks;
+
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Runs {@link CacheBenchmark} on a single thread, isolating per-operation overhead.
+ */
+@Threads(1)
+public class SingleThreadedBenchmark extends CacheBenchmark {
+}
@@ -0,0 +1,18 @@
+package io.github.xanthic.cache.benchmarks;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A per-thread cursor into the shared key samples, with a random starting offset to avoid lockstep access.
+ */
+@State(Scope.Thread)
+public class ThreadState {
+	int index = ThreadLocalRandom.current().nextInt();
+
+	Integer next(CacheState state) {
+		return state.keys[index++ & CacheState.MASK];
+	}
+}
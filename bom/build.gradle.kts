@@ -2,7 +2,8 @@ plugins {
     `java-platform`
 }
 
-val projectModules = rootProject.subprojects.filter { it.name != "cache-bom" }.map { project(":${it.name}") }
+val unpublishedModules = setOf("cache-bom", "cache-benchmarks")
+val projectModules = rootProject.subprojects.filter { it.name !in unpublishedModules }.map { project(":${it.name}") }
 
 dependencies {
     constraints {
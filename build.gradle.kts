@@ -64,6 +64,8 @@ subprojects {
             // compile options
             withType<JavaCompile> {
                 options.encoding = "UTF-8"
+                // compile against the platform api of the target version, rather than that of the (newer) build jdk
+                options.release.set(provider { JavaVersion.toVersion(targetCompatibility).majorVersion.toInt() })
             }
 
             // javadoc & delombok
@@ -1,22 +1,80 @@
 package io.github.xanthic.cache.core;
 
+import io.github.xanthic.cache.api.AsyncCache;
+import io.github.xanthic.cache.api.Cache;
 import io.github.xanthic.cache.api.CacheProvider;
+import io.github.xanthic.cache.api.ICacheSpec;
+import io.github.xanthic.cache.api.LoadingCache;
 import io.github.xanthic.cache.api.domain.ExpiryType;
 import io.github.xanthic.cache.api.domain.MisconfigurationPolicy;
 import io.github.xanthic.cache.api.exception.MisconfiguredCacheException;
+import io.github.xanthic.cache.core.delegate.GenericAsyncCacheDelegate;
+import io.github.xanthic.cache.core.delegate.GenericLoadingCacheDelegate;
+import io.github.xanthic.cache.core.delegate.GenericRefreshingCacheDelegate;
+import io.github.xanthic.cache.core.delegate.GenericStatsCacheDelegate;
 import org.jetbrains.annotations.ApiStatus;
 
 import java.time.Duration;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 /**
  * Provides helper methods commonly used for implementing {@link CacheProvider}.
  */
 public abstract class AbstractCacheProvider implements CacheProvider {
 
+	/**
+	 * Builds a new {@link AsyncCache} instance according to the supplied specification.
+	 * <p>
+	 * By default, this wraps {@link #build(ICacheSpec)} such that computations run on {@link ICacheSpec#executor()}
+	 * (or the common pool if unspecified). Providers with native asynchronous support should override this method.
+	 *
+	 * @param spec The cache specification that the new instance should be configured to satisfy
+	 * @param <K>  The type of the keys that form the cache
+	 * @param <V>  The type of the values that are contained in the cache
+	 * @return a new {@link AsyncCache} instance that conforms with the supplied specification
+	 */
+	public <K, V> AsyncCache<K, V> buildAsync(ICacheSpec<K, V> spec) {
+		return new GenericAsyncCacheDelegate<>(build(spec), spec.executor());
+	}
+
+	/**
+	 * Builds a new {@link LoadingCache} instance according to the supplied specification.
+	 * <p>
+	 * By default, this wraps {@link #build(ICacheSpec)} such that misses are delegated to {@link ICacheSpec#loader()},
+	 * and {@link ICacheSpec#refreshAfter()} is handled generically.
+	 * Providers with native loading support should override this method.
+	 *
+	 * @param spec The cache specification that the new instance should be configured to satisfy, with a not-null loader
+	 * @param <K>  The type of the keys that form the cache
+	 * @param <V>  The type of the values that are contained in the cache
+	 * @return a new {@link LoadingCache} instance that conforms with the supplied specification
+	 */
+	public <K, V> LoadingCache<K, V> buildLoading(ICacheSpec<K, V> spec) {
+		return buildGenericLoading(this, spec);
+	}
+
 	protected void handleUnsupportedExpiry(Duration expiryTime) {
-		if (expiryTime != null && CacheApiSettings.getInstance().getDefaultMisconfigurationPolicy() == MisconfigurationPolicy.REJECT)
-			throw new MisconfiguredCacheException("Expiration is not supported by this backing cache configuration");
+		handleUnsupportedSetting(expiryTime, "Expiration");
+	}
+
+	protected void handleUnsupportedSetting(Object setting, String feature) {
+		if (setting != null && CacheApiSettings.getInstance().getDefaultMisconfigurationPolicy() == MisconfigurationPolicy.REJECT)
+			throw new MisconfiguredCacheException(feature + " is not supported by this backing cache configuration");
+	}
+
+	/**
+	 * Rejects weight-based eviction for backing caches that cannot enforce it, regardless of the misconfiguration policy.
+	 * <p>
+	 * Since {@link ICacheSpec#maxSize()} cannot be combined with {@link ICacheSpec#maxWeight()},
+	 * ignoring the weight bound would silently yield an unbounded cache.
+	 *
+	 * @param maxWeight the weight bound of the specification
+	 * @throws MisconfiguredCacheException if the weight bound is specified
+	 */
+	protected void handleUnsupportedWeight(Long maxWeight) {
+		if (maxWeight != null)
+			throw new MisconfiguredCacheException("Weight-based eviction is not supported by this backing cache configuration");
 	}
 
 	protected ExpiryType getExpiryType(ExpiryType type) {
@@ -36,6 +94,29 @@ public abstract class AbstractCacheProvider implements CacheProvider {
 		return ExpiryType.POST_ACCESS; // LRU
 	}
 	
+	/**
+	 * Builds a cache using the specified function, recording statistics generically if {@link ICacheSpec#recordStats()} is enabled.
+	 * <p>
+	 * Providers whose backing implementation lacks native statistics should route {@link #build(ICacheSpec)} through this method.
+	 *
+	 * @param spec    the cache specification
+	 * @param builder the function that builds the backing cache from a (possibly adjusted) specification
+	 * @param <K>     The type of the keys that form the cache
+	 * @param <V>     The type of the values that are contained in the cache
+	 * @return the built cache, decorated with {@link GenericStatsCacheDelegate} if statistics were requested
+	 */
+	protected <K, V> Cache<K, V> buildWithGenericStats(ICacheSpec<K, V> spec, Function<ICacheSpec<K, V>, Cache<K, V>> builder) {
+		if (!Boolean.TRUE.equals(spec.recordStats())) return builder.apply(spec);
+		return GenericStatsCacheDelegate.create(spec, builder);
+	}
+
+	@SuppressWarnings("ConstantConditions")
+	static <K, V> LoadingCache<K, V> buildGenericLoading(CacheProvider provider, ICacheSpec<K, V> spec) {
+		if (spec.refreshAfter() != null)
+			return GenericRefreshingCacheDelegate.create(provider, spec);
+		return new GenericLoadingCacheDelegate<>(provider.build(spec), spec.loader());
+	}
+
 	@ApiStatus.Internal
 	public int getDiscoveryOrder() {
 		return 1000;
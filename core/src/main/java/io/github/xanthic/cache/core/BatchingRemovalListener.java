@@ -0,0 +1,128 @@
+package io.github.xanthic.cache.core;
+
+import io.github.xanthic.cache.api.BatchRemovalListener;
+import io.github.xanthic.cache.api.RemovalListener;
+import io.github.xanthic.cache.api.domain.RemovalCause;
+import io.github.xanthic.cache.api.domain.RemovalDispatchMode;
+import io.github.xanthic.cache.api.domain.RemovalEvent;
+import io.github.xanthic.cache.api.domain.RemovalOverflowPolicy;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Implements {@link RemovalDispatchMode#BATCHED} by enqueueing removal events in a {@link MpscBuffer},
+ * which is drained in batches on the executor.
+ * <p>
+ * Thus, providers only pay for an allocation and a compare-and-set upon each removal,
+ * regardless of how long the listeners take to process the events.
+ * At most one drain is in flight at a time, so listeners are not invoked concurrently
+ * (unless events overflow with {@link RemovalOverflowPolicy#CALLER_RUNS}).
+ */
+@Slf4j
+final class BatchingRemovalListener<K, V> implements RemovalListener<K, V> {
+	static final int BUFFER_CAPACITY = 1024;
+	static final int MAX_BATCH_SIZE = 256;
+
+	private final MpscBuffer<RemovalEvent<K, V>> buffer = new MpscBuffer<>(BUFFER_CAPACITY);
+	private final AtomicBoolean draining = new AtomicBoolean();
+	private final Runnable drainTask = this::drain;
+
+	@Nullable
+	private final RemovalListener<K, V> listener;
+	@Nullable
+	private final BatchRemovalListener<K, V> batchListener;
+	@Nullable
+	private final Set<RemovalCause> causes;
+	private final Executor executor;
+	private final RemovalOverflowPolicy overflowPolicy;
+
+	BatchingRemovalListener(@Nullable RemovalListener<K, V> listener, @Nullable BatchRemovalListener<K, V> batchListener, @Nullable Set<RemovalCause> causes,
+	                        @NotNull Executor executor, @NotNull RemovalOverflowPolicy overflowPolicy) {
+		this.listener = listener;
+		this.batchListener = batchListener;
+		this.causes = causes != null ? RemovalFilters.copyOf(causes) : null;
+		this.executor = executor;
+		this.overflowPolicy = overflowPolicy;
+	}
+
+	@Override
+	public void onRemoval(K key, V value, RemovalCause cause) {
+		if (causes != null && !causes.contains(cause)) return;
+
+		RemovalEvent<K, V> event = new RemovalEvent<>(key, value, cause);
+		if (!buffer.offer(event)) {
+			if (overflowPolicy == RemovalOverflowPolicy.CALLER_RUNS) {
+				deliver(Collections.singletonList(event));
+			} else {
+				log.debug("Xanthic: Discarded removal event as the listener buffer is full");
+			}
+		}
+		scheduleDrain();
+	}
+
+	private void scheduleDrain() {
+		while (draining.compareAndSet(false, true)) {
+			try {
+				executor.execute(drainTask);
+				return;
+			} catch (RejectedExecutionException e) {
+				// executor was shut down; avoid losing events by draining on this thread (iteratively, rather than recursively)
+				if (!drainBuffer()) return;
+			}
+		}
+	}
+
+	private void drain() {
+		if (drainBuffer()) {
+			scheduleDrain();
+		}
+	}
+
+	/**
+	 * @return whether events were published after the final drainTo, but before draining was reset
+	 */
+	private boolean drainBuffer() {
+		try {
+			List<RemovalEvent<K, V>> batch = new ArrayList<>();
+			while (buffer.drainTo(batch::add, MAX_BATCH_SIZE) > 0) {
+				deliver(Collections.unmodifiableList(batch));
+				batch = new ArrayList<>();
+			}
+		} finally {
+			draining.set(false);
+		}
+
+		// a claimed but unpublished slot need not be awaited, since its producer schedules a drain after publishing
+		return buffer.hasPublished();
+	}
+
+	private void deliver(List<RemovalEvent<K, V>> events) {
+		if (batchListener != null) {
+			try {
+				batchListener.onRemovals(events);
+			} catch (RuntimeException e) {
+				log.warn("Xanthic: Batch removal listener threw an exception", e);
+			}
+		}
+
+		if (listener != null) {
+			for (RemovalEvent<K, V> event : events) {
+				try {
+					listener.onRemoval(event.getKey(), event.getValue(), event.getCause());
+				} catch (RuntimeException e) {
+					log.warn("Xanthic: Removal listener threw an exception", e);
+				}
+			}
+		}
+	}
+
+}
@@ -1,10 +1,14 @@
 package io.github.xanthic.cache.core;
 
+import io.github.xanthic.cache.api.AsyncCache;
 import io.github.xanthic.cache.api.Cache;
+import io.github.xanthic.cache.api.CacheProvider;
 import io.github.xanthic.cache.api.ICacheSpec;
+import io.github.xanthic.cache.api.LoadingCache;
 import io.github.xanthic.cache.api.exception.MisconfiguredCacheException;
-import io.github.xanthic.cache.api.exception.NoDefaultCacheImplementationException;
 import io.github.xanthic.cache.core.delegate.EmptyCache;
+import io.github.xanthic.cache.core.delegate.GenericAsyncCacheDelegate;
+import io.github.xanthic.cache.core.delegate.GenericLoadingCacheDelegate;
 
 import java.time.Duration;
 import java.util.function.Consumer;
@@ -13,6 +17,8 @@ import java.util.function.Consumer;
  * Primary API interaction point to build {@link Cache} instances.
  *
  * @see #create(Consumer)
+ * @see #createAsync(Consumer)
+ * @see #createLoading(Consumer)
  */
 public final class CacheApi {
 
@@ -22,26 +28,81 @@ public final class CacheApi {
 
 	/**
 	 * Builds a generic {@link Cache} according to the desired specification.
+	 * <p>
+	 * If {@link ICacheSpec#loader()} is specified, the returned instance is a {@link LoadingCache}.
 	 *
 	 * @param spec consumer in which the desired cache settings should be specified
 	 * @param <K>  the type of keys that form the cache
 	 * @param <V>  the type of values that are contained in the cache
 	 * @return {@link Cache}
-	 * @throws NoDefaultCacheImplementationException if a provider is not specified and no default provider has been set
-	 * @throws MisconfiguredCacheException           if the cache settings are invalid (e.g., negative max size or expiry time)
+	 * @throws MisconfiguredCacheException if the cache settings are invalid (e.g., negative max size or expiry time)
 	 * @see ICacheSpec
 	 * @see CacheApiSettings
 	 */
 	public static <K, V> Cache<K, V> create(Consumer<CacheApiSpec<K, V>> spec) {
 		CacheApiSpec<K, V> finalSpec = CacheApiSpec.process(spec);
+		if (finalSpec.loader() != null) return buildLoading(finalSpec);
 		if (isPermanentlyEmpty(finalSpec)) return EmptyCache.get();
 		return finalSpec.provider().build(finalSpec);
 	}
 
+	/**
+	 * Builds a {@link LoadingCache} according to the desired specification.
+	 * <p>
+	 * Providers with native loading support (e.g., Caffeine, Guava, cache2k) are used directly;
+	 * otherwise, misses are loaded via {@link Cache#computeIfAbsent(Object, java.util.function.Function)}.
+	 *
+	 * @param spec consumer in which the desired cache settings should be specified, including {@link CacheApiSpec#loader()}
+	 * @param <K>  the type of keys that form the cache
+	 * @param <V>  the type of values that are contained in the cache
+	 * @return {@link LoadingCache}
+	 * @throws MisconfiguredCacheException if the cache settings are invalid (e.g., no loader was specified)
+	 * @see #create(Consumer)
+	 */
+	public static <K, V> LoadingCache<K, V> createLoading(Consumer<CacheApiSpec<K, V>> spec) {
+		CacheApiSpec<K, V> finalSpec = CacheApiSpec.process(spec);
+		if (finalSpec.loader() == null)
+			throw new MisconfiguredCacheException("loader must not be null when building a LoadingCache!");
+		return buildLoading(finalSpec);
+	}
+
+	/**
+	 * Builds an {@link AsyncCache} according to the desired specification.
+	 * <p>
+	 * Providers with native asynchronous support (e.g., Caffeine) are used directly;
+	 * otherwise, computations are run on {@link ICacheSpec#executor()} (or the common pool if unspecified).
+	 *
+	 * @param spec consumer in which the desired cache settings should be specified
+	 * @param <K>  the type of keys that form the cache
+	 * @param <V>  the type of values that are contained in the cache
+	 * @return {@link AsyncCache}
+	 * @throws MisconfiguredCacheException if the cache settings are invalid (e.g., negative max size or expiry time)
+	 * @see #create(Consumer)
+	 */
+	public static <K, V> AsyncCache<K, V> createAsync(Consumer<CacheApiSpec<K, V>> spec) {
+		CacheApiSpec<K, V> finalSpec = CacheApiSpec.process(spec);
+		if (isPermanentlyEmpty(finalSpec)) return new GenericAsyncCacheDelegate<>(EmptyCache.get(), finalSpec.executor());
+
+		CacheProvider provider = finalSpec.provider();
+		if (provider instanceof AbstractCacheProvider)
+			return ((AbstractCacheProvider) provider).buildAsync(finalSpec);
+		return new GenericAsyncCacheDelegate<>(provider.build(finalSpec), finalSpec.executor());
+	}
+
+	private static <K, V> LoadingCache<K, V> buildLoading(CacheApiSpec<K, V> spec) {
+		if (isPermanentlyEmpty(spec)) return new GenericLoadingCacheDelegate<>(EmptyCache.get(), spec.loader());
+
+		CacheProvider provider = spec.provider();
+		if (provider instanceof AbstractCacheProvider)
+			return ((AbstractCacheProvider) provider).buildLoading(spec);
+		return AbstractCacheProvider.buildGenericLoading(provider, spec);
+	}
+
 	private static boolean isPermanentlyEmpty(ICacheSpec<?, ?> spec) {
 		Long maxSize = spec.maxSize();
+		Long maxWeight = spec.maxWeight();
 		Duration expiryTime = spec.expiryTime();
-		return (maxSize != null && maxSize == 0) || (expiryTime != null && expiryTime.isZero());
+		return (maxSize != null && maxSize == 0) || (maxWeight != null && maxWeight == 0) || (expiryTime != null && expiryTime.isZero());
 	}
 
 }
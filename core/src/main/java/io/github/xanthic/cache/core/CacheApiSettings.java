@@ -2,7 +2,7 @@ package io.github.xanthic.cache.core;
 
 import io.github.xanthic.cache.api.CacheProvider;
 import io.github.xanthic.cache.api.domain.MisconfigurationPolicy;
-import io.github.xanthic.cache.api.exception.NoDefaultCacheImplementationException;
+import io.github.xanthic.cache.core.tinylfu.TinyLfuProvider;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
@@ -61,9 +61,11 @@ public final class CacheApiSettings {
 
 	/**
 	 * Obtains the default cache provider.
+	 * <p>
+	 * If no default has been set (i.e., no provider module is on the classpath),
+	 * the built-in {@link TinyLfuProvider} is returned, without registering it as the default.
 	 *
 	 * @return an instance of the default cache provider
-	 * @throws NoDefaultCacheImplementationException if no default has been set
 	 * @see #setDefaultCacheProvider(CacheProvider)
 	 * @see #registerCacheProvider(Class, CacheProvider)
 	 */
@@ -72,7 +74,7 @@ public final class CacheApiSettings {
 	public CacheProvider getDefaultCacheProvider() {
 		Class<? extends CacheProvider> clazz = this.defaultCacheProvider.get();
 		if (clazz == null) {
-			throw new NoDefaultCacheImplementationException("default cache provider is not set, no cache implementations available!");
+			return FallbackHolder.INSTANCE;
 		}
 
 		CacheProvider provider = providers.get(clazz);
@@ -167,4 +169,12 @@ public final class CacheApiSettings {
 	private static class SingletonHolder {
 		private static final CacheApiSettings INSTANCE = new CacheApiSettings();
 	}
+
+	private static class FallbackHolder {
+		private static final CacheProvider INSTANCE = new TinyLfuProvider();
+
+		static {
+			log.info("Xanthic: No cache provider was registered; falling back to the built-in {}.", TinyLfuProvider.class.getSimpleName());
+		}
+	}
 }
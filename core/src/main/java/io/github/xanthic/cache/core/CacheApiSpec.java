@@ -1,19 +1,29 @@
 package io.github.xanthic.cache.core;
 
+import io.github.xanthic.cache.api.BatchRemovalListener;
+import io.github.xanthic.cache.api.CacheLoader;
 import io.github.xanthic.cache.api.CacheProvider;
+import io.github.xanthic.cache.api.CacheSerializer;
+import io.github.xanthic.cache.api.ExpiryCalculator;
 import io.github.xanthic.cache.api.ICacheSpec;
 import io.github.xanthic.cache.api.RemovalListener;
+import io.github.xanthic.cache.api.Weigher;
 import io.github.xanthic.cache.api.domain.ExpiryType;
+import io.github.xanthic.cache.api.domain.RemovalCause;
+import io.github.xanthic.cache.api.domain.RemovalDispatchMode;
+import io.github.xanthic.cache.api.domain.RemovalOverflowPolicy;
 import io.github.xanthic.cache.api.exception.MisconfiguredCacheException;
-import io.github.xanthic.cache.api.exception.NoDefaultCacheImplementationException;
 import lombok.AccessLevel;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.experimental.Accessors;
 import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Consumer;
 
@@ -21,6 +31,8 @@ import java.util.function.Consumer;
  * Fluent implementation of {@link ICacheSpec}.
  * <p>
  * Use {@link #process(Consumer)} to obtain validated instances of the spec.
+ * When {@link RemovalDispatchMode#BATCHED} applies, processing replaces {@link #removalListener()}
+ * with a listener that delivers events to both the original and the batch listener.
  *
  * @param <K> the type of keys that form the cache
  * @param <V> the type of values that are contained in the cache
@@ -35,16 +47,46 @@ public final class CacheApiSpec<K, V> implements ICacheSpec<K, V> {
 
 	private Long maxSize;
 
+	private Long maxWeight;
+
+	private Weigher<K, V> weigher;
+
+	private Long maxOffHeapBytes;
+
+	private CacheSerializer<K> keySerializer;
+
+	private CacheSerializer<V> valueSerializer;
+
+	private Path diskDirectory;
+
+	private Long maxDiskBytes;
+
 	private Duration expiryTime;
 
+	private ExpiryCalculator<K, V> expiryCalculator;
+
 	private ExpiryType expiryType;
 
 	private RemovalListener<K, V> removalListener;
 
+	private Set<RemovalCause> removalCauses;
+
+	private BatchRemovalListener<K, V> batchRemovalListener;
+
+	private RemovalDispatchMode removalDispatchMode;
+
+	private RemovalOverflowPolicy removalOverflowPolicy;
+
 	private ScheduledExecutorService executor;
 
 	private Boolean highContention;
 
+	private Boolean recordStats;
+
+	private CacheLoader<K, V> loader;
+
+	private Duration refreshAfter;
+
 	@NotNull
 	public CacheProvider provider() {
 		// noinspection ConstantConditions
@@ -54,21 +96,70 @@ public final class CacheApiSpec<K, V> implements ICacheSpec<K, V> {
 	/**
 	 * Ensures the configured specification is valid.
 	 *
-	 * @throws NullPointerException        if a provider is not specified and no default provider has been set
 	 * @throws MisconfiguredCacheException if the cache settings are invalid (e.g., negative max size or expiry time)
 	 */
 	public void validate() {
-		if (provider == null)
-			throw new MisconfiguredCacheException("provider must not be null! You have not set a provider and no default cache provider was found - see https://xanthic.github.io/provider/ for instructions on how to add cache providers to your project.");
-
 		if (maxSize != null && maxSize < 0)
 			throw new MisconfiguredCacheException("maxSize may not be negative!");
 
+		if (maxWeight != null && maxWeight < 0)
+			throw new MisconfiguredCacheException("maxWeight may not be negative!");
+
+		if ((maxWeight == null) != (weigher == null))
+			throw new MisconfiguredCacheException("maxWeight and weigher must be specified together!");
+
+		if (maxWeight != null && maxSize != null)
+			throw new MisconfiguredCacheException("maxSize and maxWeight may not be specified together!");
+
+		if (maxOffHeapBytes != null && maxOffHeapBytes <= 0)
+			throw new MisconfiguredCacheException("maxOffHeapBytes must be positive!");
+
+		if ((diskDirectory == null) != (maxDiskBytes == null))
+			throw new MisconfiguredCacheException("diskDirectory and maxDiskBytes must be specified together!");
+
+		if (maxDiskBytes != null && maxDiskBytes <= 0)
+			throw new MisconfiguredCacheException("maxDiskBytes must be positive!");
+
 		if (expiryTime != null && expiryTime.isNegative())
 			throw new MisconfiguredCacheException("expiryTime may not be negative!");
 
+		if (expiryTime != null && expiryCalculator != null)
+			throw new MisconfiguredCacheException("expiryTime and expiryCalculator may not be specified together!");
+
 		if (expiryTime != null && expiryType == null)
 			log.warn("Cache specification enables expiry time but does not specify ExpiryType");
+
+		if (refreshAfter != null && (refreshAfter.isNegative() || refreshAfter.isZero()))
+			throw new MisconfiguredCacheException("refreshAfter must be positive!");
+
+		if (refreshAfter != null && loader == null)
+			throw new MisconfiguredCacheException("refreshAfter requires a loader to be specified!");
+
+		if (batchRemovalListener != null && removalDispatchMode == RemovalDispatchMode.PROVIDER)
+			throw new MisconfiguredCacheException("batchRemovalListener requires the BATCHED removalDispatchMode!");
+	}
+
+	/**
+	 * Replaces the removal listeners with one that enqueues events for batched delivery, if {@link RemovalDispatchMode#BATCHED} applies,
+	 * and otherwise ensures the removal listener is only notified of {@link #removalCauses()}.
+	 */
+	private void applyRemovalDispatch() {
+		if (removalListener instanceof BatchingRemovalListener) return;
+
+		RemovalDispatchMode mode = removalDispatchMode;
+		if (mode == null) mode = batchRemovalListener != null ? RemovalDispatchMode.BATCHED : RemovalDispatchMode.PROVIDER;
+		if (mode != RemovalDispatchMode.BATCHED || (removalListener == null && batchRemovalListener == null)) {
+			removalListener = RemovalFilters.filter(removalListener, removalCauses);
+			return;
+		}
+
+		removalListener = new BatchingRemovalListener<>(
+			removalListener,
+			batchRemovalListener,
+			removalCauses,
+			MaintenanceScheduler.getOrDefault(executor),
+			removalOverflowPolicy != null ? removalOverflowPolicy : RemovalOverflowPolicy.CALLER_RUNS
+		);
 	}
 
 	/**
@@ -78,8 +169,7 @@ public final class CacheApiSpec<K, V> implements ICacheSpec<K, V> {
 	 * @param <K>  the type of keys that form the cache
 	 * @param <V>  the type of values that are contained in the cache
 	 * @return CacheApiSpec
-	 * @throws NoDefaultCacheImplementationException if a provider is not specified and no default provider has been set
-	 * @throws MisconfiguredCacheException           if the cache settings are invalid (e.g., negative max size or expiry time)
+	 * @throws MisconfiguredCacheException if the cache settings are invalid (e.g., negative max size or expiry time)
 	 * @implNote During the building stage, the provider may not be initialized to a non-null value.
 	 */
 	@NotNull
@@ -95,6 +185,62 @@ public final class CacheApiSpec<K, V> implements ICacheSpec<K, V> {
 		}
 
 		data.validate();
+		data.applyRemovalDispatch();
+		return data;
+	}
+
+	/**
+	 * Constructs a validated specification for caches that are implemented within Xanthic, such that no provider is required.
+	 *
+	 * @param spec consumer in which the desired cache settings should be specified
+	 * @param <K>  the type of keys that form the cache
+	 * @param <V>  the type of values that are contained in the cache
+	 * @return CacheApiSpec
+	 * @throws MisconfiguredCacheException if the cache settings are invalid (e.g., negative max size or expiry time)
+	 */
+	@NotNull
+	static <K, V> CacheApiSpec<K, V> processStandalone(@NotNull Consumer<CacheApiSpec<K, V>> spec) {
+		CacheApiSpec<K, V> data = new CacheApiSpec<>();
+		spec.accept(data);
+		data.validate();
+		data.applyRemovalDispatch();
+		return data;
+	}
+
+	/**
+	 * Creates a mutable copy of the specified settings, such that providers may adjust them before building.
+	 *
+	 * @param spec the specification to copy
+	 * @param <K>  the type of keys that form the cache
+	 * @param <V>  the type of values that are contained in the cache
+	 * @return a new CacheApiSpec with the same settings
+	 */
+	@NotNull
+	@ApiStatus.Internal
+	public static <K, V> CacheApiSpec<K, V> copyOf(@NotNull ICacheSpec<K, V> spec) {
+		CacheApiSpec<K, V> data = new CacheApiSpec<>();
+		data.provider = spec.provider();
+		data.maxSize = spec.maxSize();
+		data.maxWeight = spec.maxWeight();
+		data.weigher = spec.weigher();
+		data.maxOffHeapBytes = spec.maxOffHeapBytes();
+		data.keySerializer = spec.keySerializer();
+		data.valueSerializer = spec.valueSerializer();
+		data.diskDirectory = spec.diskDirectory();
+		data.maxDiskBytes = spec.maxDiskBytes();
+		data.expiryTime = spec.expiryTime();
+		data.expiryCalculator = spec.expiryCalculator();
+		data.expiryType = spec.expiryType();
+		data.removalListener = spec.removalListener();
+		data.removalCauses = spec.removalCauses();
+		data.batchRemovalListener = spec.batchRemovalListener();
+		data.removalDispatchMode = spec.removalDispatchMode();
+		data.removalOverflowPolicy = spec.removalOverflowPolicy();
+		data.executor = spec.executor();
+		data.highContention = spec.highContention();
+		data.recordStats = spec.recordStats();
+		data.loader = spec.loader();
+		data.refreshAfter = spec.refreshAfter();
 		return data;
 	}
 
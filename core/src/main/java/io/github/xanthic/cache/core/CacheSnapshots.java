@@ -0,0 +1,322 @@
+package io.github.xanthic.cache.core;
+
+import io.github.xanthic.cache.api.Cache;
+import io.github.xanthic.cache.api.CacheSerializer;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Persists the entries of a {@link Cache} to a file, such that a newly built cache can be warmed up (e.g., after a restart).
+ * <p>
+ * Entries are written via {@link Cache#forEachHottest(java.util.function.BiConsumer)},
+ * so a partial load (see {@link #load(Cache, Path, CacheSerializer, CacheSerializer, long)}) retains the most valuable entries.
+ * Keys and values are encoded by the specified {@link CacheSerializer}s, and the file is streamed through NIO channels.
+ *
+ * @see #save(Cache, Path, CacheSerializer, CacheSerializer)
+ * @see #load(Cache, Path, CacheSerializer, CacheSerializer)
+ */
+public final class CacheSnapshots {
+	private static final int MAGIC = 0x58435331; // "XCS1"
+	private static final int END_OF_ENTRIES = -1;
+	private static final int BUFFER_SIZE = 1 << 16;
+	private static final int BATCH_SIZE = 1024;
+
+	private CacheSnapshots() {
+		// prevent direct instantiation
+	}
+
+	/**
+	 * Writes all entries of the cache to the specified file, replacing it if it already exists.
+	 * <p>
+	 * The snapshot is written to a temporary sibling file first, so an existing snapshot is not corrupted by a failed write.
+	 *
+	 * @param cache           the cache whose entries should be persisted
+	 * @param file            the destination of the snapshot
+	 * @param keySerializer   the encoder for keys
+	 * @param valueSerializer the encoder for values
+	 * @param <K>             the type of keys that form the cache
+	 * @param <V>             the type of values that are contained in the cache
+	 * @return the number of entries that were written
+	 * @throws IOException                   if the file could not be written
+	 * @throws UnsupportedOperationException if the cache does not support iteration over entries
+	 */
+	public static <K, V> long save(@NotNull Cache<K, V> cache, @NotNull Path file, @NotNull CacheSerializer<K> keySerializer, @NotNull CacheSerializer<V> valueSerializer) throws IOException {
+		Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+		long count;
+		try {
+			try (SnapshotWriter writer = new SnapshotWriter(FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE))) {
+				writer.writeInt(MAGIC);
+				long[] written = { 0L };
+				try {
+					cache.forEachHottest((key, value) -> {
+						try {
+							writer.writeBytes(keySerializer.serialize(key));
+							writer.writeBytes(valueSerializer.serialize(value));
+							written[0]++;
+						} catch (IOException e) {
+							throw new UncheckedIOException(e);
+						}
+					});
+				} catch (UncheckedIOException e) {
+					throw e.getCause();
+				}
+				writer.writeInt(END_OF_ENTRIES);
+				count = written[0];
+			}
+
+			try {
+				Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException | RuntimeException e) {
+			// do not leave a partial snapshot behind
+			try {
+				Files.deleteIfExists(temp);
+			} catch (IOException suppressed) {
+				e.addSuppressed(suppressed);
+			}
+			throw e;
+		}
+		return count;
+	}
+
+	/**
+	 * Loads all entries from the specified snapshot into the cache, via {@link Cache#putAll(Map)}.
+	 *
+	 * @param cache           the cache that should be populated
+	 * @param file            the snapshot that was previously written by {@link #save(Cache, Path, CacheSerializer, CacheSerializer)}
+	 * @param keySerializer   the decoder for keys
+	 * @param valueSerializer the decoder for values
+	 * @param <K>             the type of keys that form the cache
+	 * @param <V>             the type of values that are contained in the cache
+	 * @return the number of entries that were loaded
+	 * @throws IOException if the file could not be read, or is not a valid snapshot
+	 * @see #load(Cache, Path, CacheSerializer, CacheSerializer, long)
+	 */
+	public static <K, V> long load(@NotNull Cache<K, V> cache, @NotNull Path file, @NotNull CacheSerializer<K> keySerializer, @NotNull CacheSerializer<V> valueSerializer) throws IOException {
+		return load(cache, file, keySerializer, valueSerializer, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Loads up to the specified number of entries from the snapshot into the cache, via {@link Cache#putAll(Map)}.
+	 * <p>
+	 * Since entries are stored from hottest to coldest, the limit selects the hottest entries.
+	 * These are streamed into the cache in fixed-size batches, each of which is inserted from coldest to hottest,
+	 * and the limit should not exceed the capacity of the cache (otherwise, earlier batches can be evicted by later ones).
+	 * <p>
+	 * If the snapshot cannot be read completely (e.g., it is truncated), the batches that were already inserted remain in the cache,
+	 * while the incomplete batch is discarded.
+	 *
+	 * @param cache           the cache that should be populated
+	 * @param file            the snapshot that was previously written by {@link #save(Cache, Path, CacheSerializer, CacheSerializer)}
+	 * @param keySerializer   the decoder for keys
+	 * @param valueSerializer the decoder for values
+	 * @param maxEntries      the maximum number of entries to load
+	 * @param <K>             the type of keys that form the cache
+	 * @param <V>             the type of values that are contained in the cache
+	 * @return the number of entries that were loaded
+	 * @throws IOException if the file could not be read, or is not a valid snapshot
+	 */
+	public static <K, V> long load(@NotNull Cache<K, V> cache, @NotNull Path file, @NotNull CacheSerializer<K> keySerializer, @NotNull CacheSerializer<V> valueSerializer, long maxEntries) throws IOException {
+		int batchSize = (int) Math.min(BATCH_SIZE, Math.max(maxEntries, 0L));
+		List<K> keys = new ArrayList<>(batchSize);
+		List<V> values = new ArrayList<>(batchSize);
+		long loaded = 0;
+		try (SnapshotReader reader = new SnapshotReader(FileChannel.open(file, StandardOpenOption.READ))) {
+			if (reader.readInt() != MAGIC)
+				throw new StreamCorruptedException("Not a cache snapshot: " + file);
+
+			while (loaded < maxEntries) {
+				int keyLength = reader.readInt();
+				if (keyLength == END_OF_ENTRIES) break;
+				keys.add(keySerializer.deserialize(reader.readBytes(keyLength)));
+				values.add(valueSerializer.deserialize(reader.readBytes(reader.readInt())));
+				loaded++;
+
+				if (keys.size() >= BATCH_SIZE)
+					insertBatch(cache, keys, values);
+			}
+		}
+		insertBatch(cache, keys, values);
+		return loaded;
+	}
+
+	private static <K, V> void insertBatch(Cache<K, V> cache, List<K> keys, List<V> values) {
+		if (keys.isEmpty()) return;
+
+		// insert from coldest to hottest, so eviction policies observe the hottest entries of the batch last
+		Map<K, V> batch = new LinkedHashMap<>(keys.size() * 4 / 3 + 1);
+		for (int i = keys.size() - 1; i >= 0; i--) {
+			batch.put(keys.get(i), values.get(i));
+		}
+		cache.putAll(batch);
+		keys.clear();
+		values.clear();
+	}
+
+	/**
+	 * Provides a serializer that utilizes Java's built-in object serialization,
+	 * for keys and values that implement {@link java.io.Serializable}.
+	 * <p>
+	 * Only use this serializer for snapshots from trusted sources, as deserialization can instantiate arbitrary classes.
+	 *
+	 * @param <T> the type of objects that are serialized
+	 * @return a {@link CacheSerializer} based on {@link ObjectOutputStream} and {@link ObjectInputStream}
+	 */
+	@NotNull
+	@SuppressWarnings("unchecked")
+	public static <T> CacheSerializer<T> javaSerializer() {
+		return (CacheSerializer<T>) JavaSerializer.INSTANCE;
+	}
+
+	private enum JavaSerializer implements CacheSerializer<Object> {
+		INSTANCE;
+
+		@NotNull
+		@Override
+		public byte[] serialize(@NotNull Object object) {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+				out.writeObject(object);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			return bytes.toByteArray();
+		}
+
+		@NotNull
+		@Override
+		public Object deserialize(@NotNull byte[] bytes) {
+			try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+				return in.readObject();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			} catch (ClassNotFoundException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+	private static final class SnapshotWriter implements Closeable {
+		private final FileChannel channel;
+		private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+		SnapshotWriter(FileChannel channel) {
+			this.channel = channel;
+		}
+
+		void writeInt(int value) throws IOException {
+			if (buffer.remaining() < Integer.BYTES) flush();
+			buffer.putInt(value);
+		}
+
+		void writeBytes(byte[] bytes) throws IOException {
+			writeInt(bytes.length);
+			if (bytes.length > buffer.remaining()) {
+				flush();
+				if (bytes.length > buffer.capacity()) {
+					// bypass the buffer for large records
+					ByteBuffer wrapped = ByteBuffer.wrap(bytes);
+					while (wrapped.hasRemaining()) {
+						channel.write(wrapped);
+					}
+					return;
+				}
+			}
+			buffer.put(bytes);
+		}
+
+		private void flush() throws IOException {
+			((Buffer) buffer).flip(); // avoid covariant overrides that are absent on java 8
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			((Buffer) buffer).clear();
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				flush();
+				channel.force(false);
+			} finally {
+				channel.close();
+			}
+		}
+	}
+
+	private static final class SnapshotReader implements Closeable {
+		private final FileChannel channel;
+		private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+		SnapshotReader(FileChannel channel) {
+			this.channel = channel;
+			((Buffer) buffer).flip(); // start empty
+		}
+
+		int readInt() throws IOException {
+			fill(Integer.BYTES);
+			return buffer.getInt();
+		}
+
+		byte[] readBytes(int length) throws IOException {
+			// validate before allocating, so a corrupt length cannot exhaust the heap
+			if (length < 0 || length > remaining())
+				throw new StreamCorruptedException("Invalid record length: " + length);
+
+			byte[] bytes = new byte[length];
+			int offset = 0;
+			while (offset < length) {
+				if (!buffer.hasRemaining()) fill(1);
+				int n = Math.min(buffer.remaining(), length - offset);
+				buffer.get(bytes, offset, n);
+				offset += n;
+			}
+			return bytes;
+		}
+
+		private long remaining() throws IOException {
+			return buffer.remaining() + channel.size() - channel.position();
+		}
+
+		private void fill(int required) throws IOException {
+			if (buffer.remaining() >= required) return;
+			buffer.compact();
+			while (buffer.position() < required) {
+				if (channel.read(buffer) < 0) {
+					((Buffer) buffer).flip();
+					throw new EOFException("Cache snapshot is truncated");
+				}
+			}
+			((Buffer) buffer).flip();
+		}
+
+		@Override
+		public void close() throws IOException {
+			channel.close();
+		}
+	}
+
+}
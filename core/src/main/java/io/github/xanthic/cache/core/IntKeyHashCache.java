@@ -0,0 +1,61 @@
+package io.github.xanthic.cache.core;
+
+import io.github.xanthic.cache.api.IntKeyCache;
+import io.github.xanthic.cache.api.RemovalListener;
+import io.github.xanthic.cache.api.domain.ExpiryType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.IntFunction;
+
+/**
+ * Implements {@link IntKeyCache} by widening keys into a {@link LongKeyHashCache}.
+ *
+ * @param <V> The type of values contained in the cache
+ */
+class IntKeyHashCache<V> implements IntKeyCache<V> {
+	private final LongKeyHashCache<V> cache;
+
+	IntKeyHashCache(@Nullable Long maxSize, @Nullable Duration expiryTime, @Nullable ExpiryType expiryType, @Nullable RemovalListener<Integer, ? super V> listener) {
+		RemovalListener<Long, V> narrowing = listener != null ? (key, value, cause) -> listener.onRemoval(key.intValue(), value, cause) : null;
+		this.cache = new LongKeyHashCache<>(maxSize, expiryTime, expiryType, narrowing);
+	}
+
+	@Override
+	public V get(int key) {
+		return cache.get(key);
+	}
+
+	@Override
+	public V put(int key, @NotNull V value) {
+		return cache.put(key, value);
+	}
+
+	@Override
+	public V putIfAbsent(int key, @NotNull V value) {
+		return cache.putIfAbsent(key, value);
+	}
+
+	@Override
+	public V computeIfAbsent(int key, @NotNull IntFunction<? extends V> computeFunc) {
+		Objects.requireNonNull(computeFunc);
+		return cache.computeIfAbsent(key, k -> computeFunc.apply((int) k));
+	}
+
+	@Override
+	public V remove(int key) {
+		return cache.remove(key);
+	}
+
+	@Override
+	public void clear() {
+		cache.clear();
+	}
+
+	@Override
+	public long size() {
+		return cache.size();
+	}
+}
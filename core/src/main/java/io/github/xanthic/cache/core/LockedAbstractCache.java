@@ -5,6 +5,8 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -61,6 +63,14 @@ public abstract class LockedAbstractCache<K, V> implements Cache<K, V> {
 		});
 	}
 
+	@Override
+	public void removeAll(@NotNull Collection<? extends K> keys) {
+		write(() -> {
+			keys.forEach(this::removeUnlocked);
+			return Void.TYPE;
+		});
+	}
+
 	@Override
 	public void clear() {
 		write(() -> {
@@ -184,6 +194,21 @@ public abstract class LockedAbstractCache<K, V> implements Cache<K, V> {
 		});
 	}
 
+	@NotNull
+	@Override
+	public Map<K, V> getAll(@NotNull Collection<? extends K> keys) {
+		return read(() -> {
+			Map<K, V> map = new HashMap<>();
+			for (K key : keys) {
+				V value = getUnlocked(key);
+				if (value != null) {
+					map.put(key, value);
+				}
+			}
+			return map;
+		});
+	}
+
 	@Override
 	public void putAll(@NotNull Map<? extends K, ? extends V> map) {
 		read(() -> {
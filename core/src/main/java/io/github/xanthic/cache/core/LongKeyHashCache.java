@@ -0,0 +1,99 @@
+package io.github.xanthic.cache.core;
+
+import io.github.xanthic.cache.api.LongKeyCache;
+import io.github.xanthic.cache.api.RemovalListener;
+import io.github.xanthic.cache.api.domain.ExpiryType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.function.LongFunction;
+
+/**
+ * A hash table keyed by primitive {@code long} values, with least-recently-used eviction and optional expiry.
+ * <p>
+ * Entries are partitioned by key hash across independently synchronized {@link LongKeyHashSegment}s,
+ * each with an equal share of the total capacity, so concurrent operations on different segments do not contend.
+ * <p>
+ * Since each segment evicts independently, recency is only tracked per segment, approximating a global LRU.
+ *
+ * @param <V> The type of values contained in the cache
+ */
+class LongKeyHashCache<V> implements LongKeyCache<V> {
+	private static final int MAX_SEGMENTS = 64;
+	private static final int MIN_SEGMENT_CAPACITY = 16;
+	private static final int SEGMENT_SHIFT = Long.SIZE - Integer.numberOfTrailingZeros(MAX_SEGMENTS);
+
+	private final LongKeyHashSegment<V>[] segments;
+	private final int mask;
+
+	@SuppressWarnings("unchecked")
+	LongKeyHashCache(@Nullable Long maxSize, @Nullable Duration expiryTime, @Nullable ExpiryType expiryType, @Nullable RemovalListener<Long, ? super V> listener) {
+		int segmentCount = segmentCount(maxSize);
+		this.segments = new LongKeyHashSegment[segmentCount];
+		this.mask = segmentCount - 1;
+		for (int i = 0; i < segmentCount; i++) {
+			Long budget = maxSize != null ? maxSize / segmentCount + (i < maxSize % segmentCount ? 1 : 0) : null;
+			segments[i] = new LongKeyHashSegment<>(budget, expiryTime, expiryType, listener);
+		}
+	}
+
+	@Override
+	public V get(long key) {
+		return segmentFor(key).get(key);
+	}
+
+	@Override
+	public V put(long key, @NotNull V value) {
+		return segmentFor(key).put(key, value);
+	}
+
+	@Override
+	public V putIfAbsent(long key, @NotNull V value) {
+		return segmentFor(key).putIfAbsent(key, value);
+	}
+
+	@Override
+	public V computeIfAbsent(long key, @NotNull LongFunction<? extends V> computeFunc) {
+		return segmentFor(key).computeIfAbsent(key, computeFunc);
+	}
+
+	@Override
+	public V remove(long key) {
+		return segmentFor(key).remove(key);
+	}
+
+	@Override
+	public void clear() {
+		for (LongKeyHashSegment<V> segment : segments) {
+			segment.clear();
+		}
+	}
+
+	@Override
+	public long size() {
+		long size = 0;
+		for (LongKeyHashSegment<V> segment : segments) {
+			size += segment.size();
+		}
+		return size;
+	}
+
+	private LongKeyHashSegment<V> segmentFor(long key) {
+		// the segment is selected by the highest bits of the hash, while the slots within a segment use the lowest bits
+		return segments[(int) (LongKeyHashSegment.mix(key) >>> SEGMENT_SHIFT) & mask];
+	}
+
+	/**
+	 * @param maxSize the total capacity of the cache, if bounded
+	 * @return a power of two that scales with the number of cores, while granting each segment a reasonable capacity
+	 */
+	static int segmentCount(@Nullable Long maxSize) {
+		int segments = Integer.highestOneBit(Math.min(Runtime.getRuntime().availableProcessors() * 2, MAX_SEGMENTS));
+		long limit = maxSize != null ? maxSize / MIN_SEGMENT_CAPACITY : Long.MAX_VALUE;
+		while (segments > 1 && segments > limit) {
+			segments >>>= 1;
+		}
+		return segments;
+	}
+}
@@ -0,0 +1,342 @@
+package io.github.xanthic.cache.core;
+
+import io.github.xanthic.cache.api.LongKeyCache;
+import io.github.xanthic.cache.api.RemovalListener;
+import io.github.xanthic.cache.api.domain.ExpiryType;
+import io.github.xanthic.cache.api.domain.RemovalCause;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.LongFunction;
+
+/**
+ * A segment of {@link LongKeyHashCache}: an open-addressing hash table keyed by primitive {@code long} values,
+ * with least-recently-used eviction and optional expiry.
+ * <p>
+ * Entries are stored densely in parallel arrays, and the hash table (which uses linear probing) only holds entry indices.
+ * The recency order is maintained as a doubly linked list over the same indices, so lookups do not allocate.
+ * <p>
+ * Expired entries are removed lazily: upon access, and from the least-recently-used end whenever a new entry is inserted.
+ * <p>
+ * All operations are synchronized on the segment, and removal listeners are notified synchronously.
+ *
+ * @param <V> The type of values contained in the cache
+ */
+class LongKeyHashSegment<V> implements LongKeyCache<V> {
+	private static final int NONE = -1;
+	private static final int DEFAULT_CAPACITY = 16;
+	private static final int MAXIMUM_CAPACITY = 1 << 29; // such that the table length does not overflow
+
+	private final int maxSize;
+	private final long expiryNanos;
+	private final boolean refreshOnAccess;
+	private final RemovalListener<Long, ? super V> listener;
+
+	private long[] keys;
+	private Object[] values;
+	private long[] expiresAt; // null when expiry is disabled
+	private int[] prev;
+	private int[] next;
+	private int[] table; // entry index + 1, or 0 for empty slots
+
+	private int size;
+	private int head = NONE; // least recently used
+	private int tail = NONE; // most recently used
+
+	LongKeyHashSegment(@Nullable Long maxSize, @Nullable Duration expiryTime, @Nullable ExpiryType expiryType, @Nullable RemovalListener<Long, ? super V> listener) {
+		this.maxSize = maxSize != null ? (int) Math.min(maxSize, MAXIMUM_CAPACITY) : MAXIMUM_CAPACITY;
+		this.expiryNanos = expiryTime != null ? saturatedNanos(expiryTime) : 0L;
+		this.refreshOnAccess = expiryType == ExpiryType.POST_ACCESS;
+		this.listener = listener;
+
+		int capacity = Math.max(Math.min(DEFAULT_CAPACITY, this.maxSize), 1);
+		this.keys = new long[capacity];
+		this.values = new Object[capacity];
+		this.expiresAt = expiryTime != null ? new long[capacity] : null;
+		this.prev = new int[capacity];
+		this.next = new int[capacity];
+		this.table = new int[tableSizeFor(capacity)];
+	}
+
+	@Override
+	public synchronized V get(long key) {
+		int index = indexOf(key);
+		if (index == NONE) return null;
+
+		long now = ticker();
+		if (isExpired(index, now)) {
+			removeEntry(index, RemovalCause.TIME);
+			return null;
+		}
+
+		touch(index, now);
+		return value(index);
+	}
+
+	@Override
+	public synchronized V put(long key, @NotNull V value) {
+		Objects.requireNonNull(value);
+		if (maxSize == 0) return null;
+
+		long now = ticker();
+		int index = indexOf(key);
+		if (index == NONE) {
+			insert(key, value, now);
+			return null;
+		}
+
+		V old = value(index);
+		boolean expired = isExpired(index, now);
+		values[index] = value;
+		moveToTail(index);
+		if (expiresAt != null) expiresAt[index] = now + expiryNanos;
+		notify(key, old, expired ? RemovalCause.TIME : RemovalCause.REPLACED);
+		return expired ? null : old;
+	}
+
+	@Override
+	public synchronized V putIfAbsent(long key, @NotNull V value) {
+		Objects.requireNonNull(value);
+		if (maxSize == 0) return null;
+
+		long now = ticker();
+		int index = indexOf(key);
+		if (index != NONE) {
+			if (!isExpired(index, now)) {
+				touch(index, now);
+				return value(index);
+			}
+			removeEntry(index, RemovalCause.TIME);
+		}
+
+		insert(key, value, now);
+		return null;
+	}
+
+	@Override
+	public synchronized V computeIfAbsent(long key, @NotNull LongFunction<? extends V> computeFunc) {
+		Objects.requireNonNull(computeFunc);
+
+		long now = ticker();
+		int index = indexOf(key);
+		if (index != NONE) {
+			if (!isExpired(index, now)) {
+				touch(index, now);
+				return value(index);
+			}
+			removeEntry(index, RemovalCause.TIME);
+		}
+
+		V value = computeFunc.apply(key);
+		if (value == null || maxSize == 0) return value;
+		if (indexOf(key) != NONE)
+			throw new IllegalStateException("Recursive update");
+
+		insert(key, value, ticker());
+		return value;
+	}
+
+	@Override
+	public synchronized V remove(long key) {
+		int index = indexOf(key);
+		if (index == NONE) return null;
+
+		V value = value(index);
+		boolean expired = isExpired(index, ticker());
+		removeEntry(index, expired ? RemovalCause.TIME : RemovalCause.MANUAL);
+		return expired ? null : value;
+	}
+
+	@Override
+	public synchronized void clear() {
+		if (listener != null) {
+			long now = ticker();
+			while (head != NONE) {
+				removeEntry(head, isExpired(head, now) ? RemovalCause.TIME : RemovalCause.MANUAL);
+			}
+			return;
+		}
+
+		Arrays.fill(table, 0);
+		Arrays.fill(values, 0, size, null);
+		size = 0;
+		head = tail = NONE;
+	}
+
+	@Override
+	public synchronized long size() {
+		return size;
+	}
+
+	private void insert(long key, V value, long now) {
+		purgeExpired(now);
+		while (size >= maxSize) {
+			removeEntry(head, RemovalCause.SIZE);
+		}
+		if (size == keys.length) {
+			grow();
+		}
+
+		int index = size++;
+		keys[index] = key;
+		values[index] = value;
+		if (expiresAt != null) expiresAt[index] = now + expiryNanos;
+		linkLast(index);
+		table[emptySlot(key)] = index + 1;
+	}
+
+	private void removeEntry(int index, RemovalCause cause) {
+		long key = keys[index];
+		V value = value(index);
+		deleteSlot(slotOf(key));
+		unlink(index);
+
+		// keep entries dense by relocating the last entry into the vacated index
+		int last = --size;
+		if (index != last) {
+			keys[index] = keys[last];
+			values[index] = values[last];
+			if (expiresAt != null) expiresAt[index] = expiresAt[last];
+			prev[index] = prev[last];
+			next[index] = next[last];
+			if (prev[index] != NONE) next[prev[index]] = index;
+			else head = index;
+			if (next[index] != NONE) prev[next[index]] = index;
+			else tail = index;
+			table[slotOf(keys[index])] = index + 1;
+		}
+		values[last] = null;
+
+		notify(key, value, cause);
+	}
+
+	private void purgeExpired(long now) {
+		if (expiresAt == null) return;
+		while (head != NONE && isExpired(head, now)) {
+			removeEntry(head, RemovalCause.TIME);
+		}
+	}
+
+	private void touch(int index, long now) {
+		moveToTail(index);
+		if (refreshOnAccess && expiresAt != null)
+			expiresAt[index] = now + expiryNanos;
+	}
+
+	private boolean isExpired(int index, long now) {
+		return expiresAt != null && expiresAt[index] - now <= 0;
+	}
+
+	private long ticker() {
+		return expiresAt != null ? System.nanoTime() : 0L;
+	}
+
+	@SuppressWarnings("unchecked")
+	private V value(int index) {
+		return (V) values[index];
+	}
+
+	private void notify(long key, V value, RemovalCause cause) {
+		if (listener != null)
+			listener.onRemoval(key, value, cause);
+	}
+
+	private void linkLast(int index) {
+		prev[index] = tail;
+		next[index] = NONE;
+		if (tail != NONE) next[tail] = index;
+		else head = index;
+		tail = index;
+	}
+
+	private void unlink(int index) {
+		int p = prev[index], n = next[index];
+		if (p != NONE) next[p] = n;
+		else head = n;
+		if (n != NONE) prev[n] = p;
+		else tail = p;
+	}
+
+	private void moveToTail(int index) {
+		if (index != tail) {
+			unlink(index);
+			linkLast(index);
+		}
+	}
+
+	private int indexOf(long key) {
+		int slot = slotOf(key);
+		return slot != NONE ? table[slot] - 1 : NONE;
+	}
+
+	private int slotOf(long key) {
+		int mask = table.length - 1;
+		for (int slot = spread(key) & mask; ; slot = (slot + 1) & mask) {
+			int entry = table[slot];
+			if (entry == 0) return NONE;
+			if (keys[entry - 1] == key) return slot;
+		}
+	}
+
+	private int emptySlot(long key) {
+		int mask = table.length - 1;
+		int slot = spread(key) & mask;
+		while (table[slot] != 0) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	private void deleteSlot(int slot) {
+		// backward-shift deletion, such that no tombstones are needed
+		int mask = table.length - 1;
+		int gap = slot;
+		for (int i = (gap + 1) & mask; table[i] != 0; i = (i + 1) & mask) {
+			int home = spread(keys[table[i] - 1]) & mask;
+			if (((i - home) & mask) >= ((i - gap) & mask)) {
+				table[gap] = table[i];
+				gap = i;
+			}
+		}
+		table[gap] = 0;
+	}
+
+	private void grow() {
+		int capacity = (int) Math.min((long) keys.length << 1, maxSize);
+		keys = Arrays.copyOf(keys, capacity);
+		values = Arrays.copyOf(values, capacity);
+		if (expiresAt != null) expiresAt = Arrays.copyOf(expiresAt, capacity);
+		prev = Arrays.copyOf(prev, capacity);
+		next = Arrays.copyOf(next, capacity);
+
+		table = new int[tableSizeFor(capacity)];
+		for (int index = 0; index < size; index++) {
+			table[emptySlot(keys[index])] = index + 1;
+		}
+	}
+
+	private static int spread(long key) {
+		long h = mix(key);
+		return (int) (h ^ (h >>> 32));
+	}
+
+	static long mix(long key) {
+		return key * 0x9E3779B97F4A7C15L;
+	}
+
+	private static int tableSizeFor(int capacity) {
+		// keep the load factor at or below one half
+		return Integer.highestOneBit(Math.max(capacity, 2) - 1) << 2;
+	}
+
+	private static long saturatedNanos(Duration duration) {
+		try {
+			return duration.toNanos();
+		} catch (ArithmeticException e) {
+			return Long.MAX_VALUE >> 1; // avoid overflow when adding to the current time
+		}
+	}
+}
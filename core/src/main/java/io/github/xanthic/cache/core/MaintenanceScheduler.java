@@ -0,0 +1,105 @@
+package io.github.xanthic.cache.core;
+
+import io.github.xanthic.cache.api.ICacheSpec;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * A shared pool of daemon threads for periodic cache maintenance (e.g., expiration sweeps),
+ * which providers use when {@link ICacheSpec#executor()} is not specified.
+ * <p>
+ * The pool is created upon first use and bounded by the number of available processors,
+ * so the number of threads does not grow with the number of caches. Idle threads are released after a minute.
+ */
+@Slf4j
+@ApiStatus.Internal
+public final class MaintenanceScheduler {
+
+	private MaintenanceScheduler() {
+		// restrict instantiation
+	}
+
+	/**
+	 * @return the shared scheduler, which should not be shut down
+	 */
+	@NotNull
+	public static ScheduledExecutorService get() {
+		return Holder.INSTANCE;
+	}
+
+	/**
+	 * @param executor the executor of the cache specification, if any
+	 * @return the specified executor, or the shared scheduler if none was specified
+	 */
+	@NotNull
+	public static ScheduledExecutorService getOrDefault(@Nullable ScheduledExecutorService executor) {
+		return executor != null ? executor : get();
+	}
+
+	/**
+	 * Periodically performs the action upon the target, until the returned future is cancelled or the target is garbage collected.
+	 * <p>
+	 * The task only weakly references the target, so caches that are discarded without being closed do not leak.
+	 * Thus, the action must not capture the target (e.g., pass an unbound method reference).
+	 * Exceptions thrown by the action are logged, rather than suppressing subsequent executions.
+	 *
+	 * @param executor    the executor to run the task on
+	 * @param target      the object to perform maintenance upon
+	 * @param action      the maintenance to perform
+	 * @param delayNanos  the delay before the first execution
+	 * @param periodNanos the period between successive executions
+	 * @param <T>         the type of the target
+	 * @return the future of the periodic task, which can be cancelled to stop the maintenance
+	 */
+	@NotNull
+	public static <T> ScheduledFuture<?> scheduleWeakly(@NotNull ScheduledExecutorService executor, @NotNull T target, @NotNull Consumer<? super T> action, long delayNanos, long periodNanos) {
+		WeakReference<T> reference = new WeakReference<>(target);
+		AtomicReference<ScheduledFuture<?>> self = new AtomicReference<>();
+		ScheduledFuture<?> future = executor.scheduleAtFixedRate(() -> {
+			T referent = reference.get();
+			if (referent == null) {
+				ScheduledFuture<?> task = self.get();
+				if (task != null) task.cancel(false);
+				return;
+			}
+
+			try {
+				action.accept(referent);
+			} catch (RuntimeException e) {
+				log.warn("Xanthic: Failed to perform cache maintenance", e);
+			}
+		}, delayNanos, periodNanos, TimeUnit.NANOSECONDS);
+		self.set(future);
+		return future;
+	}
+
+	private static ScheduledExecutorService create() {
+		AtomicInteger threads = new AtomicInteger();
+		ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(Runtime.getRuntime().availableProcessors(), runnable -> {
+			Thread thread = new Thread(runnable, "xanthic-maintenance-" + threads.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.setRemoveOnCancelPolicy(true);
+		executor.setKeepAliveTime(1L, TimeUnit.MINUTES);
+		executor.allowCoreThreadTimeOut(true);
+		return Executors.unconfigurableScheduledExecutorService(executor);
+	}
+
+	private static class Holder {
+		private static final ScheduledExecutorService INSTANCE = create();
+	}
+
+}
@@ -0,0 +1,92 @@
+package io.github.xanthic.cache.core;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * A bounded, lock-free, multiple-producer single-consumer ring buffer.
+ * <p>
+ * Producers claim a slot by advancing the tail, and then publish the element into the claimed slot.
+ * The consumer advances the head, and stops at any slot that has been claimed but not yet published.
+ * Only one thread may {@link #drainTo(Consumer, int)} at a time.
+ *
+ * @param <E> the type of buffered elements
+ */
+final class MpscBuffer<E> {
+	private final AtomicReferenceArray<E> slots;
+	private final int mask;
+	private final AtomicLong tail = new AtomicLong();
+	private volatile long head;
+
+	/**
+	 * @param capacity the maximum number of buffered elements, which is rounded up to a power of two
+	 */
+	MpscBuffer(int capacity) {
+		int size = 1;
+		while (size < capacity) size <<= 1;
+		this.slots = new AtomicReferenceArray<>(size);
+		this.mask = size - 1;
+	}
+
+	/**
+	 * @param e the element to enqueue
+	 * @return whether the element was enqueued, or false if the buffer is full
+	 */
+	boolean offer(@NotNull E e) {
+		long t;
+		do {
+			t = tail.get();
+			if (t - head >= slots.length()) return false;
+		} while (!tail.compareAndSet(t, t + 1));
+
+		slots.lazySet((int) t & mask, e);
+		return true;
+	}
+
+	/**
+	 * Removes the published elements in order, up to the specified limit.
+	 *
+	 * @param consumer the receiver of the removed elements
+	 * @param limit    the maximum number of elements to remove
+	 * @return the number of elements removed
+	 */
+	int drainTo(@NotNull Consumer<? super E> consumer, int limit) {
+		long h = head;
+		int drained = 0;
+		while (drained < limit) {
+			int index = (int) h & mask;
+			E e = slots.get(index);
+			if (e == null) break; // empty, or the producer has not yet published
+			slots.lazySet(index, null);
+			head = ++h; // releases the slot to producers
+			drained++;
+			consumer.accept(e);
+		}
+		return drained;
+	}
+
+	/**
+	 * @return whether the next element to be drained has been published
+	 */
+	boolean hasPublished() {
+		return slots.get((int) head & mask) != null;
+	}
+
+	/**
+	 * @return whether any slots are claimed (though possibly not yet published)
+	 */
+	boolean isEmpty() {
+		return tail.get() == head;
+	}
+
+	/**
+	 * @return the maximum number of buffered elements
+	 */
+	int capacity() {
+		return slots.length();
+	}
+
+}
@@ -0,0 +1,85 @@
+package io.github.xanthic.cache.core;
+
+import io.github.xanthic.cache.api.ICacheSpec;
+import io.github.xanthic.cache.api.IntKeyCache;
+import io.github.xanthic.cache.api.LongKeyCache;
+import io.github.xanthic.cache.api.domain.ExpiryType;
+import io.github.xanthic.cache.api.domain.MisconfigurationPolicy;
+import io.github.xanthic.cache.api.exception.MisconfiguredCacheException;
+
+import java.util.function.Consumer;
+
+/**
+ * Builds caches keyed by primitive values, which avoid boxing keys on every lookup.
+ * <p>
+ * These caches are implemented within Xanthic via an open-addressing hash table, so no provider is involved.
+ * The following settings of {@link ICacheSpec} are honored:
+ * {@link ICacheSpec#maxSize()} (via least-recently-used eviction), {@link ICacheSpec#expiryTime()},
+ * {@link ICacheSpec#expiryType()}, and {@link ICacheSpec#removalListener()} (which receives boxed keys).
+ * Other settings are handled according to {@link CacheApiSettings#getDefaultMisconfigurationPolicy()}.
+ *
+ * @see #createLongKeyed(Consumer)
+ * @see #createIntKeyed(Consumer)
+ * @see CacheApi
+ */
+public final class PrimitiveCacheApi {
+
+	private PrimitiveCacheApi() {
+		// prevent direct instantiation
+	}
+
+	/**
+	 * Builds a {@link LongKeyCache} according to the desired specification.
+	 *
+	 * @param spec consumer in which the desired cache settings should be specified
+	 * @param <V>  the type of values that are contained in the cache
+	 * @return {@link LongKeyCache}
+	 * @throws MisconfiguredCacheException if the cache settings are invalid (e.g., negative max size or expiry time)
+	 */
+	public static <V> LongKeyCache<V> createLongKeyed(Consumer<CacheApiSpec<Long, V>> spec) {
+		CacheApiSpec<Long, V> finalSpec = process(spec);
+		return new LongKeyHashCache<>(finalSpec.maxSize(), finalSpec.expiryTime(), finalSpec.expiryType(), finalSpec.removalListener());
+	}
+
+	/**
+	 * Builds an {@link IntKeyCache} according to the desired specification.
+	 *
+	 * @param spec consumer in which the desired cache settings should be specified
+	 * @param <V>  the type of values that are contained in the cache
+	 * @return {@link IntKeyCache}
+	 * @throws MisconfiguredCacheException if the cache settings are invalid (e.g., negative max size or expiry time)
+	 */
+	public static <V> IntKeyCache<V> createIntKeyed(Consumer<CacheApiSpec<Integer, V>> spec) {
+		CacheApiSpec<Integer, V> finalSpec = process(spec);
+		return new IntKeyHashCache<>(finalSpec.maxSize(), finalSpec.expiryTime(), finalSpec.expiryType(), finalSpec.removalListener());
+	}
+
+	private static <K, V> CacheApiSpec<K, V> process(Consumer<CacheApiSpec<K, V>> spec) {
+		CacheApiSpec<K, V> data = CacheApiSpec.processStandalone(spec);
+		if (data.maxWeight() != null) // ignoring the weight bound would yield an unbounded cache
+			throw new MisconfiguredCacheException("Weight-based eviction is not supported by primitive-keyed caches");
+		handleUnsupportedSetting(data.maxOffHeapBytes(), "Off-heap storage");
+		handleUnsupportedSetting(data.diskDirectory(), "Disk storage");
+		handleUnsupportedSetting(data.expiryCalculator(), "Variable expiration");
+		handleUnsupportedSetting(data.loader(), "Loading");
+		handleUnsupportedSetting(data.refreshAfter(), "Refresh");
+		handleUnsupportedSetting(Boolean.TRUE.equals(data.recordStats()) ? Boolean.TRUE : null, "Statistics");
+
+		if (data.expiryTime() != null && data.expiryType() == null) {
+			if (isRejecting())
+				throw new MisconfiguredCacheException("Expiry time was set without an expiry type specified, even as a default");
+			data.expiryType(ExpiryType.POST_ACCESS);
+		}
+		return data;
+	}
+
+	private static void handleUnsupportedSetting(Object setting, String feature) {
+		if (setting != null && isRejecting())
+			throw new MisconfiguredCacheException(feature + " is not supported by primitive-keyed caches");
+	}
+
+	private static boolean isRejecting() {
+		return CacheApiSettings.getInstance().getDefaultMisconfigurationPolicy() == MisconfigurationPolicy.REJECT;
+	}
+
+}
@@ -0,0 +1,92 @@
+package io.github.xanthic.cache.core;
+
+import io.github.xanthic.cache.api.BatchRemovalListener;
+import io.github.xanthic.cache.api.ICacheSpec;
+import io.github.xanthic.cache.api.RemovalListener;
+import io.github.xanthic.cache.api.domain.RemovalCause;
+import io.github.xanthic.cache.api.domain.RemovalEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Utilities for honoring {@link ICacheSpec#removalCauses()}.
+ */
+public final class RemovalFilters {
+
+	private RemovalFilters() {
+		// restrict instantiation
+	}
+
+	/**
+	 * Yields the causes for which providers should subscribe to native removal events.
+	 *
+	 * @param spec the cache specification
+	 * @return the causes of interest to the removal listener, which is empty if no listener is specified
+	 */
+	@NotNull
+	public static Set<RemovalCause> listenedCauses(@NotNull ICacheSpec<?, ?> spec) {
+		if (spec.removalListener() == null) return EnumSet.noneOf(RemovalCause.class);
+		Set<RemovalCause> causes = spec.removalCauses();
+		return causes != null ? copyOf(causes) : EnumSet.allOf(RemovalCause.class);
+	}
+
+	/**
+	 * @param causes the causes specified by the user, if any
+	 * @return the specified causes with every eviction cause, or null if all causes were already included
+	 */
+	@Nullable
+	public static Set<RemovalCause> withEvictions(@Nullable Set<RemovalCause> causes) {
+		if (causes == null) return null;
+		Set<RemovalCause> union = copyOf(causes);
+		for (RemovalCause cause : RemovalCause.values()) {
+			if (cause.isEviction()) union.add(cause);
+		}
+		return union;
+	}
+
+	/**
+	 * @param listener the listener to be filtered
+	 * @param causes   the causes that should be forwarded, or null for all
+	 * @param <K>      the type of keys that form the cache
+	 * @param <V>      the type of values that are contained in the cache
+	 * @return a listener that is only notified of the specified causes
+	 */
+	@Nullable
+	public static <K, V> RemovalListener<K, V> filter(@Nullable RemovalListener<K, V> listener, @Nullable Set<RemovalCause> causes) {
+		if (listener == null || causes == null) return listener;
+		Set<RemovalCause> accepted = copyOf(causes);
+		return (key, value, cause) -> {
+			if (accepted.contains(cause)) listener.onRemoval(key, value, cause);
+		};
+	}
+
+	/**
+	 * @param listener the batch listener to be filtered
+	 * @param causes   the causes that should be forwarded, or null for all
+	 * @param <K>      the type of keys that form the cache
+	 * @param <V>      the type of values that are contained in the cache
+	 * @return a batch listener that is only notified of the specified causes (and never with an empty batch)
+	 */
+	@Nullable
+	public static <K, V> BatchRemovalListener<K, V> filterBatch(@Nullable BatchRemovalListener<K, V> listener, @Nullable Set<RemovalCause> causes) {
+		if (listener == null || causes == null) return listener;
+		Set<RemovalCause> accepted = copyOf(causes);
+		return events -> {
+			List<RemovalEvent<K, V>> filtered = events.stream()
+				.filter(event -> accepted.contains(event.getCause()))
+				.collect(Collectors.toList());
+			if (!filtered.isEmpty()) listener.onRemovals(filtered);
+		};
+	}
+
+	static Set<RemovalCause> copyOf(Collection<RemovalCause> causes) {
+		return causes.isEmpty() ? EnumSet.noneOf(RemovalCause.class) : EnumSet.copyOf(causes);
+	}
+
+}
@@ -0,0 +1,78 @@
+package io.github.xanthic.cache.core;
+
+import io.github.xanthic.cache.api.domain.CacheStats;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Accumulates cache statistics with low contention, for providers that lack native statistics.
+ * <p>
+ * Instances are thread-safe; each counter is a {@link LongAdder}, so concurrent recording does not serialize.
+ *
+ * @see CacheStats
+ */
+public final class StatsRecorder {
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder loadSuccessCount = new LongAdder();
+	private final LongAdder loadFailureCount = new LongAdder();
+	private final LongAdder totalLoadTime = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+	private final LongAdder evictionWeight = new LongAdder();
+
+	/**
+	 * @param count the number of lookups that found a mapping
+	 */
+	public void recordHits(int count) {
+		if (count > 0) hitCount.add(count);
+	}
+
+	/**
+	 * @param count the number of lookups that did not find a mapping
+	 */
+	public void recordMisses(int count) {
+		if (count > 0) missCount.add(count);
+	}
+
+	/**
+	 * @param loadTimeNanos the number of nanoseconds spent on the successful load
+	 */
+	public void recordLoadSuccess(long loadTimeNanos) {
+		loadSuccessCount.increment();
+		totalLoadTime.add(loadTimeNanos);
+	}
+
+	/**
+	 * @param loadTimeNanos the number of nanoseconds spent on the failed load
+	 */
+	public void recordLoadFailure(long loadTimeNanos) {
+		loadFailureCount.increment();
+		totalLoadTime.add(loadTimeNanos);
+	}
+
+	/**
+	 * @param weight the weight of the evicted entry
+	 */
+	public void recordEviction(int weight) {
+		evictionCount.increment();
+		evictionWeight.add(weight);
+	}
+
+	/**
+	 * @return a snapshot of the recorded statistics
+	 * @implNote the counters are read independently, so the snapshot may be slightly inconsistent under concurrent updates
+	 */
+	@NotNull
+	public CacheStats snapshot() {
+		return new CacheStats(
+			hitCount.sum(),
+			missCount.sum(),
+			loadSuccessCount.sum(),
+			loadFailureCount.sum(),
+			totalLoadTime.sum(),
+			evictionCount.sum(),
+			evictionWeight.sum()
+		);
+	}
+}
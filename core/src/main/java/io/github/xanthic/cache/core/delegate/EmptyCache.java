@@ -5,6 +5,9 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
@@ -35,11 +38,21 @@ public final class EmptyCache<K, V> implements Cache<K, V> {
 		return null;
 	}
 
+	@Override
+	public @Nullable V put(@NotNull K key, @NotNull V value, @NotNull Duration ttl) {
+		return null;
+	}
+
 	@Override
 	public @Nullable V remove(@NotNull K key) {
 		return null;
 	}
 
+	@Override
+	public void removeAll(@NotNull Collection<? extends K> keys) {
+		// no-op
+	}
+
 	@Override
 	public void clear() {
 		// no-op
@@ -90,6 +103,11 @@ public final class EmptyCache<K, V> implements Cache<K, V> {
 		return defaultValue;
 	}
 
+	@Override
+	public @NotNull Map<K, V> getAll(@NotNull Collection<? extends K> keys) {
+		return Collections.emptyMap();
+	}
+
 	@Override
 	public void putAll(@NotNull Map<? extends K, ? extends V> map) {
 		// no-op
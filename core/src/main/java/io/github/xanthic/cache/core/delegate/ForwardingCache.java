@@ -0,0 +1,149 @@
+package io.github.xanthic.cache.core.delegate;
+
+import io.github.xanthic.cache.api.Cache;
+import io.github.xanthic.cache.api.domain.CacheStats;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Forwards all cache calls to another {@link Cache} instance.
+ * <p>
+ * Subclasses should override the methods whose behavior ought to be decorated.
+ *
+ * @param <K> The type of keys that form the cache
+ * @param <V> The type of values contained in the cache
+ */
+@ToString
+@EqualsAndHashCode
+public abstract class ForwardingCache<K, V> implements Cache<K, V> {
+	protected final Cache<K, V> delegate;
+
+	protected ForwardingCache(@NotNull Cache<K, V> delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public V get(@NotNull K key) {
+		return delegate.get(key);
+	}
+
+	@Override
+	public V put(@NotNull K key, @NotNull V value) {
+		return delegate.put(key, value);
+	}
+
+	@Override
+	public V put(@NotNull K key, @NotNull V value, @NotNull Duration ttl) {
+		return delegate.put(key, value, ttl);
+	}
+
+	@Override
+	public V remove(@NotNull K key) {
+		return delegate.remove(key);
+	}
+
+	@Override
+	public void removeAll(@NotNull Collection<? extends K> keys) {
+		delegate.removeAll(keys);
+	}
+
+	@Override
+	public void clear() {
+		delegate.clear();
+	}
+
+	@Override
+	public long size() {
+		return delegate.size();
+	}
+
+	@Override
+	public long estimatedSize() {
+		return delegate.estimatedSize();
+	}
+
+	@NotNull
+	@Override
+	public CacheStats stats() {
+		return delegate.stats();
+	}
+
+	@Nullable
+	@Override
+	public V compute(@NotNull K key, @NotNull BiFunction<? super K, ? super V, ? extends V> computeFunc) {
+		return delegate.compute(key, computeFunc);
+	}
+
+	@Override
+	public V computeIfAbsent(@NotNull K key, @NotNull Function<K, V> computeFunc) {
+		return delegate.computeIfAbsent(key, computeFunc);
+	}
+
+	@Nullable
+	@Override
+	public V computeIfPresent(@NotNull K key, @NotNull BiFunction<? super K, ? super V, ? extends V> computeFunc) {
+		return delegate.computeIfPresent(key, computeFunc);
+	}
+
+	@Nullable
+	@Override
+	public V putIfAbsent(@NotNull K key, @NotNull V value) {
+		return delegate.putIfAbsent(key, value);
+	}
+
+	@Override
+	public V merge(@NotNull K key, @NotNull V value, @NotNull BiFunction<V, V, V> mergeFunc) {
+		return delegate.merge(key, value, mergeFunc);
+	}
+
+	@Override
+	public boolean replace(@NotNull K key, @NotNull V value) {
+		return delegate.replace(key, value);
+	}
+
+	@Override
+	public boolean replace(@NotNull K key, @NotNull V oldValue, @NotNull V newValue) {
+		return delegate.replace(key, oldValue, newValue);
+	}
+
+	@NotNull
+	@Override
+	public V getOrDefault(@NotNull K key, @NotNull V defaultValue) {
+		return delegate.getOrDefault(key, defaultValue);
+	}
+
+	@NotNull
+	@Override
+	public Map<K, V> getAll(@NotNull Collection<? extends K> keys) {
+		return delegate.getAll(keys);
+	}
+
+	@Override
+	public void putAll(@NotNull Map<? extends K, ? extends V> map) {
+		delegate.putAll(map);
+	}
+
+	@Override
+	public void forEach(@NotNull BiConsumer<? super K, ? super V> action) {
+		delegate.forEach(action);
+	}
+
+	@Override
+	public void forEachHottest(@NotNull BiConsumer<? super K, ? super V> action) {
+		delegate.forEachHottest(action);
+	}
+
+	@Override
+	public void close() {
+		delegate.close();
+	}
+}
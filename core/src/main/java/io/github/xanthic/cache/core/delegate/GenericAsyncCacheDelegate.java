@@ -0,0 +1,94 @@
+package io.github.xanthic.cache.core.delegate;
+
+import io.github.xanthic.cache.api.AsyncCache;
+import io.github.xanthic.cache.api.Cache;
+import io.github.xanthic.cache.api.CacheProvider;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * Adapts a synchronous {@link Cache} into an {@link AsyncCache} by running computations on an {@link Executor}.
+ * <p>
+ * In-flight computations are tracked per key, so that concurrent callers share the same future.
+ * Operations performed directly on {@link #synchronous()} do not participate in this deduplication.
+ * <p>
+ * This class should only be used when implementing a {@link CacheProvider}
+ * whose backing implementation lacks native asynchronous support.
+ *
+ * @param <K> The type of keys that form the cache
+ * @param <V> The type of values contained in the cache
+ */
+@ToString
+@EqualsAndHashCode
+public class GenericAsyncCacheDelegate<K, V> implements AsyncCache<K, V> {
+	private final Cache<K, V> cache;
+
+	@Getter
+	private final Executor executor;
+
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
+	private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+	/**
+	 * @param cache    the synchronous cache that stores completed values
+	 * @param executor the executor on which computations are run, or null to use {@link ForkJoinPool#commonPool()}
+	 */
+	public GenericAsyncCacheDelegate(@NotNull Cache<K, V> cache, @Nullable Executor executor) {
+		this.cache = cache;
+		this.executor = executor != null ? executor : ForkJoinPool.commonPool();
+	}
+
+	@NotNull
+	@Override
+	public CompletableFuture<V> getAsync(@NotNull K key) {
+		CompletableFuture<V> pending = inFlight.get(key);
+		if (pending != null) return pending;
+		return CompletableFuture.completedFuture(cache.get(key));
+	}
+
+	@NotNull
+	@Override
+	public CompletableFuture<V> computeIfAbsentAsync(@NotNull K key, @NotNull Function<K, V> computeFunc) {
+		V present = cache.get(key);
+		if (present != null) return CompletableFuture.completedFuture(present);
+
+		CompletableFuture<V> promise = new CompletableFuture<>();
+		CompletableFuture<V> pending = inFlight.putIfAbsent(key, promise);
+		if (pending != null) return pending;
+
+		try {
+			executor.execute(() -> {
+				try {
+					V value = cache.computeIfAbsent(key, computeFunc);
+					inFlight.remove(key, promise);
+					promise.complete(value);
+				} catch (Throwable t) {
+					inFlight.remove(key, promise);
+					promise.completeExceptionally(t);
+				}
+			});
+		} catch (Throwable t) {
+			// e.g., RejectedExecutionException
+			inFlight.remove(key, promise);
+			promise.completeExceptionally(t);
+		}
+		return promise;
+	}
+
+	@NotNull
+	@Override
+	public Cache<K, V> synchronous() {
+		return cache;
+	}
+}
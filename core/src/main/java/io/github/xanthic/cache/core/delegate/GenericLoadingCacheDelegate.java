@@ -0,0 +1,121 @@
+package io.github.xanthic.cache.core.delegate;
+
+import io.github.xanthic.cache.api.Cache;
+import io.github.xanthic.cache.api.CacheLoader;
+import io.github.xanthic.cache.api.CacheProvider;
+import io.github.xanthic.cache.api.LoadingCache;
+import io.github.xanthic.cache.api.exception.CacheLoadingException;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Implements {@link LoadingCache} on top of any {@link Cache} by delegating misses to a {@link CacheLoader}.
+ * <p>
+ * Single-key loads are performed via {@link Cache#computeIfAbsent(Object, java.util.function.Function)},
+ * so they inherit the atomicity guarantees of the backing cache.
+ * <p>
+ * This class should only be used when implementing a {@link CacheProvider}
+ * whose backing implementation lacks native loading support.
+ *
+ * @param <K> The type of keys that form the cache
+ * @param <V> The type of values contained in the cache
+ */
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public class GenericLoadingCacheDelegate<K, V> extends ForwardingCache<K, V> implements LoadingCache<K, V> {
+	@Getter
+	private final CacheLoader<K, V> loader;
+
+	public GenericLoadingCacheDelegate(@NotNull Cache<K, V> cache, @NotNull CacheLoader<K, V> loader) {
+		super(cache);
+		this.loader = loader;
+	}
+
+	@NotNull
+	@Override
+	public V get(@NotNull K key) {
+		V value = delegate.get(key);
+		return value != null ? value : loadAbsent(key);
+	}
+
+	@Nullable
+	@Override
+	public V getIfPresent(@NotNull K key) {
+		return delegate.get(key);
+	}
+
+	@NotNull
+	@Override
+	public V getOrDefault(@NotNull K key, @NotNull V defaultValue) {
+		V value = getIfPresent(key);
+		return value != null ? value : defaultValue;
+	}
+
+	@NotNull
+	@Override
+	public Map<K, V> getAll(@NotNull Collection<? extends K> keys) {
+		Map<K, V> present = delegate.getAll(keys);
+		Set<K> misses = new LinkedHashSet<>();
+		for (K key : keys) {
+			if (!present.containsKey(key)) {
+				misses.add(key);
+			}
+		}
+		if (misses.isEmpty()) return present;
+
+		Map<K, V> loaded = loadAll(misses);
+		delegate.putAll(loaded);
+
+		Map<K, V> result = new HashMap<>(present);
+		for (K key : misses) {
+			V value = loaded.get(key);
+			if (value != null) {
+				result.put(key, value);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Loads the value of an absent key into the backing cache.
+	 *
+	 * @param key the key whose value should be loaded
+	 * @return the current (concurrently computed or loaded) value associated with the key
+	 * @throws CacheLoadingException if the loader yielded null, or threw a checked exception
+	 */
+	@NotNull
+	protected V loadAbsent(K key) {
+		V value = delegate.computeIfAbsent(key, this::load);
+		if (value == null) throw CacheLoadingException.nullValue(key);
+		return value;
+	}
+
+	protected V load(K key) {
+		try {
+			return loader.load(key);
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new CacheLoadingException(e);
+		}
+	}
+
+	protected Map<K, V> loadAll(Set<? extends K> keys) {
+		try {
+			return loader.loadAll(keys);
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new CacheLoadingException(e);
+		}
+	}
+}
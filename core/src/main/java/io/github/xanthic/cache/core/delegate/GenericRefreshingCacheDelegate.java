@@ -0,0 +1,242 @@
+package io.github.xanthic.cache.core.delegate;
+
+import io.github.xanthic.cache.api.Cache;
+import io.github.xanthic.cache.api.CacheProvider;
+import io.github.xanthic.cache.api.ICacheSpec;
+import io.github.xanthic.cache.api.LoadingCache;
+import io.github.xanthic.cache.api.RemovalListener;
+import io.github.xanthic.cache.core.CacheApiSpec;
+import io.github.xanthic.cache.core.RemovalFilters;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Extends {@link GenericLoadingCacheDelegate} with support for {@link ICacheSpec#refreshAfter()}.
+ * <p>
+ * Write times are tracked in a side table; reads of entries older than the refresh interval
+ * yield the current value while {@link io.github.xanthic.cache.api.CacheLoader#reload(Object, Object)} runs on the executor.
+ * At most one reload is in progress per key, and its result is only applied if the entry was not modified in the meantime.
+ * <p>
+ * This class should only be used when implementing a {@link CacheProvider}
+ * whose backing implementation lacks native refresh support.
+ *
+ * @param <K> The type of keys that form the cache
+ * @param <V> The type of values contained in the cache
+ * @see #create(CacheProvider, ICacheSpec)
+ */
+@Slf4j
+@ToString(callSuper = true, onlyExplicitlyIncluded = true)
+@EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
+public class GenericRefreshingCacheDelegate<K, V> extends GenericLoadingCacheDelegate<K, V> {
+	private final long refreshNanos;
+	private final Executor executor;
+	private final ConcurrentMap<K, Long> writeTimes;
+	private final Set<K> refreshing = ConcurrentHashMap.newKeySet();
+
+	private GenericRefreshingCacheDelegate(Cache<K, V> cache, ICacheSpec<K, V> spec, ConcurrentMap<K, Long> writeTimes) {
+		//noinspection ConstantConditions
+		super(cache, spec.loader());
+		//noinspection ConstantConditions
+		this.refreshNanos = spec.refreshAfter().toNanos();
+		this.executor = spec.executor() != null ? spec.executor() : ForkJoinPool.commonPool();
+		this.writeTimes = writeTimes;
+	}
+
+	/**
+	 * Builds a refreshing {@link LoadingCache} using the specified provider.
+	 * <p>
+	 * The removal listener of the specification is wrapped so that evicted entries are pruned from the write time table.
+	 *
+	 * @param provider the provider of the backing cache
+	 * @param spec     the specification with a not-null loader and refresh interval
+	 * @param <K>      The type of keys that form the cache
+	 * @param <V>      The type of values contained in the cache
+	 * @return a new refreshing {@link LoadingCache}
+	 */
+	@NotNull
+	public static <K, V> LoadingCache<K, V> create(@NotNull CacheProvider provider, @NotNull ICacheSpec<K, V> spec) {
+		ConcurrentMap<K, Long> writeTimes = new ConcurrentHashMap<>();
+		RemovalListener<K, V> listener = spec.removalListener();
+		CacheApiSpec<K, V> copy = CacheApiSpec.copyOf(spec);
+		copy.removalCauses(RemovalFilters.withEvictions(spec.removalCauses())); // the listener below is already filtered
+		copy.removalListener((key, value, cause) -> {
+			if (cause.isEviction()) writeTimes.remove(key);
+			if (listener != null) listener.onRemoval(key, value, cause);
+		});
+		return new GenericRefreshingCacheDelegate<>(provider.build(copy), spec, writeTimes);
+	}
+
+	@NotNull
+	@Override
+	public V get(@NotNull K key) {
+		V value = delegate.get(key);
+		if (value == null) return loadAbsent(key);
+		refreshIfStale(key, value);
+		return value;
+	}
+
+	@Nullable
+	@Override
+	public V getIfPresent(@NotNull K key) {
+		V value = delegate.get(key);
+		if (value != null) refreshIfStale(key, value);
+		return value;
+	}
+
+	@NotNull
+	@Override
+	public Map<K, V> getAll(@NotNull Collection<? extends K> keys) {
+		Map<K, V> map = super.getAll(keys);
+		map.forEach(this::refreshIfStale);
+		return map;
+	}
+
+	@Override
+	public V put(@NotNull K key, @NotNull V value) {
+		stamp(key);
+		return delegate.put(key, value);
+	}
+
+	@Override
+	public V put(@NotNull K key, @NotNull V value, @NotNull Duration ttl) {
+		stamp(key);
+		return delegate.put(key, value, ttl);
+	}
+
+	@Override
+	public void putAll(@NotNull Map<? extends K, ? extends V> map) {
+		map.keySet().forEach(this::stamp);
+		delegate.putAll(map);
+	}
+
+	@Nullable
+	@Override
+	public V putIfAbsent(@NotNull K key, @NotNull V value) {
+		V prev = delegate.putIfAbsent(key, value);
+		if (prev == null) stamp(key);
+		return prev;
+	}
+
+	@Override
+	public boolean replace(@NotNull K key, @NotNull V value) {
+		boolean replaced = delegate.replace(key, value);
+		if (replaced) stamp(key);
+		return replaced;
+	}
+
+	@Override
+	public boolean replace(@NotNull K key, @NotNull V oldValue, @NotNull V newValue) {
+		boolean replaced = delegate.replace(key, oldValue, newValue);
+		if (replaced) stamp(key);
+		return replaced;
+	}
+
+	@Nullable
+	@Override
+	public V compute(@NotNull K key, @NotNull BiFunction<? super K, ? super V, ? extends V> computeFunc) {
+		return track(key, delegate.compute(key, computeFunc));
+	}
+
+	@Override
+	public V computeIfAbsent(@NotNull K key, @NotNull Function<K, V> computeFunc) {
+		return delegate.computeIfAbsent(key, k -> {
+			V value = computeFunc.apply(k);
+			if (value != null) stamp(k);
+			return value;
+		});
+	}
+
+	@Nullable
+	@Override
+	public V computeIfPresent(@NotNull K key, @NotNull BiFunction<? super K, ? super V, ? extends V> computeFunc) {
+		return track(key, delegate.computeIfPresent(key, computeFunc));
+	}
+
+	@Override
+	public V merge(@NotNull K key, @NotNull V value, @NotNull BiFunction<V, V, V> mergeFunc) {
+		return track(key, delegate.merge(key, value, mergeFunc));
+	}
+
+	@Override
+	public V remove(@NotNull K key) {
+		writeTimes.remove(key);
+		return delegate.remove(key);
+	}
+
+	@Override
+	public void removeAll(@NotNull Collection<? extends K> keys) {
+		keys.forEach(writeTimes::remove);
+		delegate.removeAll(keys);
+	}
+
+	@Override
+	public void clear() {
+		writeTimes.clear();
+		delegate.clear();
+	}
+
+	@Override
+	protected V load(K key) {
+		V value = super.load(key);
+		stamp(key);
+		return value;
+	}
+
+	@Override
+	protected Map<K, V> loadAll(Set<? extends K> keys) {
+		Map<K, V> map = super.loadAll(keys);
+		map.keySet().forEach(this::stamp);
+		return map;
+	}
+
+	private V track(K key, V value) {
+		if (value != null) {
+			stamp(key);
+		} else {
+			writeTimes.remove(key);
+		}
+		return value;
+	}
+
+	private void stamp(K key) {
+		writeTimes.put(key, System.nanoTime());
+	}
+
+	private void refreshIfStale(K key, V value) {
+		long now = System.nanoTime();
+		Long writeTime = writeTimes.putIfAbsent(key, now);
+		if (writeTime == null || now - writeTime < refreshNanos || !refreshing.add(key)) return;
+
+		try {
+			executor.execute(() -> {
+				try {
+					V newValue = getLoader().reload(key, value);
+					//noinspection ConstantConditions
+					if (newValue != null && delegate.replace(key, value, newValue)) stamp(key);
+				} catch (Exception e) {
+					log.warn("Xanthic: Failed to refresh cache entry for key {}", key, e);
+				} finally {
+					refreshing.remove(key);
+				}
+			});
+		} catch (Exception e) {
+			// e.g., RejectedExecutionException
+			refreshing.remove(key);
+			log.warn("Xanthic: Could not schedule cache entry refresh", e);
+		}
+	}
+}
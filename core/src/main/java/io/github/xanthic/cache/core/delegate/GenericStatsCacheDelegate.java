@@ -0,0 +1,133 @@
+package io.github.xanthic.cache.core.delegate;
+
+import io.github.xanthic.cache.api.Cache;
+import io.github.xanthic.cache.api.CacheProvider;
+import io.github.xanthic.cache.api.ICacheSpec;
+import io.github.xanthic.cache.api.RemovalListener;
+import io.github.xanthic.cache.api.Weigher;
+import io.github.xanthic.cache.api.domain.CacheStats;
+import io.github.xanthic.cache.core.CacheApiSpec;
+import io.github.xanthic.cache.core.RemovalFilters;
+import io.github.xanthic.cache.core.StatsRecorder;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Records {@link CacheStats} for a {@link Cache} whose backing implementation lacks native statistics.
+ * <p>
+ * Lookups via {@link #get(Object)}, {@link #getOrDefault(Object, Object)}, {@link #getAll(Collection)},
+ * and {@link #computeIfAbsent(Object, Function)} count as hits or misses, and invocations of the
+ * compute function for absent keys count as loads. Evictions are observed via the removal listener.
+ * <p>
+ * This class should only be used when implementing a {@link CacheProvider}.
+ *
+ * @param <K> The type of keys that form the cache
+ * @param <V> The type of values contained in the cache
+ * @see #create(ICacheSpec, Function)
+ */
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public class GenericStatsCacheDelegate<K, V> extends ForwardingCache<K, V> {
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
+	private final StatsRecorder recorder;
+
+	private GenericStatsCacheDelegate(Cache<K, V> cache, StatsRecorder recorder) {
+		super(cache);
+		this.recorder = recorder;
+	}
+
+	/**
+	 * Builds a cache that records statistics.
+	 * <p>
+	 * The removal listener of the specification is wrapped so that evictions are counted.
+	 *
+	 * @param spec    the specification of the cache
+	 * @param builder the function that builds the backing cache from a specification
+	 * @param <K>     The type of keys that form the cache
+	 * @param <V>     The type of values contained in the cache
+	 * @return a new cache that records statistics
+	 */
+	@NotNull
+	public static <K, V> Cache<K, V> create(@NotNull ICacheSpec<K, V> spec, @NotNull Function<ICacheSpec<K, V>, Cache<K, V>> builder) {
+		StatsRecorder recorder = new StatsRecorder();
+		RemovalListener<K, V> listener = spec.removalListener();
+		Weigher<K, V> weigher = spec.maxWeight() != null ? spec.weigher() : null;
+		CacheApiSpec<K, V> copy = CacheApiSpec.copyOf(spec);
+		copy.removalCauses(RemovalFilters.withEvictions(spec.removalCauses())); // the listener below is already filtered
+		copy.removalListener((key, value, cause) -> {
+			if (cause.isEviction()) recorder.recordEviction(weigher != null ? weigher.weigh(key, value) : 1);
+			if (listener != null) listener.onRemoval(key, value, cause);
+		});
+		return new GenericStatsCacheDelegate<>(builder.apply(copy), recorder);
+	}
+
+	@Override
+	public V get(@NotNull K key) {
+		V value = delegate.get(key);
+		if (value != null) {
+			recorder.recordHits(1);
+		} else {
+			recorder.recordMisses(1);
+		}
+		return value;
+	}
+
+	@NotNull
+	@Override
+	public V getOrDefault(@NotNull K key, @NotNull V defaultValue) {
+		V value = get(key);
+		return value != null ? value : defaultValue;
+	}
+
+	@NotNull
+	@Override
+	public Map<K, V> getAll(@NotNull Collection<? extends K> keys) {
+		Set<K> distinct = new LinkedHashSet<>(keys); // duplicates must not inflate the miss count
+		Map<K, V> map = delegate.getAll(distinct);
+		recorder.recordHits(map.size());
+		recorder.recordMisses(distinct.size() - map.size());
+		return map;
+	}
+
+	@Override
+	public V computeIfAbsent(@NotNull K key, @NotNull Function<K, V> computeFunc) {
+		boolean[] loaded = { false };
+		V value = delegate.computeIfAbsent(key, k -> {
+			loaded[0] = true;
+			long start = System.nanoTime();
+			V computed;
+			try {
+				computed = computeFunc.apply(k);
+			} catch (RuntimeException | Error e) {
+				recorder.recordLoadFailure(System.nanoTime() - start);
+				throw e;
+			}
+			if (computed != null) {
+				recorder.recordLoadSuccess(System.nanoTime() - start);
+			} else {
+				recorder.recordLoadFailure(System.nanoTime() - start);
+			}
+			return computed;
+		});
+		if (loaded[0]) {
+			recorder.recordMisses(1);
+		} else {
+			recorder.recordHits(1);
+		}
+		return value;
+	}
+
+	@NotNull
+	@Override
+	public CacheStats stats() {
+		return recorder.snapshot();
+	}
+}
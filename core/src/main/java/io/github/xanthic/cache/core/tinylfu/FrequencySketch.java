@@ -0,0 +1,98 @@
+package io.github.xanthic.cache.core.tinylfu;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A count-min sketch that estimates the popularity of keys within a time window, for TinyLFU admission.
+ * <p>
+ * Each key maps to four 4-bit counters (saturating at 15), one per seeded hash, that generally reside in four different {@code long}s of the table.
+ * Within each {@code long}, the key hash selects a group of four counters, from which each seeded hash uses a distinct counter.
+ * Once the number of increments reaches the sample size, all counters are halved so that stale popularity decays.
+ * <p>
+ * Not thread-safe; callers must hold the eviction lock of the owning cache.
+ */
+final class FrequencySketch {
+	private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+	private static final long RESET_MASK = 0x7777777777777777L;
+	private static final long ONE_MASK = 0x1111111111111111L;
+	private static final int MAX_TABLE_SIZE = 1 << 22; // bounds the footprint of huge caches to 32 MiB
+
+	private final long[] table;
+	private final int tableMask;
+	private final int sampleSize;
+	private int size;
+
+	FrequencySketch(long maximumSize) {
+		int capacity = (int) Math.min(Math.max(maximumSize, 8L), MAX_TABLE_SIZE);
+		this.table = new long[Integer.highestOneBit(capacity - 1) << 1];
+		this.tableMask = table.length - 1;
+		this.sampleSize = (int) Math.min(10L * capacity, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * @param key the key whose popularity should be estimated
+	 * @return the estimated number of occurrences of the key within the sample, in the range [0, 15]
+	 */
+	int frequency(@NotNull Object key) {
+		int hash = spread(key.hashCode());
+		int start = (hash & 3) << 2;
+		int frequency = Integer.MAX_VALUE;
+		for (int i = 0; i < 4; i++) {
+			int index = indexOf(hash, i);
+			int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xFL);
+			frequency = Math.min(frequency, count);
+		}
+		return frequency;
+	}
+
+	/**
+	 * Records an occurrence of the key, aging all counters once the sample is complete.
+	 *
+	 * @param key the key that was accessed
+	 */
+	void increment(@NotNull Object key) {
+		int hash = spread(key.hashCode());
+		int start = (hash & 3) << 2;
+		boolean added = false;
+		for (int i = 0; i < 4; i++) {
+			added |= incrementAt(indexOf(hash, i), start + i);
+		}
+
+		if (added && ++size >= sampleSize) {
+			reset();
+		}
+	}
+
+	private boolean incrementAt(int index, int counter) {
+		int offset = counter << 2;
+		long mask = 0xFL << offset;
+		if ((table[index] & mask) != mask) {
+			table[index] += 1L << offset;
+			return true;
+		}
+		return false;
+	}
+
+	private void reset() {
+		int odd = 0;
+		for (int i = 0; i < table.length; i++) {
+			odd += Long.bitCount(table[i] & ONE_MASK);
+			table[i] = (table[i] >>> 1) & RESET_MASK;
+		}
+		// account for the truncation of odd counters
+		size = (size >>> 1) - (odd >>> 2);
+	}
+
+	private int indexOf(int hash, int i) {
+		long h = (hash + SEEDS[i]) * SEEDS[i];
+		h += h >>> 32;
+		return ((int) h) & tableMask;
+	}
+
+	private static int spread(int x) {
+		x = ((x >>> 16) ^ x) * 0x45d9f3b;
+		x = ((x >>> 16) ^ x) * 0x45d9f3b;
+		return (x >>> 16) ^ x;
+	}
+
+}
@@ -0,0 +1,38 @@
+package io.github.xanthic.cache.core.tinylfu;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An entry of {@link TinyLfuCache}, which is intrusively linked into the eviction and expiration queues.
+ *
+ * @param <K> The type of the key
+ * @param <V> The type of the value
+ */
+final class Node<K, V> {
+	static final int NONE = 0;
+	static final int WINDOW = 1;
+	static final int PROBATION = 2;
+	static final int PROTECTED = 3;
+
+	final K key;
+	volatile V value;
+	volatile long expiresAt;
+
+	/**
+	 * Whether the node is still mapped; only cleared while holding the lock of its hash bin.
+	 */
+	volatile boolean alive = true;
+
+	// guarded by the eviction lock
+	int queue = NONE;
+	Node<K, V> prevAccess;
+	Node<K, V> nextAccess;
+	Node<K, V> prevTime;
+	Node<K, V> nextTime;
+
+	Node(@NotNull K key, @NotNull V value, long expiresAt) {
+		this.key = key;
+		this.value = value;
+		this.expiresAt = expiresAt;
+	}
+}
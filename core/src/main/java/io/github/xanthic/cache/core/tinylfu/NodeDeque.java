@@ -0,0 +1,107 @@
+package io.github.xanthic.cache.core.tinylfu;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Consumer;
+
+/**
+ * A doubly-linked list of {@link Node}s that reuses the links embedded in each node, so reordering does not allocate.
+ * <p>
+ * Each node can simultaneously belong to one access-ordered deque and one time-ordered deque.
+ * Not thread-safe; callers must hold the eviction lock of the owning cache.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ */
+final class NodeDeque<K, V> {
+	private final boolean accessOrder;
+	private Node<K, V> first;
+	private Node<K, V> last;
+
+	NodeDeque(boolean accessOrder) {
+		this.accessOrder = accessOrder;
+	}
+
+	boolean contains(@NotNull Node<K, V> node) {
+		return prev(node) != null || next(node) != null || first == node;
+	}
+
+	@Nullable
+	Node<K, V> peekFirst() {
+		return first;
+	}
+
+	@Nullable
+	Node<K, V> pollFirst() {
+		Node<K, V> node = first;
+		if (node != null) unlink(node);
+		return node;
+	}
+
+	void addLast(@NotNull Node<K, V> node) {
+		Node<K, V> l = last;
+		last = node;
+		if (l == null) {
+			first = node;
+		} else {
+			setNext(l, node);
+			setPrev(node, l);
+		}
+	}
+
+	void moveToBack(@NotNull Node<K, V> node) {
+		if (node != last) {
+			unlink(node);
+			addLast(node);
+		}
+	}
+
+	void unlink(@NotNull Node<K, V> node) {
+		Node<K, V> p = prev(node);
+		Node<K, V> n = next(node);
+
+		if (p == null) {
+			first = n;
+		} else {
+			setNext(p, n);
+			setPrev(node, null);
+		}
+
+		if (n == null) {
+			last = p;
+		} else {
+			setPrev(n, p);
+			setNext(node, null);
+		}
+	}
+
+	/**
+	 * Performs the action on each node, from the most recently to the least recently added.
+	 *
+	 * @param action the action to perform
+	 */
+	void forEachDescending(@NotNull Consumer<Node<K, V>> action) {
+		for (Node<K, V> node = last; node != null; node = prev(node)) {
+			action.accept(node);
+		}
+	}
+
+	private Node<K, V> prev(Node<K, V> node) {
+		return accessOrder ? node.prevAccess : node.prevTime;
+	}
+
+	private Node<K, V> next(Node<K, V> node) {
+		return accessOrder ? node.nextAccess : node.nextTime;
+	}
+
+	private void setPrev(Node<K, V> node, Node<K, V> prev) {
+		if (accessOrder) node.prevAccess = prev;
+		else node.prevTime = prev;
+	}
+
+	private void setNext(Node<K, V> node, Node<K, V> next) {
+		if (accessOrder) node.nextAccess = next;
+		else node.nextTime = next;
+	}
+}
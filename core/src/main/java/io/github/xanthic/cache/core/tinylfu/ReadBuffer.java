@@ -0,0 +1,98 @@
+package io.github.xanthic.cache.core.tinylfu;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * A striped, lossy set of ring buffers that records reads without blocking.
+ * <p>
+ * Producers claim a slot via compare-and-set, and give up (dropping the element) if their stripe is full or contended;
+ * losing a fraction of reads only reduces the precision of the recency and frequency policies, rather than their correctness.
+ * A single consumer, holding the eviction lock, drains all stripes.
+ *
+ * @param <E> the type of buffered elements
+ */
+final class ReadBuffer<E> {
+	static final int SUCCESS = 0;
+	static final int FAILED = 1;
+	static final int FULL = 2;
+
+	private static final int STRIPE_SIZE = 16;
+	private static final int STRIPE_MASK = STRIPE_SIZE - 1;
+
+	private final Stripe<E>[] stripes;
+	private final int mask;
+
+	@SuppressWarnings("unchecked")
+	ReadBuffer(boolean highContention) {
+		int parallelism = Runtime.getRuntime().availableProcessors() * (highContention ? 4 : 1);
+		int count = Integer.highestOneBit(Math.min(Math.max(parallelism, 2), 64) - 1) << 1;
+		this.stripes = new Stripe[count];
+		for (int i = 0; i < count; i++) {
+			stripes[i] = new Stripe<>();
+		}
+		this.mask = count - 1;
+	}
+
+	/**
+	 * @param e the element to record
+	 * @return {@link #SUCCESS}, {@link #FAILED} if the element was dropped due to contention, or {@link #FULL} if the stripe should be drained
+	 */
+	int offer(@NotNull E e) {
+		return stripes[probe() & mask].offer(e);
+	}
+
+	/**
+	 * Transfers all published elements to the consumer; must only be called by a single thread at a time.
+	 *
+	 * @param consumer the action to perform on each element
+	 */
+	void drainTo(@NotNull Consumer<E> consumer) {
+		for (Stripe<E> stripe : stripes) {
+			stripe.drainTo(consumer);
+		}
+	}
+
+	private static int probe() {
+		long id = Thread.currentThread().getId();
+		int h = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	private static final class Stripe<E> {
+		private final AtomicReferenceArray<E> buffer = new AtomicReferenceArray<>(STRIPE_SIZE);
+		private final AtomicLong writeCounter = new AtomicLong();
+		private volatile long readCounter;
+
+		int offer(E e) {
+			long head = readCounter;
+			long tail = writeCounter.get();
+			long size = tail - head;
+			if (size >= STRIPE_SIZE) return FULL;
+
+			if (writeCounter.compareAndSet(tail, tail + 1)) {
+				buffer.lazySet((int) (tail & STRIPE_MASK), e);
+				return size + 1 >= STRIPE_SIZE ? FULL : SUCCESS;
+			}
+			return FAILED;
+		}
+
+		void drainTo(Consumer<E> consumer) {
+			long head = readCounter;
+			long tail = writeCounter.get();
+			for (; head < tail; head++) {
+				int index = (int) (head & STRIPE_MASK);
+				E e = buffer.get(index);
+				if (e == null) break; // claimed, but not yet published
+
+				buffer.lazySet(index, null);
+				consumer.accept(e);
+			}
+			readCounter = head;
+		}
+	}
+
+}
@@ -0,0 +1,567 @@
+package io.github.xanthic.cache.core.tinylfu;
+
+import io.github.xanthic.cache.api.Cache;
+import io.github.xanthic.cache.api.RemovalListener;
+import io.github.xanthic.cache.api.domain.ExpiryType;
+import io.github.xanthic.cache.api.domain.RemovalCause;
+import io.github.xanthic.cache.core.MaintenanceScheduler;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A concurrent cache that bounds its size via Window TinyLFU, and optionally expires entries after a fixed duration.
+ * <p>
+ * Entries are stored in a {@link ConcurrentHashMap}, so reads never block.
+ * Instead of reordering the policy upon every access, reads are recorded into a lossy {@link ReadBuffer} and writes into a queue;
+ * these buffers are replayed against the policy in batches, by whichever thread acquires the eviction lock via {@link ReentrantLock#tryLock()}.
+ * <p>
+ * New entries are admitted into a small LRU window (1% of the capacity).
+ * Entries that overflow the window compete with the least valuable entry of the main space, according to their {@link FrequencySketch} estimates,
+ * such that one-hit wonders (e.g., from scans) cannot flush popular entries.
+ * The main space is a segmented LRU, where entries accessed again during probation are promoted to the protected segment (80% of the main space).
+ * <p>
+ * Removal listeners are invoked synchronously by the thread that performed (or amortized) the removal, but never while holding the eviction lock.
+ *
+ * @param <K> The type of keys that form the cache
+ * @param <V> The type of values contained in the cache
+ */
+final class TinyLfuCache<K, V> implements Cache<K, V> {
+	private static final double WINDOW_PERCENTAGE = 0.01;
+	private static final double PROTECTED_PERCENTAGE = 0.8;
+	private static final long MAXIMUM_EXPIRY = Long.MAX_VALUE >> 1; // overflow-safe when added to System#nanoTime
+	private static final Predicate<Object> READ = value -> false;
+	private static final Predicate<Object> WRITE = value -> true;
+
+	private final ConcurrentHashMap<K, Node<K, V>> data = new ConcurrentHashMap<>();
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	private final Queue<Runnable> writeBuffer = new ConcurrentLinkedQueue<>();
+	private final ReadBuffer<Node<K, V>> readBuffer;
+	private final RemovalListener<K, V> listener;
+
+	private final boolean evicts;
+	private final long maximum;
+	private final long windowMaximum;
+	private final long protectedMaximum;
+
+	private final boolean expires;
+	private final boolean expiresAfterAccess;
+	private final long expiryNanos;
+
+	// guarded by the eviction lock
+	private final FrequencySketch sketch;
+	private final NodeDeque<K, V> window = new NodeDeque<>(true);
+	private final NodeDeque<K, V> probation = new NodeDeque<>(true);
+	private final NodeDeque<K, V> protectedSegment = new NodeDeque<>(true);
+	private final NodeDeque<K, V> timeOrder = new NodeDeque<>(false);
+	private long windowSize;
+	private long mainSize;
+	private long protectedSize;
+	private List<Removal<K, V>> pendingRemovals = new ArrayList<>();
+
+	private volatile ScheduledFuture<?> maintenanceTask;
+
+	TinyLfuCache(@Nullable Long maxSize, @Nullable Duration expiryTime, @Nullable ExpiryType expiryType, @Nullable RemovalListener<K, V> listener, boolean highContention) {
+		this.listener = listener;
+
+		this.evicts = maxSize != null;
+		this.maximum = evicts ? maxSize : Long.MAX_VALUE;
+		this.windowMaximum = Math.max(1L, (long) (maximum * WINDOW_PERCENTAGE));
+		this.protectedMaximum = (long) ((maximum - windowMaximum) * PROTECTED_PERCENTAGE);
+		this.sketch = evicts ? new FrequencySketch(maximum) : null;
+
+		this.expires = expiryTime != null;
+		this.expiresAfterAccess = expires && expiryType == ExpiryType.POST_ACCESS;
+		this.expiryNanos = expires ? saturatedNanos(expiryTime) : 0L;
+
+		this.readBuffer = evicts || expiresAfterAccess ? new ReadBuffer<>(highContention) : null;
+	}
+
+	@Override
+	public V get(@NotNull K key) {
+		Node<K, V> node = data.get(key);
+		if (node == null) return null;
+
+		long now = System.nanoTime();
+		if (hasExpired(node, now)) {
+			remap(key, READ, (k, v) -> v); // removes the expired node
+			return null;
+		}
+
+		V value = node.value;
+		afterRead(node, now);
+		return value;
+	}
+
+	@Override
+	public V put(@NotNull K key, @NotNull V value) {
+		Objects.requireNonNull(value);
+		return remap(key, WRITE, (k, v) -> value).previous;
+	}
+
+	@Override
+	public V remove(@NotNull K key) {
+		return remap(key, WRITE, (k, v) -> null).previous;
+	}
+
+	@Override
+	public void clear() {
+		for (K key : data.keySet()) {
+			remove(key);
+		}
+		cleanUp();
+	}
+
+	@Override
+	public long size() {
+		cleanUp();
+		return data.size();
+	}
+
+	@Override
+	public long estimatedSize() {
+		return data.mappingCount();
+	}
+
+	@Override
+	public V compute(@NotNull K key, @NotNull BiFunction<? super K, ? super V, ? extends V> computeFunc) {
+		Objects.requireNonNull(computeFunc);
+		return remap(key, WRITE, computeFunc).value;
+	}
+
+	@Override
+	public V computeIfAbsent(@NotNull K key, @NotNull Function<K, V> computeFunc) {
+		Objects.requireNonNull(computeFunc);
+		V present = get(key);
+		if (present != null) return present;
+		return remap(key, READ, (k, v) -> v != null ? v : computeFunc.apply(k)).value;
+	}
+
+	@Override
+	public V computeIfPresent(@NotNull K key, @NotNull BiFunction<? super K, ? super V, ? extends V> computeFunc) {
+		Objects.requireNonNull(computeFunc);
+		return remap(key, WRITE, (k, v) -> v != null ? computeFunc.apply(k, v) : null).value;
+	}
+
+	@Override
+	public V putIfAbsent(@NotNull K key, @NotNull V value) {
+		Objects.requireNonNull(value);
+		return remap(key, READ, (k, v) -> v != null ? v : value).previous;
+	}
+
+	@Override
+	public V merge(@NotNull K key, @NotNull V value, @NotNull BiFunction<V, V, V> mergeFunc) {
+		Objects.requireNonNull(value);
+		Objects.requireNonNull(mergeFunc);
+		return remap(key, WRITE, (k, v) -> v != null ? mergeFunc.apply(v, value) : value).value;
+	}
+
+	@Override
+	public boolean replace(@NotNull K key, @NotNull V value) {
+		Objects.requireNonNull(value);
+		return remap(key, WRITE, (k, v) -> v != null ? value : null).previous != null;
+	}
+
+	@Override
+	public boolean replace(@NotNull K key, @NotNull V oldValue, @NotNull V newValue) {
+		Objects.requireNonNull(oldValue);
+		Objects.requireNonNull(newValue);
+		V previous = remap(key, v -> v.equals(oldValue), (k, v) -> v != null && v.equals(oldValue) ? newValue : v).previous;
+		return previous != null && previous.equals(oldValue);
+	}
+
+	@Override
+	public void forEach(@NotNull BiConsumer<? super K, ? super V> action) {
+		long now = System.nanoTime();
+		data.values().forEach(node -> {
+			V value = node.value;
+			if (!hasExpired(node, now)) action.accept(node.key, value);
+		});
+	}
+
+	@Override
+	public void forEachHottest(@NotNull BiConsumer<? super K, ? super V> action) {
+		if (!evicts) {
+			forEach(action);
+			return;
+		}
+
+		List<Node<K, V>> nodes = new ArrayList<>(data.size());
+		List<Removal<K, V>> removals;
+		evictionLock.lock();
+		try {
+			removals = maintenance(System.nanoTime());
+			protectedSegment.forEachDescending(nodes::add);
+			window.forEachDescending(nodes::add);
+			probation.forEachDescending(nodes::add);
+		} finally {
+			evictionLock.unlock();
+		}
+		notifyRemovals(removals);
+
+		long now = System.nanoTime();
+		for (Node<K, V> node : nodes) {
+			V value = node.value;
+			if (node.alive && !hasExpired(node, now)) action.accept(node.key, value);
+		}
+	}
+
+	@Override
+	public void close() {
+		ScheduledFuture<?> task = maintenanceTask;
+		if (task != null) task.cancel(false);
+	}
+
+	/**
+	 * Periodically performs maintenance on the executor, until this cache is closed (or discarded).
+	 */
+	void scheduleCleanUp(@NotNull ScheduledExecutorService executor, long delayNanos, long periodNanos) {
+		this.maintenanceTask = MaintenanceScheduler.scheduleWeakly(executor, this, TinyLfuCache::cleanUp, delayNanos, periodNanos);
+	}
+
+	/**
+	 * Performs any pending maintenance, such as replaying buffered operations, expiring entries, and evicting entries.
+	 */
+	void cleanUp() {
+		List<Removal<K, V>> removals;
+		evictionLock.lock();
+		try {
+			removals = maintenance(System.nanoTime());
+		} finally {
+			evictionLock.unlock();
+		}
+		notifyRemovals(removals);
+	}
+
+	/**
+	 * Atomically applies the function to the current (unexpired) value of the key, and schedules the resulting policy updates.
+	 * <p>
+	 * Returning null removes the entry, while returning the current value (by identity) is only treated as a write
+	 * (replacing the value and resetting its expiry) if {@code write} accepts that value; otherwise, the entry is merely read.
+	 */
+	private Outcome<V> remap(K key, Predicate<? super V> write, BiFunction<? super K, ? super V, ? extends V> function) {
+		long now = System.nanoTime();
+		Outcome<V> outcome = new Outcome<>();
+		Object[] changed = new Object[1];
+		data.compute(key, (k, node) -> {
+			V current = node == null || hasExpired(node, now) ? null : node.value;
+			V value = function.apply(k, current);
+			outcome.previous = current;
+			outcome.value = value;
+
+			if (node != null && current == null) {
+				outcome.removed = node.value;
+				outcome.cause = RemovalCause.TIME;
+			}
+
+			if (value == null) {
+				if (node == null) return null;
+				if (current != null) {
+					outcome.removed = current;
+					outcome.cause = RemovalCause.MANUAL;
+				}
+				node.alive = false;
+				changed[0] = (Runnable) () -> onRemove(node);
+				return null;
+			}
+
+			if (node == null) {
+				Node<K, V> added = new Node<>(k, value, now + expiryNanos);
+				changed[0] = (Runnable) () -> onAdd(added);
+				return added;
+			}
+
+			if (value == current && !write.test(current)) {
+				changed[0] = node;
+				return node;
+			}
+
+			if (current != null) {
+				outcome.removed = current;
+				outcome.cause = RemovalCause.REPLACED;
+			}
+			node.value = value;
+			node.expiresAt = now + expiryNanos;
+			changed[0] = (Runnable) () -> onUpdate(node);
+			return node;
+		});
+
+		Object change = changed[0];
+		if (change instanceof Runnable) {
+			afterWrite((Runnable) change);
+		} else if (change != null) {
+			@SuppressWarnings("unchecked")
+			Node<K, V> read = (Node<K, V>) change;
+			afterRead(read, now);
+		}
+
+		if (outcome.cause != null && listener != null)
+			listener.onRemoval(key, outcome.removed, outcome.cause);
+
+		return outcome;
+	}
+
+	private void afterRead(Node<K, V> node, long now) {
+		if (expiresAfterAccess) node.expiresAt = now + expiryNanos;
+		if (readBuffer != null && readBuffer.offer(node) == ReadBuffer.FULL) tryMaintenance();
+	}
+
+	private void afterWrite(Runnable task) {
+		writeBuffer.add(task);
+		tryMaintenance();
+	}
+
+	private void tryMaintenance() {
+		do {
+			// if the lock is held, its owner re-checks the write buffer after unlocking
+			if (!evictionLock.tryLock()) return;
+
+			List<Removal<K, V>> removals;
+			try {
+				removals = maintenance(System.nanoTime());
+			} finally {
+				evictionLock.unlock();
+			}
+			notifyRemovals(removals);
+		} while (!writeBuffer.isEmpty());
+	}
+
+	private List<Removal<K, V>> maintenance(long now) {
+		if (readBuffer != null) readBuffer.drainTo(this::onAccess);
+
+		Runnable task;
+		while ((task = writeBuffer.poll()) != null) {
+			task.run();
+		}
+
+		expireEntries(now);
+		evictEntries();
+
+		if (pendingRemovals.isEmpty()) return Collections.emptyList();
+		List<Removal<K, V>> removals = pendingRemovals;
+		pendingRemovals = new ArrayList<>();
+		return removals;
+	}
+
+	private void onAccess(Node<K, V> node) {
+		if (!node.alive) return;
+
+		if (evicts && node.queue != Node.NONE) {
+			sketch.increment(node.key);
+			reorder(node);
+		}
+
+		if (expiresAfterAccess && timeOrder.contains(node)) {
+			timeOrder.moveToBack(node);
+		}
+	}
+
+	private void onAdd(Node<K, V> node) {
+		if (!node.alive) return;
+
+		if (evicts) {
+			sketch.increment(node.key);
+			node.queue = Node.WINDOW;
+			window.addLast(node);
+			windowSize++;
+		}
+
+		if (expires) {
+			timeOrder.addLast(node);
+		}
+	}
+
+	private void onUpdate(Node<K, V> node) {
+		if (!node.alive) return;
+
+		// a pending addition (which precedes this task) will link the node otherwise
+		if (evicts && node.queue != Node.NONE) {
+			sketch.increment(node.key);
+			reorder(node);
+		}
+
+		if (expires && timeOrder.contains(node)) {
+			timeOrder.moveToBack(node);
+		}
+	}
+
+	private void onRemove(Node<K, V> node) {
+		switch (node.queue) {
+			case Node.WINDOW:
+				window.unlink(node);
+				windowSize--;
+				break;
+			case Node.PROBATION:
+				probation.unlink(node);
+				mainSize--;
+				break;
+			case Node.PROTECTED:
+				protectedSegment.unlink(node);
+				protectedSize--;
+				mainSize--;
+				break;
+			default:
+				break;
+		}
+		node.queue = Node.NONE;
+
+		if (expires && timeOrder.contains(node)) {
+			timeOrder.unlink(node);
+		}
+	}
+
+	private void reorder(Node<K, V> node) {
+		switch (node.queue) {
+			case Node.WINDOW:
+				window.moveToBack(node);
+				break;
+			case Node.PROBATION:
+				// promote upon the second access, demoting the least recent protected entries if necessary
+				probation.unlink(node);
+				node.queue = Node.PROTECTED;
+				protectedSegment.addLast(node);
+				protectedSize++;
+
+				while (protectedSize > protectedMaximum) {
+					Node<K, V> demoted = protectedSegment.pollFirst();
+					if (demoted == null) break;
+					demoted.queue = Node.PROBATION;
+					probation.addLast(demoted);
+					protectedSize--;
+				}
+				break;
+			case Node.PROTECTED:
+				protectedSegment.moveToBack(node);
+				break;
+			default:
+				break;
+		}
+	}
+
+	private void expireEntries(long now) {
+		if (!expires) return;
+
+		Node<K, V> node;
+		while ((node = timeOrder.peekFirst()) != null && hasExpired(node, now)) {
+			if (!evict(node, RemovalCause.TIME, now) && timeOrder.contains(node)) {
+				timeOrder.moveToBack(node); // refreshed concurrently
+			}
+		}
+	}
+
+	private void evictEntries() {
+		if (!evicts) return;
+
+		// entries that overflow the window must win against the coldest entry of the main space
+		while (windowSize > windowMaximum) {
+			Node<K, V> candidate = window.pollFirst();
+			if (candidate == null) break;
+			windowSize--;
+			candidate.queue = Node.PROBATION;
+			probation.addLast(candidate);
+			mainSize++;
+
+			if (windowSize + mainSize > maximum) {
+				Node<K, V> victim = probation.peekFirst();
+				if (victim == candidate) victim = protectedSegment.peekFirst();
+				if (victim == null || sketch.frequency(candidate.key) <= sketch.frequency(victim.key)) {
+					evict(candidate, RemovalCause.SIZE, 0L);
+				} else {
+					evict(victim, RemovalCause.SIZE, 0L);
+				}
+			}
+		}
+
+		// fallback to plain lru, in case the capacity is smaller than the window
+		while (windowSize + mainSize > maximum) {
+			Node<K, V> victim = probation.peekFirst();
+			if (victim == null) victim = protectedSegment.peekFirst();
+			if (victim == null) victim = window.peekFirst();
+			if (victim == null) break;
+			evict(victim, RemovalCause.SIZE, 0L);
+		}
+	}
+
+	/**
+	 * Unlinks the node from the policy, and removes it from the map unless it was concurrently removed (or refreshed, for expiration).
+	 *
+	 * @return whether the node was unlinked
+	 */
+	private boolean evict(Node<K, V> node, RemovalCause cause, long now) {
+		Object[] removed = new Object[1];
+		boolean[] refreshed = new boolean[1];
+		data.computeIfPresent(node.key, (k, n) -> {
+			if (n != node) return n;
+			if (cause == RemovalCause.TIME && !hasExpired(n, now)) {
+				refreshed[0] = true;
+				return n;
+			}
+			n.alive = false;
+			removed[0] = n.value;
+			return null;
+		});
+
+		if (refreshed[0]) return false;
+		onRemove(node);
+
+		if (removed[0] != null && listener != null) {
+			@SuppressWarnings("unchecked")
+			V value = (V) removed[0];
+			pendingRemovals.add(new Removal<>(node.key, value, cause));
+		}
+		return true;
+	}
+
+	private boolean hasExpired(Node<K, V> node, long now) {
+		return expires && node.expiresAt - now <= 0;
+	}
+
+	private void notifyRemovals(List<Removal<K, V>> removals) {
+		for (Removal<K, V> removal : removals) {
+			listener.onRemoval(removal.key, removal.value, removal.cause);
+		}
+	}
+
+	private static long saturatedNanos(Duration duration) {
+		try {
+			return Math.min(duration.toNanos(), MAXIMUM_EXPIRY);
+		} catch (ArithmeticException e) {
+			return MAXIMUM_EXPIRY;
+		}
+	}
+
+	private static final class Outcome<V> {
+		V previous;
+		V value;
+		V removed;
+		RemovalCause cause;
+	}
+
+	private static final class Removal<K, V> {
+		final K key;
+		final V value;
+		final RemovalCause cause;
+
+		Removal(K key, V value, RemovalCause cause) {
+			this.key = key;
+			this.value = value;
+			this.cause = cause;
+		}
+	}
+
+}
@@ -0,0 +1,56 @@
+package io.github.xanthic.cache.core.tinylfu;
+
+import io.github.xanthic.cache.api.Cache;
+import io.github.xanthic.cache.api.ICacheSpec;
+import io.github.xanthic.cache.core.AbstractCacheProvider;
+import io.github.xanthic.cache.core.CacheApiSettings;
+import io.github.xanthic.cache.core.MaintenanceScheduler;
+
+import java.time.Duration;
+
+/**
+ * Provides {@link Cache} instances using a built-in, dependency-free implementation of Window TinyLFU.
+ * <p>
+ * Supports size and time-based eviction, with reads that never block.
+ * Expired entries are removed during amortized maintenance, and periodically when a removal listener is specified
+ * (on {@link ICacheSpec#executor()}, or the shared {@link MaintenanceScheduler} if unspecified).
+ * <p>
+ * This provider is not discovered via the service loader,
+ * but is used by {@link CacheApiSettings#getDefaultCacheProvider()} when no other provider has been registered.
+ * Consider using Caffeine for more features (e.g., weights) and maturity.
+ */
+public final class TinyLfuProvider extends AbstractCacheProvider {
+
+	@Override
+	public <K, V> Cache<K, V> build(ICacheSpec<K, V> spec) {
+		return buildWithGenericStats(spec, this::buildTinyLfu);
+	}
+
+	private <K, V> Cache<K, V> buildTinyLfu(ICacheSpec<K, V> spec) {
+		handleUnsupportedWeight(spec.maxWeight());
+		handleUnsupportedSetting(spec.expiryCalculator(), "Per-entry expiry");
+		handleUnsupportedSetting(spec.maxOffHeapBytes(), "Off-heap storage");
+		handleUnsupportedSetting(spec.diskDirectory(), "Disk storage");
+
+		Duration expiryTime = spec.expiryTime();
+		TinyLfuCache<K, V> cache = new TinyLfuCache<>(
+			spec.maxSize(),
+			expiryTime,
+			expiryTime != null ? getExpiryType(spec.expiryType()) : null,
+			spec.removalListener(),
+			Boolean.TRUE.equals(spec.highContention())
+		);
+
+		// background maintenance for prompt expiration events, since expiry is otherwise amortized across reads and writes
+		if (spec.removalListener() != null && expiryTime != null && !expiryTime.isZero()) {
+			cache.scheduleCleanUp(
+				MaintenanceScheduler.getOrDefault(spec.executor()),
+				expiryTime.toNanos(),
+				Math.min(expiryTime.toNanos(), Duration.ofMinutes(1L).toNanos())
+			);
+		}
+
+		return cache;
+	}
+
+}
@@ -0,0 +1,85 @@
+package io.github.xanthic.cache.core;
+
+import io.github.xanthic.cache.api.domain.RemovalCause;
+import io.github.xanthic.cache.api.domain.RemovalOverflowPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BatchingRemovalListenerTest {
+	private static final int OVERFLOW = 10;
+
+	@Test
+	@DisplayName("Test that overflowing events are delivered on the caller thread with CALLER_RUNS")
+	public void callerRunsTest() {
+		List<Integer> removed = new ArrayList<>();
+		List<Runnable> tasks = new ArrayList<>();
+		BatchingRemovalListener<Integer, Integer> listener = new BatchingRemovalListener<>(
+			(key, value, cause) -> removed.add(key), null, null, tasks::add, RemovalOverflowPolicy.CALLER_RUNS
+		);
+
+		// Fill the buffer while the drain is pending, such that the overflow is delivered immediately
+		int total = BatchingRemovalListener.BUFFER_CAPACITY + OVERFLOW;
+		for (int i = 0; i < total; i++) {
+			listener.onRemoval(i, i, RemovalCause.SIZE);
+		}
+		assertEquals(1, tasks.size());
+		assertEquals(OVERFLOW, removed.size());
+		assertEquals(BatchingRemovalListener.BUFFER_CAPACITY, removed.get(0));
+
+		// Ensure the buffered events are delivered by the drain
+		tasks.remove(0).run();
+		assertEquals(total, removed.size());
+		assertTrue(tasks.isEmpty());
+	}
+
+	@Test
+	@DisplayName("Test that overflowing events are dropped with DISCARD")
+	public void discardTest() {
+		List<Integer> removed = new ArrayList<>();
+		List<Runnable> tasks = new ArrayList<>();
+		BatchingRemovalListener<Integer, Integer> listener = new BatchingRemovalListener<>(
+			(key, value, cause) -> removed.add(key), null, null, tasks::add, RemovalOverflowPolicy.DISCARD
+		);
+
+		// Fill the buffer while the drain is pending
+		for (int i = 0; i < BatchingRemovalListener.BUFFER_CAPACITY + OVERFLOW; i++) {
+			listener.onRemoval(i, i, RemovalCause.SIZE);
+		}
+		assertEquals(1, tasks.size());
+		assertTrue(removed.isEmpty());
+
+		// Ensure only the buffered events are delivered, in order
+		tasks.remove(0).run();
+		assertEquals(BatchingRemovalListener.BUFFER_CAPACITY, removed.size());
+		for (int i = 0; i < removed.size(); i++) {
+			assertEquals(i, removed.get(i));
+		}
+	}
+
+	@Test
+	@DisplayName("Test that events are drained in bounded batches on the caller thread once the executor rejects tasks")
+	public void rejectedExecutionTest() {
+		List<Integer> batchSizes = new ArrayList<>();
+		BatchingRemovalListener<Integer, Integer> listener = new BatchingRemovalListener<>(
+			null, events -> batchSizes.add(events.size()), null, task -> {
+				throw new RejectedExecutionException("shut down");
+			}, RemovalOverflowPolicy.DISCARD
+		);
+
+		for (int i = 0; i < 3; i++) {
+			listener.onRemoval(i, i, RemovalCause.MANUAL);
+		}
+		assertEquals(3, batchSizes.size());
+		for (int size : batchSizes) {
+			assertTrue(size > 0 && size <= BatchingRemovalListener.MAX_BATCH_SIZE);
+		}
+	}
+
+}
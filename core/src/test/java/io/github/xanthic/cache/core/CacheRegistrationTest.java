@@ -2,8 +2,8 @@ package io.github.xanthic.cache.core;
 
 import io.github.xanthic.cache.api.Cache;
 import io.github.xanthic.cache.api.CacheProvider;
-import io.github.xanthic.cache.api.exception.NoDefaultCacheImplementationException;
 import io.github.xanthic.cache.core.provider.SimpleMapProvider;
+import io.github.xanthic.cache.core.tinylfu.TinyLfuProvider;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Assertions;
@@ -17,8 +17,6 @@ import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 
-import static org.junit.jupiter.api.Assertions.assertThrows;
-
 @Slf4j
 public class CacheRegistrationTest {
 
@@ -42,17 +40,24 @@ public class CacheRegistrationTest {
 	}
 
 	@Test
-	@DisplayName("Test that NoDefaultCacheImplementationException is thrown when default cache provider is not set")
-	void noDefaultCacheImplementationError() {
-		Exception exception = assertThrows(NoDefaultCacheImplementationException.class, () -> {
-			Cache<String, Integer> cache = CacheApi.create(spec -> {
-				spec.maxSize(32L);
-				spec.expiryTime(Duration.ofMinutes(1));
-				spec.removalListener((key, value, cause) -> log.info(key + ":" + value + "=" + cause));
-			});
+	@DisplayName("Test that the built-in provider is used when default cache provider is not set")
+	void builtInFallbackTest() {
+		// check fallback
+		CacheProvider defaultCacheProvider = CacheApiSettings.getInstance().getDefaultCacheProvider();
+		Assertions.assertEquals(TinyLfuProvider.class, defaultCacheProvider.getClass());
+
+		// init cache
+		Cache<String, Integer> cache = CacheApi.create(spec -> {
+			spec.maxSize(32L);
+			spec.expiryTime(Duration.ofMinutes(1));
+			spec.removalListener((key, value, cause) -> log.info(key + ":" + value + "=" + cause));
 		});
+		cache.put("1", 1);
+		Assertions.assertEquals(1, cache.get("1"));
 
-		Assertions.assertEquals("default cache provider is not set, no cache implementations available!", exception.getMessage());
+		// ensure the fallback does not prevent registration of a default
+		CacheApiSettings.getInstance().registerCacheProvider(SimpleMapProvider.class, new SimpleMapProvider());
+		Assertions.assertEquals(SimpleMapProvider.class, CacheApiSettings.getInstance().getDefaultCacheProvider().getClass());
 	}
 
 	@Test
@@ -0,0 +1,117 @@
+package io.github.xanthic.cache.core;
+
+import io.github.xanthic.cache.api.Cache;
+import io.github.xanthic.cache.api.CacheSerializer;
+import io.github.xanthic.cache.core.delegate.GenericMapCacheDelegate;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CacheSnapshotsTest {
+
+	@Test
+	@DisplayName("Test that snapshots are loaded from coldest to hottest, after selecting the hottest entries")
+	public void loadOrderTest(@TempDir Path directory) throws IOException {
+		// insertion order stands in for the eviction order, with the first entry being the hottest
+		Cache<String, Integer> cache = new GenericMapCacheDelegate<>(new LinkedHashMap<>());
+		for (int i = 0; i < 8; i++) {
+			cache.put(String.valueOf(i), i);
+		}
+
+		Path file = directory.resolve("cache.snapshot");
+		assertEquals(8, CacheSnapshots.save(cache, file, CacheSnapshots.javaSerializer(), CacheSnapshots.javaSerializer()));
+
+		Map<String, Integer> restored = new LinkedHashMap<>();
+		assertEquals(8, CacheSnapshots.load(new GenericMapCacheDelegate<>(restored), file, CacheSnapshots.javaSerializer(), CacheSnapshots.javaSerializer()));
+		assertEquals(Arrays.asList("7", "6", "5", "4", "3", "2", "1", "0"), new ArrayList<>(restored.keySet()));
+
+		Map<String, Integer> partial = new LinkedHashMap<>();
+		assertEquals(3, CacheSnapshots.load(new GenericMapCacheDelegate<>(partial), file, CacheSnapshots.javaSerializer(), CacheSnapshots.javaSerializer(), 3L));
+		assertEquals(Arrays.asList("2", "1", "0"), new ArrayList<>(partial.keySet()));
+	}
+
+	@Test
+	@DisplayName("Test that a failed save neither leaves a temporary file behind nor replaces the existing snapshot")
+	public void failedSaveTest(@TempDir Path directory) throws IOException {
+		Path file = directory.resolve("cache.snapshot");
+		byte[] existing = { 1, 2, 3 };
+		Files.write(file, existing);
+
+		Cache<String, Integer> cache = new GenericMapCacheDelegate<>(new LinkedHashMap<>());
+		cache.put("1", 1);
+		CacheSerializer<Integer> failing = new CacheSerializer<Integer>() {
+			@NotNull
+			@Override
+			public byte[] serialize(@NotNull Integer object) {
+				throw new UncheckedIOException(new IOException("failed to serialize"));
+			}
+
+			@NotNull
+			@Override
+			public Integer deserialize(@NotNull byte[] bytes) {
+				throw new UnsupportedOperationException();
+			}
+		};
+
+		assertThrows(IOException.class, () -> CacheSnapshots.save(cache, file, CacheSnapshots.javaSerializer(), failing));
+		assertFalse(Files.exists(directory.resolve("cache.snapshot.tmp")));
+		assertArrayEquals(existing, Files.readAllBytes(file));
+	}
+
+	@Test
+	@DisplayName("Test that record lengths which are negative or exceed the file are rejected")
+	public void corruptLengthTest(@TempDir Path directory) throws IOException {
+		Path negative = directory.resolve("negative.snapshot");
+		writeHeader(negative, -2);
+		Path oversized = directory.resolve("oversized.snapshot");
+		writeHeader(oversized, Integer.MAX_VALUE);
+
+		Cache<String, Integer> cache = new GenericMapCacheDelegate<>(new LinkedHashMap<>());
+		assertThrows(StreamCorruptedException.class, () -> CacheSnapshots.load(cache, negative, CacheSnapshots.javaSerializer(), CacheSnapshots.javaSerializer()));
+		assertThrows(StreamCorruptedException.class, () -> CacheSnapshots.load(cache, oversized, CacheSnapshots.javaSerializer(), CacheSnapshots.javaSerializer()));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	@DisplayName("Test that a truncated snapshot propagates the read failure without inserting the incomplete batch")
+	public void truncatedLoadTest(@TempDir Path directory) throws IOException {
+		Cache<String, Integer> cache = new GenericMapCacheDelegate<>(new LinkedHashMap<>());
+		for (int i = 0; i < 8; i++) {
+			cache.put(String.valueOf(i), i);
+		}
+
+		Path file = directory.resolve("cache.snapshot");
+		CacheSnapshots.save(cache, file, CacheSnapshots.javaSerializer(), CacheSnapshots.javaSerializer());
+		byte[] bytes = Files.readAllBytes(file);
+		Files.write(file, Arrays.copyOf(bytes, bytes.length - 10));
+
+		Cache<String, Integer> restored = new GenericMapCacheDelegate<>(new LinkedHashMap<>());
+		assertThrows(IOException.class, () -> CacheSnapshots.load(restored, file, CacheSnapshots.javaSerializer(), CacheSnapshots.javaSerializer()));
+		assertEquals(0, restored.size());
+	}
+
+	private static void writeHeader(Path file, int keyLength) throws IOException {
+		try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+			out.writeInt(0x58435331); // magic
+			out.writeInt(keyLength);
+		}
+	}
+
+}
@@ -0,0 +1,51 @@
+package io.github.xanthic.cache.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MaintenanceSchedulerTest {
+
+	@Test
+	@DisplayName("Test that the shared scheduler runs tasks on daemon threads")
+	public void daemonTest() throws Exception {
+		ScheduledFuture<Boolean> daemon = MaintenanceScheduler.get().schedule(() -> Thread.currentThread().isDaemon(), 0L, TimeUnit.NANOSECONDS);
+		assertTrue(daemon.get(30, TimeUnit.SECONDS));
+	}
+
+	@Test
+	@DisplayName("Test that exceptions thrown by the action do not suppress subsequent executions")
+	public void exceptionTest() throws InterruptedException {
+		CountDownLatch executions = new CountDownLatch(3);
+		Object target = new Object();
+		ScheduledFuture<?> future = MaintenanceScheduler.scheduleWeakly(MaintenanceScheduler.get(), target, t -> {
+			executions.countDown();
+			throw new IllegalStateException("maintenance failure");
+		}, 0L, TimeUnit.MILLISECONDS.toNanos(10L));
+
+		try {
+			assertTrue(executions.await(30, TimeUnit.SECONDS));
+		} finally {
+			future.cancel(false);
+		}
+	}
+
+	@Test
+	@DisplayName("Test that weakly scheduled tasks cancel themselves once the target is garbage collected")
+	public void weakTargetTest() throws InterruptedException {
+		ScheduledFuture<?> future = MaintenanceScheduler.scheduleWeakly(MaintenanceScheduler.get(), new Object(), t -> {}, 0L, TimeUnit.MILLISECONDS.toNanos(10L));
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30L);
+		while (!future.isDone() && System.nanoTime() - deadline < 0) {
+			System.gc();
+			Thread.sleep(10L);
+		}
+		assertTrue(future.isCancelled());
+	}
+
+}
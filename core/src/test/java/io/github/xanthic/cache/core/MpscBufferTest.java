@@ -0,0 +1,98 @@
+package io.github.xanthic.cache.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MpscBufferTest {
+
+	@Test
+	@DisplayName("Test that elements are drained in order as the indices wrap around the ring")
+	public void wraparoundTest() {
+		MpscBuffer<Integer> buffer = new MpscBuffer<>(4);
+		List<Integer> drained = new ArrayList<>();
+
+		for (int round = 0; round < 10; round++) {
+			for (int i = 0; i < 3; i++) {
+				assertTrue(buffer.offer(round * 3 + i));
+			}
+			assertTrue(buffer.hasPublished());
+			assertEquals(3, buffer.drainTo(drained::add, Integer.MAX_VALUE));
+			assertTrue(buffer.isEmpty());
+			assertFalse(buffer.hasPublished());
+		}
+
+		for (int i = 0; i < drained.size(); i++) {
+			assertEquals(i, drained.get(i));
+		}
+		assertEquals(30, drained.size());
+	}
+
+	@Test
+	@DisplayName("Test that offers are rejected once the buffer is full, until the consumer frees a slot")
+	public void fullBufferTest() {
+		MpscBuffer<Integer> buffer = new MpscBuffer<>(3);
+		assertEquals(4, buffer.capacity());
+
+		for (int i = 0; i < 4; i++) {
+			assertTrue(buffer.offer(i));
+		}
+		assertFalse(buffer.offer(4));
+
+		List<Integer> drained = new ArrayList<>();
+		assertEquals(1, buffer.drainTo(drained::add, 1));
+		assertTrue(buffer.offer(4));
+		assertFalse(buffer.offer(5));
+
+		assertEquals(4, buffer.drainTo(drained::add, Integer.MAX_VALUE));
+		assertEquals(Arrays.asList(0, 1, 2, 3, 4), drained);
+	}
+
+	@Test
+	@DisplayName("Test that concurrent producers neither lose nor reorder their own elements")
+	public void concurrentProducersTest() throws InterruptedException {
+		int producers = 4;
+		int perProducer = 100_000;
+		MpscBuffer<long[]> buffer = new MpscBuffer<>(64);
+
+		Thread[] threads = new Thread[producers];
+		for (int p = 0; p < producers; p++) {
+			long producer = p;
+			threads[p] = new Thread(() -> {
+				for (long i = 0; i < perProducer; i++) {
+					long[] element = { producer, i };
+					while (!buffer.offer(element)) {
+						Thread.yield();
+					}
+				}
+			});
+			threads[p].setDaemon(true);
+			threads[p].start();
+		}
+
+		long[] next = new long[producers];
+		long received = 0;
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30L);
+		while (received < (long) producers * perProducer && System.nanoTime() - deadline < 0) {
+			received += buffer.drainTo(element -> {
+				int producer = (int) element[0];
+				assertEquals(next[producer]++, element[1]);
+			}, Integer.MAX_VALUE);
+		}
+		for (Thread thread : threads) {
+			thread.join(TimeUnit.SECONDS.toMillis(30L));
+		}
+
+		assertEquals((long) producers * perProducer, received);
+		assertTrue(buffer.isEmpty());
+	}
+
+}
@@ -0,0 +1,136 @@
+package io.github.xanthic.cache.core;
+
+import io.github.xanthic.cache.api.IntKeyCache;
+import io.github.xanthic.cache.api.LongKeyCache;
+import io.github.xanthic.cache.api.domain.ExpiryType;
+import io.github.xanthic.cache.api.domain.MisconfigurationPolicy;
+import io.github.xanthic.cache.api.domain.RemovalCause;
+import io.github.xanthic.cache.api.exception.MisconfiguredCacheException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PrimitiveCacheApiTest {
+
+	@Test
+	@DisplayName("Test that long-keyed caches support the basic operations")
+	public void longKeyedTest() {
+		LongKeyCache<String> cache = PrimitiveCacheApi.createLongKeyed(spec -> {});
+
+		for (long i = -1000; i < 1000; i++) {
+			assertNull(cache.put(i * Integer.MAX_VALUE, String.valueOf(i)));
+		}
+		assertEquals(2000, cache.size());
+		assertEquals("42", cache.get(42L * Integer.MAX_VALUE));
+		assertEquals("42", cache.put(42L * Integer.MAX_VALUE, "foo"));
+		assertEquals("foo", cache.putIfAbsent(42L * Integer.MAX_VALUE, "bar"));
+		assertEquals("foo", cache.remove(42L * Integer.MAX_VALUE));
+		assertNull(cache.get(42L * Integer.MAX_VALUE));
+		assertEquals("baz", cache.computeIfAbsent(42L * Integer.MAX_VALUE, key -> "baz"));
+		assertEquals("baz", cache.computeIfAbsent(42L * Integer.MAX_VALUE, key -> "qux"));
+		assertNull(cache.computeIfAbsent(Long.MIN_VALUE, key -> null));
+		assertEquals(2000, cache.size());
+
+		cache.clear();
+		assertEquals(0, cache.size());
+		assertNull(cache.get(0L));
+	}
+
+	@Test
+	@DisplayName("Test that least recently used entries are evicted once the max size is reached")
+	public void sizeEvictionTest() {
+		List<Integer> evicted = new ArrayList<>();
+		IntKeyCache<Integer> cache = PrimitiveCacheApi.createIntKeyed(spec -> {
+			spec.maxSize(3L);
+			spec.removalListener((key, value, cause) -> {
+				if (cause == RemovalCause.SIZE) evicted.add(key);
+			});
+		});
+
+		cache.put(1, 1);
+		cache.put(2, 2);
+		cache.put(3, 3);
+		cache.get(1);
+		cache.put(4, 4);
+		cache.put(5, 5);
+
+		assertEquals(3, cache.size());
+		assertEquals(1, cache.get(1));
+		assertNull(cache.get(2));
+		assertNull(cache.get(3));
+		assertEquals(2, evicted.size());
+		assertEquals(2, evicted.get(0));
+		assertEquals(3, evicted.get(1));
+	}
+
+	@Test
+	@DisplayName("Test that concurrent writers across segments neither lose entries nor exceed the max size")
+	public void concurrentTest() throws InterruptedException {
+		LongKeyCache<Long> unbounded = PrimitiveCacheApi.createLongKeyed(spec -> {});
+		LongKeyCache<Long> bounded = PrimitiveCacheApi.createLongKeyed(spec -> spec.maxSize(1000L));
+
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			long offset = t * 10_000L;
+			threads[t] = new Thread(() -> {
+				for (long i = offset; i < offset + 10_000L; i++) {
+					unbounded.put(i, i);
+					bounded.put(i, i);
+					assertEquals(Long.valueOf(i), unbounded.get(i));
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertEquals(40_000, unbounded.size());
+		assertEquals(1000, bounded.size());
+	}
+
+	@Test
+	@DisplayName("Test that entries expire after the configured duration")
+	public void expiryTest() throws InterruptedException {
+		Map<Long, RemovalCause> removals = new ConcurrentHashMap<>();
+		LongKeyCache<String> cache = PrimitiveCacheApi.createLongKeyed(spec -> {
+			spec.expiryTime(Duration.ofMillis(100L));
+			spec.expiryType(ExpiryType.POST_WRITE);
+			spec.removalListener((key, value, cause) -> removals.put(key, cause));
+		});
+
+		cache.put(1L, "a");
+		assertEquals("a", cache.get(1L));
+
+		Thread.sleep(150L);
+		assertNull(cache.get(1L));
+		assertEquals(RemovalCause.TIME, removals.get(1L));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	@DisplayName("Test that unsupported settings are rejected")
+	public void unsupportedSettingTest() {
+		assertThrows(MisconfiguredCacheException.class, () -> PrimitiveCacheApi.<String>createLongKeyed(spec -> spec.maxSize(-1L)));
+
+		CacheApiSettings settings = CacheApiSettings.getInstance();
+		MisconfigurationPolicy policy = settings.getDefaultMisconfigurationPolicy();
+		settings.setDefaultMisconfigurationPolicy(MisconfigurationPolicy.REJECT);
+		try {
+			assertThrows(MisconfiguredCacheException.class, () -> PrimitiveCacheApi.<String>createLongKeyed(spec -> spec.loader(key -> "value")));
+			assertThrows(MisconfiguredCacheException.class, () -> PrimitiveCacheApi.<String>createLongKeyed(spec -> spec.expiryTime(Duration.ofMinutes(1L))));
+		} finally {
+			settings.setDefaultMisconfigurationPolicy(policy);
+		}
+	}
+
+}
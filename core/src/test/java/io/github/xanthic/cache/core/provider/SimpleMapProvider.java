@@ -14,7 +14,7 @@ public final class SimpleMapProvider extends AbstractCacheProvider {
 
 	@Override
 	public <K, V> Cache<K, V> build(ICacheSpec<K, V> spec) {
-		return new GenericMapCacheDelegate<>(new HashMap<>());
+		return buildWithGenericStats(spec, s -> new GenericMapCacheDelegate<>(new HashMap<>()));
 	}
 
 }
@@ -1,6 +1,13 @@
 package io.github.xanthic.cache.core.provider;
 
+import io.github.xanthic.cache.api.Cache;
+import io.github.xanthic.cache.api.domain.CacheStats;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
 
 public class SimpleMapProviderTest extends ProviderTestBase {
 
@@ -8,6 +15,22 @@ public class SimpleMapProviderTest extends ProviderTestBase {
 		super(new SimpleMapProvider());
 	}
 
+	@Test
+	@DisplayName("Test that generic statistics count each distinct key of getAll once")
+	public void genericStatsGetAllTest() {
+		// Build cache with generic statistics
+		Cache<String, Integer> cache = build(spec -> spec.recordStats(true));
+		cache.put("1", 1);
+
+		// Perform a bulk lookup with duplicate keys
+		cache.getAll(Arrays.asList("1", "1", "2", "2", "2"));
+
+		// Ensure duplicates were not counted
+		CacheStats stats = cache.stats();
+		Assertions.assertEquals(1, stats.getHitCount());
+		Assertions.assertEquals(1, stats.getMissCount());
+	}
+
 	@Disabled
 	@Override
 	public void sizeEvictionTest() {
@@ -44,10 +67,52 @@ public class SimpleMapProviderTest extends ProviderTestBase {
 		// skip test; SimpleMapProvider does not implement removal listener
 	}
 
+	@Disabled
+	@Override
+	public void removalCausesTest() {
+		// skip test; SimpleMapProvider does not implement removal listener
+	}
+
+	@Disabled
+	@Override
+	public void batchRemovalListenerTest() {
+		// skip test; SimpleMapProvider does not implement removal listener
+	}
+
 	@Disabled
 	@Override
 	public void registeredAsDefaultTest() {
 		// skip test; SimpleMapProvider is deliberately not automatically set as a possible default
 	}
 
+	@Disabled
+	@Override
+	public void weightEvictionTest() {
+		// skip test; SimpleMapProvider does not implement a weight constraint
+	}
+
+	@Disabled
+	@Override
+	public void weightBoundTest() {
+		// skip test; SimpleMapProvider does not implement any constraints
+	}
+
+	@Disabled
+	@Override
+	public void variableExpiryTest() {
+		// skip test; per-entry expiry is not supported
+	}
+
+	@Disabled
+	@Override
+	public void putWithTtlTest() {
+		// skip test; per-entry expiry is not supported
+	}
+
+	@Disabled
+	@Override
+	public void statsEvictionTest() {
+		// skip test; SimpleMapProvider does not implement a size constraint
+	}
+
 }
@@ -0,0 +1,100 @@
+package io.github.xanthic.cache.core.tinylfu;
+
+import io.github.xanthic.cache.api.Cache;
+import io.github.xanthic.cache.api.domain.ExpiryType;
+import io.github.xanthic.cache.api.domain.RemovalCause;
+import io.github.xanthic.cache.core.provider.ProviderTestBase;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+public class TinyLfuProviderTest extends ProviderTestBase {
+
+	public TinyLfuProviderTest() {
+		super(new TinyLfuProvider());
+	}
+
+	@Test
+	@DisplayName("Test that a scan of one-hit wonders does not flush frequently accessed entries")
+	public void scanResistanceTest() {
+		final int capacity = 100;
+		Set<String> evicted = new HashSet<>();
+		Cache<String, Integer> cache = build(spec -> {
+			spec.maxSize((long) capacity);
+			spec.expiryTime(null);
+			spec.removalListener((key, value, cause) -> {
+				if (cause == RemovalCause.SIZE) evicted.add(key);
+			});
+		});
+
+		// Establish a popular working set
+		for (int round = 0; round < 4; round++) {
+			for (int i = 0; i < capacity / 2; i++) {
+				cache.computeIfAbsent("hot" + i, key -> 0);
+			}
+		}
+
+		// Scan through many distinct keys
+		for (int i = 0; i < capacity * 10; i++) {
+			cache.put("scan" + i, i);
+		}
+
+		// Ensure the working set survived, and that the capacity was respected
+		for (int i = 0; i < capacity / 2; i++) {
+			Assertions.assertFalse(evicted.contains("hot" + i));
+			Assertions.assertNotNull(cache.get("hot" + i));
+		}
+		Assertions.assertEquals(capacity, cache.size());
+	}
+
+	@Test
+	@DisplayName("Test that writing the current value instance resets its expiry, whereas reading it does not")
+	public void rewriteSameValueTest() throws InterruptedException {
+		Cache<String, Object> cache = build(spec -> {
+			spec.expiryTime(Duration.ofMillis(500L));
+			spec.expiryType(ExpiryType.POST_WRITE);
+		});
+		Object value = new Object();
+		cache.put("a", value);
+		cache.put("b", value);
+
+		Thread.sleep(300L);
+		Assertions.assertSame(value, cache.put("a", value));
+		Assertions.assertTrue(cache.replace("a", value, value));
+		Assertions.assertSame(value, cache.putIfAbsent("b", value));
+
+		Thread.sleep(300L);
+		Assertions.assertSame(value, cache.get("a"));
+		Assertions.assertNull(cache.get("b"));
+	}
+
+	@Disabled
+	@Override
+	public void registeredAsDefaultTest() {
+		// skip test; TinyLfuProvider is only a fallback, rather than automatically registered as a default
+	}
+
+	@Disabled
+	@Override
+	public void weightEvictionTest() {
+		// skip test; TinyLfuProvider does not implement a weight constraint
+	}
+
+	@Disabled
+	@Override
+	public void variableExpiryTest() {
+		// skip test; per-entry expiry is not supported
+	}
+
+	@Disabled
+	@Override
+	public void putWithTtlTest() {
+		// skip test; per-entry expiry is not supported
+	}
+
+}
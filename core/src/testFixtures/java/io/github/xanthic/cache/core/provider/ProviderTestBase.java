@@ -1,25 +1,49 @@
 package io.github.xanthic.cache.core.provider;
 
+import io.github.xanthic.cache.api.AsyncCache;
 import io.github.xanthic.cache.api.Cache;
+import io.github.xanthic.cache.api.CacheLoader;
 import io.github.xanthic.cache.api.CacheProvider;
+import io.github.xanthic.cache.api.LoadingCache;
+import io.github.xanthic.cache.api.domain.CacheStats;
 import io.github.xanthic.cache.api.domain.ExpiryType;
 import io.github.xanthic.cache.api.domain.RemovalCause;
+import io.github.xanthic.cache.api.exception.CacheLoadingException;
+import io.github.xanthic.cache.api.exception.MisconfiguredCacheException;
 import io.github.xanthic.cache.core.CacheApi;
 import io.github.xanthic.cache.core.CacheApiSettings;
 import io.github.xanthic.cache.core.CacheApiSpec;
+import io.github.xanthic.cache.core.CacheSnapshots;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import static org.awaitility.Awaitility.await;
 
@@ -135,6 +159,228 @@ public abstract class ProviderTestBase {
 		Assertions.assertNull(cache.get("9"));
 	}
 
+	@Test
+	@DisplayName("Tests cache getAll")
+	public void getAllTest() {
+		// Build cache
+		Cache<String, Integer> cache = build(null);
+
+		// Ensure nothing is yielded when cache is empty
+		Assertions.assertTrue(cache.getAll(Arrays.asList("0", "1")).isEmpty());
+
+		// Populate cache
+		for (int i = 0; i < 4; i++) {
+			cache.put(String.valueOf(i), i);
+		}
+
+		// Test that only present keys are yielded
+		Map<String, Integer> expected = new HashMap<>();
+		expected.put("1", 1);
+		expected.put("3", 3);
+		Assertions.assertEquals(expected, cache.getAll(Arrays.asList("1", "3", "5")));
+	}
+
+	@Test
+	@DisplayName("Tests cache removeAll")
+	public void removeAllTest() {
+		// Build cache
+		Cache<String, Integer> cache = build(null);
+
+		// Populate cache
+		for (int i = 0; i < 4; i++) {
+			cache.put(String.valueOf(i), i);
+		}
+
+		// Remove a mix of present and absent keys
+		cache.removeAll(Arrays.asList("1", "3", "5"));
+
+		// Test that only the requested keys were removed
+		Assertions.assertEquals(2L, cache.size());
+		Assertions.assertNull(cache.get("1"));
+		Assertions.assertNull(cache.get("3"));
+		Assertions.assertEquals(0, cache.get("0"));
+		Assertions.assertEquals(2, cache.get("2"));
+	}
+
+	@Test
+	@DisplayName("Tests that cache estimatedSize converges to the exact size")
+	public void estimatedSizeTest() {
+		// Build cache
+		Cache<String, Integer> cache = build(null);
+
+		// Populate cache
+		for (int i = 0; i < 8; i++) {
+			cache.put(String.valueOf(i), i);
+		}
+		cache.put("0", 100); // replacement
+
+		// Test estimate after insertions (which may be counted asynchronously)
+		Assertions.assertEquals(8L, cache.size());
+		await().atMost(5, TimeUnit.SECONDS).until(() -> cache.estimatedSize() == 8L);
+
+		// Test estimate after removals
+		cache.remove("1");
+		cache.remove("2");
+		await().atMost(5, TimeUnit.SECONDS).until(() -> cache.estimatedSize() == 6L);
+
+		// Test estimate after clear
+		cache.clear();
+		await().atMost(5, TimeUnit.SECONDS).until(() -> cache.estimatedSize() == 0L);
+	}
+
+	@Test
+	@DisplayName("Tests async cache getAsync and computeIfAbsentAsync with in-flight deduplication")
+	public void asyncTest() throws Exception {
+		// Build cache
+		AsyncCache<String, Integer> cache = buildAsync(null);
+
+		// Ensure nothing is yielded when cache is empty
+		Assertions.assertNull(cache.getAsync("a").join());
+
+		// Issue concurrent loads for the same key while the first load is blocked
+		CountDownLatch latch = new CountDownLatch(1);
+		AtomicInteger calls = new AtomicInteger();
+		Function<String, Integer> loader = key -> {
+			calls.incrementAndGet();
+			try {
+				latch.await(30, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				throw new IllegalStateException(e);
+			}
+			return 42;
+		};
+		ExecutorService callers = Executors.newFixedThreadPool(2);
+		try {
+			Future<CompletableFuture<Integer>> first = callers.submit(() -> cache.computeIfAbsentAsync("a", loader));
+			Future<CompletableFuture<Integer>> second = callers.submit(() -> cache.computeIfAbsentAsync("a", loader));
+			latch.countDown();
+
+			// Ensure both callers observe the same value, with a single load
+			Assertions.assertEquals(42, first.get(30, TimeUnit.SECONDS).join());
+			Assertions.assertEquals(42, second.get(30, TimeUnit.SECONDS).join());
+			Assertions.assertEquals(1, calls.get());
+		} finally {
+			callers.shutdownNow();
+		}
+
+		// Ensure the loaded value is visible to both views
+		Assertions.assertEquals(42, cache.getAsync("a").join());
+		Assertions.assertEquals(42, cache.synchronous().get("a"));
+
+		// Ensure failed loads complete exceptionally without recording a mapping
+		CompletableFuture<Integer> failed = cache.computeIfAbsentAsync("b", key -> {
+			throw new IllegalStateException();
+		});
+		Assertions.assertThrows(CompletionException.class, failed::join);
+		Assertions.assertNull(cache.synchronous().get("b"));
+	}
+
+	@Test
+	@DisplayName("Tests loading cache get, getIfPresent, and bulk getAll")
+	public void loadingTest() {
+		// Build cache with a loader that records its invocations
+		AtomicInteger loads = new AtomicInteger();
+		AtomicInteger batches = new AtomicInteger();
+		Set<String> batchKeys = ConcurrentHashMap.newKeySet();
+		LoadingCache<String, Integer> cache = buildLoading(spec -> spec.loader(new CacheLoader<String, Integer>() {
+			@Override
+			public Integer load(String key) throws Exception {
+				loads.incrementAndGet();
+				if ("checked".equals(key)) throw new IOException(key);
+				return Integer.parseInt(key);
+			}
+
+			@Override
+			public Map<String, Integer> loadAll(Set<? extends String> keys) throws Exception {
+				batches.incrementAndGet();
+				batchKeys.addAll(keys);
+				return CacheLoader.super.loadAll(keys);
+			}
+		}));
+
+		// Ensure lookups that should not load do not invoke the loader
+		Assertions.assertNull(cache.getIfPresent("1"));
+		Assertions.assertEquals(-1, cache.getOrDefault("1", -1));
+		Assertions.assertEquals(0, loads.get());
+
+		// Test get loads absent values once
+		Assertions.assertEquals(1, cache.get("1"));
+		Assertions.assertEquals(1, cache.get("1"));
+		Assertions.assertEquals(1, cache.getIfPresent("1"));
+		Assertions.assertEquals(1, loads.get());
+
+		// Test getAll collapses misses into a single bulk load
+		cache.put("3", 3);
+		Map<String, Integer> expected = new HashMap<>();
+		expected.put("1", 1);
+		expected.put("3", 3);
+		expected.put("4", 4);
+		expected.put("5", 5);
+		Assertions.assertEquals(expected, cache.getAll(Arrays.asList("1", "3", "4", "5")));
+		Assertions.assertEquals(1, batches.get());
+		Assertions.assertEquals(new HashSet<>(Arrays.asList("4", "5")), batchKeys);
+		Assertions.assertEquals(5, cache.getIfPresent("5"));
+
+		// Test loader failures are propagated without recording a mapping
+		Assertions.assertThrows(NumberFormatException.class, () -> cache.get("x"));
+		CacheLoadingException e = Assertions.assertThrows(CacheLoadingException.class, () -> cache.get("checked"));
+		Assertions.assertInstanceOf(IOException.class, e.getCause());
+		Assertions.assertNull(cache.getIfPresent("x"));
+		Assertions.assertNull(cache.getIfPresent("checked"));
+	}
+
+	@Test
+	@DisplayName("Tests that a loader yielding null surfaces as CacheLoadingException")
+	public void nullLoaderTest() {
+		for (Duration refreshAfter : Arrays.asList(null, Duration.ofMinutes(1L))) {
+			// Build cache with a loader that violates its contract
+			LoadingCache<String, Integer> cache = buildLoading(spec -> spec.loader(key -> null).refreshAfter(refreshAfter));
+
+			// Ensure the violation is reported rather than returning null, without recording a mapping
+			Assertions.assertThrows(CacheLoadingException.class, () -> cache.get("1"));
+			Assertions.assertNull(cache.getIfPresent("1"));
+		}
+	}
+
+	@Test
+	@DisplayName("Tests that stale entries are served while being refreshed in the background")
+	public void refreshTest() throws InterruptedException {
+		final long refresh = 250L;
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch reloadGate = new CountDownLatch(1);
+
+		// Build cache with a loader whose reloads are blocked until released
+		LoadingCache<String, Integer> cache = buildLoading(spec -> {
+			spec.expiryTime(null);
+			spec.refreshAfter(Duration.ofMillis(refresh));
+			spec.executor(Executors.newScheduledThreadPool(Runtime.getRuntime().availableProcessors()));
+			spec.loader(new CacheLoader<String, Integer>() {
+				@Override
+				public Integer load(String key) {
+					return loads.incrementAndGet();
+				}
+
+				@Override
+				public Integer reload(String key, Integer oldValue) throws Exception {
+					reloadGate.await(30, TimeUnit.SECONDS);
+					return oldValue + 100;
+				}
+			});
+		});
+
+		// Load the initial value
+		Assertions.assertEquals(1, cache.get("a"));
+
+		// Ensure the stale value is yielded while the reload is in progress
+		Thread.sleep(refresh * 2);
+		Assertions.assertEquals(1, cache.get("a"));
+
+		// Ensure the reloaded value eventually replaces the stale value, without another load
+		reloadGate.countDown();
+		await().atMost(30, TimeUnit.SECONDS).until(() -> cache.get("a") == 101);
+		Assertions.assertEquals(1, loads.get());
+	}
+
 	@Test
 	@DisplayName("Tests cache forEach")
 	public void iterateTest() {
@@ -159,6 +405,34 @@ public abstract class ProviderTestBase {
 		Assertions.assertEquals(expected, observed);
 	}
 
+	@Test
+	@DisplayName("Tests cache forEachHottest, and that snapshots restore all entries")
+	public void snapshotTest(@TempDir Path directory) throws IOException {
+		// Build cache
+		Cache<String, Integer> cache = build(null);
+
+		// Add entries
+		for (int i = 0; i < 16; i++) {
+			cache.put(String.valueOf(i), i);
+		}
+		cache.get("0");
+
+		// Ensure every entry is visited
+		Map<String, Integer> observed = new HashMap<>();
+		cache.forEachHottest(observed::put);
+		Assertions.assertEquals(16, observed.size());
+
+		// Persist and restore the entries into a new cache
+		Path file = directory.resolve("cache.snapshot");
+		Assertions.assertEquals(16, CacheSnapshots.save(cache, file, CacheSnapshots.javaSerializer(), CacheSnapshots.javaSerializer()));
+		Cache<String, Integer> restored = build(null);
+		Assertions.assertEquals(16, CacheSnapshots.load(restored, file, CacheSnapshots.javaSerializer(), CacheSnapshots.javaSerializer()));
+
+		Map<String, Integer> contents = new HashMap<>();
+		restored.forEach(contents::put);
+		Assertions.assertEquals(observed, contents);
+	}
+
 	@Test
 	@DisplayName("Test that caches with zero maximum size remain empty")
 	public void zeroMaxSizeTest() {
@@ -168,6 +442,37 @@ public abstract class ProviderTestBase {
 		Assertions.assertEquals(0, cache.size());
 	}
 
+	@Test
+	@DisplayName("Test that caches with zero maximum weight remain empty")
+	public void zeroMaxWeightTest() {
+		Cache<String, Integer> cache = build(spec -> spec.maxSize(null).maxWeight(0L).weigher((key, value) -> 1));
+		cache.put("1", 1);
+		Assertions.assertNull(cache.get("1"));
+		Assertions.assertEquals(0, cache.size());
+	}
+
+	@Test
+	@DisplayName("Test that weighted caches are either bounded or rejected, rather than unbounded")
+	public void weightBoundTest() {
+		final long maxWeight = 16L;
+
+		// Build cache, which providers without weight support must reject regardless of the misconfiguration policy
+		Cache<String, Integer> cache;
+		try {
+			cache = build(spec -> spec.maxSize(null).expiryTime(null).maxWeight(maxWeight).weigher((key, value) -> 1));
+		} catch (MisconfiguredCacheException e) {
+			return;
+		}
+
+		// Populate cache well beyond its weight bound
+		for (int i = 0; i < maxWeight * 4; i++) {
+			cache.put(String.valueOf(i), i);
+		}
+
+		// Ensure the bound is enforced
+		await().atMost(30, TimeUnit.SECONDS).until(() -> cache.size() <= maxWeight);
+	}
+
 	@Test
 	@DisplayName("Test that caches with zero time-to-live for entries remain empty")
 	public void zeroExpiryTimeTest() {
@@ -252,6 +557,157 @@ public abstract class ProviderTestBase {
 			.until(() -> cache.size() == 0);
 	}
 
+	@Test
+	@DisplayName("Test that the cache total weight does not exceed maxWeight")
+	public void weightEvictionTest() {
+		final long maxWeight = 100L;
+
+		// Build weighted cache
+		Cache<String, Integer> cache = build(spec -> {
+			spec.maxSize(null);
+			spec.maxWeight(maxWeight);
+			spec.weigher((key, value) -> value);
+		});
+
+		// Populate cache with entries whose total weight exceeds the maximum
+		for (int i = 0; i < 20; i++) {
+			cache.put(String.valueOf(i), 10);
+		}
+
+		// Ensure entries are evicted according to their weight
+		await().atMost(30, TimeUnit.SECONDS).until(() -> {
+			AtomicLong weight = new AtomicLong();
+			cache.forEach((key, value) -> weight.addAndGet(value));
+			return weight.get() <= maxWeight;
+		});
+		Assertions.assertTrue(cache.size() <= maxWeight / 10);
+	}
+
+	@Test
+	@DisplayName("Test that entries expire according to the expiry calculator")
+	public void variableExpiryTest() {
+		// Build cache where negative values (e.g., cached errors) are short-lived
+		Cache<String, Integer> cache = build(spec -> {
+			spec.expiryTime(null);
+			spec.expiryCalculator((key, value) -> value < 0 ? Duration.ofSeconds(1L) : Duration.ofHours(1L));
+			spec.executor(Executors.newSingleThreadScheduledExecutor());
+		});
+
+		// Populate cache
+		cache.put("error", -1);
+		cache.put("success", 1);
+		Assertions.assertEquals(-1, cache.get("error"));
+
+		// Ensure only the short-lived entry expires
+		await().atMost(30, TimeUnit.SECONDS).until(() -> cache.get("error") == null);
+		Assertions.assertEquals(1, cache.get("success"));
+
+		// Ensure updates recompute the expiry
+		cache.put("success", -2);
+		await().atMost(30, TimeUnit.SECONDS).until(() -> cache.get("success") == null);
+	}
+
+	@Test
+	@DisplayName("Test that put with an explicit duration overrides the expiry of that entry")
+	public void putWithTtlTest() {
+		// Build cache
+		Cache<String, Integer> cache = build(spec -> {
+			spec.expiryTime(null);
+			spec.expiryCalculator((key, value) -> Duration.ofHours(1L));
+			spec.executor(Executors.newSingleThreadScheduledExecutor());
+		});
+
+		// Populate cache
+		Assertions.assertNull(cache.put("short", 1, Duration.ofSeconds(1L)));
+		cache.put("long", 2);
+		Assertions.assertEquals(1, cache.get("short"));
+
+		// Ensure only the entry with a short duration expires
+		await().atMost(30, TimeUnit.SECONDS).until(() -> cache.get("short") == null);
+		Assertions.assertEquals(2, cache.get("long"));
+	}
+
+	@Test
+	@DisplayName("Test that lookups are recorded when statistics are enabled")
+	public void statsTest() {
+		// Build cache
+		Cache<String, Integer> cache = build(spec -> spec.recordStats(true));
+
+		// Perform lookups
+		cache.put("1", 1);
+		Assertions.assertEquals(1, cache.get("1"));
+		Assertions.assertEquals(1, cache.getOrDefault("1", 0));
+		Assertions.assertNull(cache.get("2"));
+
+		// Ensure hits and misses were counted
+		CacheStats stats = cache.stats();
+		Assertions.assertTrue(stats.getHitCount() >= 2);
+		Assertions.assertTrue(stats.getMissCount() >= 1);
+		Assertions.assertTrue(stats.hitRate() > 0.0 && stats.hitRate() < 1.0);
+
+		// Ensure statistics are not recorded by default
+		Cache<String, Integer> plain = build(null);
+		plain.put("1", 1);
+		plain.get("1");
+		Assertions.assertEquals(CacheStats.EMPTY, plain.stats());
+	}
+
+	@Test
+	@DisplayName("Test that evictions are recorded when statistics are enabled")
+	public void statsEvictionTest() {
+		// Build cache
+		Cache<String, Integer> cache = build(spec -> spec.maxSize(4L).recordStats(true));
+
+		// Populate cache beyond its capacity
+		for (int i = 0; i < 16; i++) {
+			cache.put(String.valueOf(i), i);
+		}
+
+		// Ensure evictions were counted
+		await().atMost(30, TimeUnit.SECONDS).until(() -> cache.size() <= 4 && cache.stats().getEvictionCount() > 0);
+	}
+
+	@Test
+	@DisplayName("Test that entries can be stored off-heap")
+	public void offHeapTest() {
+		Assumptions.assumeTrue(supportsOffHeap(), "provider does not support off-heap storage");
+
+		// Build cache
+		Cache<String, Integer> cache = build(spec -> spec.maxOffHeapBytes(16L * 1024 * 1024));
+
+		// Populate cache
+		for (int i = 0; i < 100; i++) {
+			cache.put(String.valueOf(i), i);
+		}
+
+		// Ensure values survive the round trip
+		for (int i = 0; i < 100; i++) {
+			Assertions.assertEquals(i, cache.get(String.valueOf(i)));
+		}
+		Assertions.assertEquals(50, cache.remove("50"));
+		Assertions.assertNull(cache.get("50"));
+		Assertions.assertEquals(99, cache.size());
+	}
+
+	@Test
+	@DisplayName("Test that entries beyond the memory capacity overflow to disk")
+	public void diskTest(@TempDir Path directory) {
+		Assumptions.assumeTrue(supportsDisk(), "provider does not support disk storage");
+
+		// Build cache
+		Cache<String, Integer> cache = build(spec -> spec.maxSize(10L).diskDirectory(directory).maxDiskBytes(64L * 1024 * 1024));
+
+		// Populate cache beyond its heap capacity
+		for (int i = 0; i < 100; i++) {
+			cache.put(String.valueOf(i), i);
+		}
+
+		// Ensure entries were retained rather than evicted
+		for (int i = 0; i < 100; i++) {
+			Assertions.assertEquals(i, cache.get(String.valueOf(i)));
+		}
+	}
+
 	@Test
 	@DisplayName("Test that removal listener is called after time-based eviction")
 	public void timeEvictionListenerTest() {
@@ -342,6 +798,104 @@ public abstract class ProviderTestBase {
 		await().atMost(90, TimeUnit.SECONDS).until(() -> removals.get() == n);
 	}
 
+	@Test
+	@DisplayName("Test that removal listener is only notified of the specified causes")
+	public void removalCausesTest() {
+		final int n = 4;
+		AtomicInteger removals = new AtomicInteger();
+		AtomicInteger unexpected = new AtomicInteger();
+
+		// Build cache
+		Cache<String, Integer> cache = build(spec -> {
+			spec.expiryTime(null);
+			spec.maxSize(n * 2L);
+			spec.removalCauses(EnumSet.of(RemovalCause.MANUAL));
+			spec.removalListener((key, value, cause) -> {
+				if (cause == RemovalCause.MANUAL)
+					removals.incrementAndGet();
+				else
+					unexpected.incrementAndGet();
+			});
+		});
+
+		// Populate cache, and replace each value
+		for (int i = 0; i < n; i++) {
+			cache.put(String.valueOf(i), i);
+			cache.put(String.valueOf(i), i + 1);
+		}
+
+		// Perform removals
+		for (int i = 0; i < n; i++) {
+			cache.remove(String.valueOf(i));
+		}
+
+		// Ensure listener was only called for the manual removals
+		await().atMost(90, TimeUnit.SECONDS).until(() -> removals.get() == n);
+		Assertions.assertEquals(0, unexpected.get());
+	}
+
+	@Test
+	@DisplayName("Test that batched removal listeners receive manual removals off the calling thread")
+	public void batchRemovalListenerTest() {
+		final int n = 4;
+		Thread caller = Thread.currentThread();
+		Set<String> removed = ConcurrentHashMap.newKeySet();
+		AtomicInteger removals = new AtomicInteger();
+		AtomicInteger callerInvocations = new AtomicInteger();
+
+		// Build cache
+		Cache<String, Integer> cache = build(spec -> {
+			spec.expiryTime(null);
+			spec.maxSize(n * 2L);
+			spec.removalListener((key, value, cause) -> {
+				if (cause == RemovalCause.MANUAL)
+					removals.incrementAndGet();
+			});
+			spec.batchRemovalListener(events -> {
+				if (Thread.currentThread() == caller)
+					callerInvocations.incrementAndGet();
+				events.forEach(event -> {
+					if (event.getCause() == RemovalCause.MANUAL)
+						removed.add(event.getKey());
+				});
+			});
+		});
+
+		// Populate cache
+		for (int i = 0; i < n; i++) {
+			cache.put(String.valueOf(i), i);
+		}
+
+		// Perform removals
+		for (int i = 0; i < n; i++) {
+			cache.remove(String.valueOf(i));
+		}
+
+		// Ensure both listeners received every removal, asynchronously
+		await().atMost(90, TimeUnit.SECONDS).until(() -> removed.size() == n && removals.get() == n);
+		Assertions.assertEquals(0, callerInvocations.get());
+	}
+
+	@Test
+	@DisplayName("Test that closing a cache cancels its scheduled maintenance")
+	public void closeTest() {
+		ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+		executor.setRemoveOnCancelPolicy(true);
+		try {
+			// Build cache
+			Cache<String, Integer> cache = build(spec -> spec.executor(executor));
+
+			// Ensure no tasks remain scheduled after closing
+			cache.close();
+			Assertions.assertTrue(executor.getQueue().isEmpty());
+
+			// Ensure closing is idempotent
+			cache.close();
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
 	@Test
 	@DisplayName("Tests whether the provider has been set as the default")
 	public void registeredAsDefaultTest() {
@@ -359,6 +913,20 @@ public abstract class ProviderTestBase {
 		);
 	}
 
+	/**
+	 * @return whether the provider under test honors {@link io.github.xanthic.cache.api.ICacheSpec#maxOffHeapBytes()}
+	 */
+	protected boolean supportsOffHeap() {
+		return false;
+	}
+
+	/**
+	 * @return whether the provider under test honors {@link io.github.xanthic.cache.api.ICacheSpec#diskDirectory()}
+	 */
+	protected boolean supportsDisk() {
+		return false;
+	}
+
 	protected <K, V> Cache<K, V> build(Consumer<CacheApiSpec<K, V>> additionalSpec) {
 		Consumer<CacheApiSpec<K, V>> baseSpec = spec -> {
 			spec.provider(provider);
@@ -370,4 +938,23 @@ public abstract class ProviderTestBase {
 		return CacheApi.create(spec);
 	}
 
+	protected <K, V> AsyncCache<K, V> buildAsync(Consumer<CacheApiSpec<K, V>> additionalSpec) {
+		Consumer<CacheApiSpec<K, V>> baseSpec = spec -> {
+			spec.provider(provider);
+			spec.maxSize(32L);
+			spec.expiryTime(Duration.ofMinutes(1L));
+		};
+		Consumer<CacheApiSpec<K, V>> spec = additionalSpec == null ? baseSpec : baseSpec.andThen(additionalSpec);
+		return CacheApi.createAsync(spec);
+	}
+
+	protected <K, V> LoadingCache<K, V> buildLoading(Consumer<CacheApiSpec<K, V>> additionalSpec) {
+		Consumer<CacheApiSpec<K, V>> baseSpec = spec -> {
+			spec.provider(provider);
+			spec.maxSize(32L);
+			spec.expiryTime(Duration.ofMinutes(1L));
+		};
+		return CacheApi.createLoading(baseSpec.andThen(additionalSpec));
+	}
+
 }
@@ -1,6 +1,8 @@
 package io.github.xanthic.cache.ktx
 
+import io.github.xanthic.cache.api.AsyncCache
 import io.github.xanthic.cache.api.Cache
+import io.github.xanthic.cache.api.LoadingCache
 import io.github.xanthic.cache.core.CacheApi
 import io.github.xanthic.cache.core.CacheApiSpec
 
@@ -9,6 +11,16 @@ import io.github.xanthic.cache.core.CacheApiSpec
  */
 fun <K, V> createCache(init: CacheApiSpec<K, V>.() -> Unit): Cache<K, V> = CacheApi.create(init)
 
+/**
+ * @see CacheApi.createAsync
+ */
+fun <K, V> createAsyncCache(init: CacheApiSpec<K, V>.() -> Unit): AsyncCache<K, V> = CacheApi.createAsync(init)
+
+/**
+ * @see CacheApi.createLoading
+ */
+fun <K, V> createLoadingCache(init: CacheApiSpec<K, V>.() -> Unit): LoadingCache<K, V> = CacheApi.createLoading(init)
+
 /**
  * @see Cache.get
  */
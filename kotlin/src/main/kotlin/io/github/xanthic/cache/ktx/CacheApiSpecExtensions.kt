@@ -2,10 +2,19 @@
 
 package io.github.xanthic.cache.ktx
 
+import io.github.xanthic.cache.api.BatchRemovalListener
+import io.github.xanthic.cache.api.CacheLoader
 import io.github.xanthic.cache.api.CacheProvider
+import io.github.xanthic.cache.api.CacheSerializer
+import io.github.xanthic.cache.api.ExpiryCalculator
 import io.github.xanthic.cache.api.RemovalListener
+import io.github.xanthic.cache.api.Weigher
 import io.github.xanthic.cache.api.domain.ExpiryType
+import io.github.xanthic.cache.api.domain.RemovalCause
+import io.github.xanthic.cache.api.domain.RemovalDispatchMode
+import io.github.xanthic.cache.api.domain.RemovalOverflowPolicy
 import io.github.xanthic.cache.core.CacheApiSpec
+import java.nio.file.Path
 import java.time.Duration
 import java.util.concurrent.ScheduledExecutorService
 
@@ -54,6 +63,15 @@ var <K, V> CacheApiSpec<K, V>.expiryTime: Duration?
         this.expiryTime(value)
     }
 
+/**
+ * @see io.github.xanthic.cache.api.ICacheSpec.expiryCalculator
+ */
+var <K, V> CacheApiSpec<K, V>.expiryCalculator: ExpiryCalculator<K, V>?
+    get() = this.expiryCalculator()
+    set(value) {
+        this.expiryCalculator(value)
+    }
+
 /**
  * @see io.github.xanthic.cache.api.ICacheSpec.removalListener
  */
@@ -63,6 +81,42 @@ var <K, V> CacheApiSpec<K, V>.removalListener: RemovalListener<K, V>?
         this.removalListener(value)
     }
 
+/**
+ * @see io.github.xanthic.cache.api.ICacheSpec.removalCauses
+ */
+var <K, V> CacheApiSpec<K, V>.removalCauses: Set<RemovalCause>?
+    get() = this.removalCauses()
+    set(value) {
+        this.removalCauses(value)
+    }
+
+/**
+ * @see io.github.xanthic.cache.api.ICacheSpec.batchRemovalListener
+ */
+var <K, V> CacheApiSpec<K, V>.batchRemovalListener: BatchRemovalListener<K, V>?
+    get() = this.batchRemovalListener()
+    set(value) {
+        this.batchRemovalListener(value)
+    }
+
+/**
+ * @see io.github.xanthic.cache.api.ICacheSpec.removalDispatchMode
+ */
+var <K, V> CacheApiSpec<K, V>.removalDispatchMode: RemovalDispatchMode?
+    get() = this.removalDispatchMode()
+    set(value) {
+        this.removalDispatchMode(value)
+    }
+
+/**
+ * @see io.github.xanthic.cache.api.ICacheSpec.removalOverflowPolicy
+ */
+var <K, V> CacheApiSpec<K, V>.removalOverflowPolicy: RemovalOverflowPolicy?
+    get() = this.removalOverflowPolicy()
+    set(value) {
+        this.removalOverflowPolicy(value)
+    }
+
 /**
  * @see io.github.xanthic.cache.api.ICacheSpec.executor
  */
@@ -80,3 +134,93 @@ var <K, V> CacheApiSpec<K, V>.highContention: Boolean?
     set(value) {
         this.highContention(value)
     }
+
+/**
+ * @see io.github.xanthic.cache.api.ICacheSpec.recordStats
+ */
+var <K, V> CacheApiSpec<K, V>.recordStats: Boolean?
+    get() = this.recordStats()
+    set(value) {
+        this.recordStats(value)
+    }
+
+/**
+ * @see io.github.xanthic.cache.api.ICacheSpec.loader
+ */
+var <K, V> CacheApiSpec<K, V>.loader: CacheLoader<K, V>?
+    get() = this.loader()
+    set(value) {
+        this.loader(value)
+    }
+
+/**
+ * @see io.github.xanthic.cache.api.ICacheSpec.refreshAfter
+ */
+var <K, V> CacheApiSpec<K, V>.refreshAfter: Duration?
+    get() = this.refreshAfter()
+    set(value) {
+        this.refreshAfter(value)
+    }
+
+/**
+ * @see io.github.xanthic.cache.api.ICacheSpec.maxWeight
+ */
+var <K, V> CacheApiSpec<K, V>.maxWeight: Long?
+    get() = this.maxWeight()
+    set(value) {
+        this.maxWeight(value)
+    }
+
+/**
+ * @see io.github.xanthic.cache.api.ICacheSpec.weigher
+ */
+var <K, V> CacheApiSpec<K, V>.weigher: Weigher<K, V>?
+    get() = this.weigher()
+    set(value) {
+        this.weigher(value)
+    }
+
+/**
+ * @see io.github.xanthic.cache.api.ICacheSpec.maxOffHeapBytes
+ */
+var <K, V> CacheApiSpec<K, V>.maxOffHeapBytes: Long?
+    get() = this.maxOffHeapBytes()
+    set(value) {
+        this.maxOffHeapBytes(value)
+    }
+
+/**
+ * @see io.github.xanthic.cache.api.ICacheSpec.keySerializer
+ */
+var <K, V> CacheApiSpec<K, V>.keySerializer: CacheSerializer<K>?
+    get() = this.keySerializer()
+    set(value) {
+        this.keySerializer(value)
+    }
+
+/**
+ * @see io.github.xanthic.cache.api.ICacheSpec.valueSerializer
+ */
+var <K, V> CacheApiSpec<K, V>.valueSerializer: CacheSerializer<V>?
+    get() = this.valueSerializer()
+    set(value) {
+        this.valueSerializer(value)
+    }
+
+/**
+ * @see io.github.xanthic.cache.api.ICacheSpec.diskDirectory
+ */
+var <K, V> CacheApiSpec<K, V>.diskDirectory: Path?
+    get() = this.diskDirectory()
+    set(value) {
+        this.diskDirectory(value)
+    }
+
+/**
+ * @see io.github.xanthic.cache.api.ICacheSpec.maxDiskBytes
+ */
+var <K, V> CacheApiSpec<K, V>.maxDiskBytes: Long?
+    get() = this.maxDiskBytes()
+    set(value) {
+        this.maxDiskBytes(value)
+    }
@@ -0,0 +1,21 @@
+dependencies {
+    api(project(":cache-core"))
+    api("io.micrometer:micrometer-core") {
+        version {
+            require("1.10.0") // imposes a lower bound on acceptable versions
+        }
+    }
+    compileOnly("org.springframework:spring-context:5.3.39")
+
+    testImplementation("org.awaitility:awaitility:4.3.0")
+    testImplementation(project(":cache-provider-caffeine"))
+    testImplementation(project(":cache-spring"))
+    testImplementation("org.springframework:spring-context:5.3.39")
+}
+
+publishing.publications.withType<MavenPublication> {
+    pom {
+        name.set("Xanthic - Micrometer")
+        description.set("Xanthic Cache Micrometer Metrics")
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.xanthic.cache.micrometer;
+
+import io.github.xanthic.cache.api.Cache;
+import io.github.xanthic.cache.api.ICacheSpec;
+import io.github.xanthic.cache.core.CacheApi;
+import io.github.xanthic.cache.core.CacheApiSpec;
+import io.github.xanthic.cache.core.RemovalFilters;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * Creates Xanthic caches (via {@link CacheApi#create(Consumer)}) that are bound to a {@link MeterRegistry}.
+ * <p>
+ * {@link ICacheSpec#recordStats()} is enabled, and the removal listener is wrapped to count removals by cause.
+ * Meters are tagged by the cache name and the simple class name of the provider.
+ *
+ * @see XanthicCacheMetrics
+ */
+public final class MeteredCacheApi {
+
+	/**
+	 * The tag key that identifies the {@link io.github.xanthic.cache.api.CacheProvider} of a cache.
+	 */
+	public static final String PROVIDER_TAG = "provider";
+
+	private MeteredCacheApi() {
+		// restrict instantiation
+	}
+
+	/**
+	 * Builds a monitored cache.
+	 *
+	 * @param registry  the registry to bind meters to
+	 * @param cacheName the name of the cache, used as the {@code cache} tag
+	 * @param spec      consumer in which the desired cache settings should be specified
+	 * @param <K>       the type of keys that form the cache
+	 * @param <V>       the type of values that are contained in the cache
+	 * @return the created cache instance, which records statistics
+	 * @see CacheApi#create(Consumer)
+	 */
+	@NotNull
+	public static <K, V> Cache<K, V> create(@NotNull MeterRegistry registry, @NotNull String cacheName, @NotNull Consumer<CacheApiSpec<K, V>> spec) {
+		return create(registry, cacheName, Tags.empty(), spec);
+	}
+
+	/**
+	 * Builds a monitored cache.
+	 *
+	 * @param registry  the registry to bind meters to
+	 * @param cacheName the name of the cache, used as the {@code cache} tag
+	 * @param tags      additional tags to apply to all meters
+	 * @param spec      consumer in which the desired cache settings should be specified
+	 * @param <K>       the type of keys that form the cache
+	 * @param <V>       the type of values that are contained in the cache
+	 * @return the created cache instance, which records statistics
+	 * @see CacheApi#create(Consumer)
+	 */
+	@NotNull
+	public static <K, V> Cache<K, V> create(@NotNull MeterRegistry registry, @NotNull String cacheName, @NotNull Iterable<Tag> tags, @NotNull Consumer<CacheApiSpec<K, V>> spec) {
+		RemovalCounter removals = new RemovalCounter();
+		String[] provider = new String[1];
+		Cache<K, V> cache = CacheApi.create(spec.andThen(s -> provider[0] = instrument(s, removals)));
+		new XanthicCacheMetrics(cache, cacheName, Tags.concat(tags, PROVIDER_TAG, provider[0]), removals).bindTo(registry);
+		return cache;
+	}
+
+	/**
+	 * Enables statistics, and wraps the removal listener of the specification to count removals by cause.
+	 *
+	 * @param s        the specification to adjust, after the user settings were applied
+	 * @param removals the counter of removals
+	 * @return the simple class name of the provider, for the {@link #PROVIDER_TAG}
+	 */
+	static <K, V> String instrument(CacheApiSpec<K, V> s, RemovalCounter removals) {
+		s.recordStats(true);
+		if (s.removalCauses() != null) {
+			// removals are counted for every cause, so only the listeners of the user are filtered
+			s.removalListener(RemovalFilters.filter(s.removalListener(), s.removalCauses()));
+			s.batchRemovalListener(RemovalFilters.filterBatch(s.batchRemovalListener(), s.removalCauses()));
+			s.removalCauses(null);
+		}
+		s.removalListener(removals.wrap(s.removalListener()));
+		return s.provider().getClass().getSimpleName();
+	}
+
+}
@@ -0,0 +1,96 @@
+package io.github.xanthic.cache.micrometer;
+
+import io.github.xanthic.cache.core.CacheApiSpec;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import lombok.Value;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.lang.Nullable;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Decorates a Spring {@link CacheManager} (typically a {@code XanthicSpringCacheManager}),
+ * such that each Xanthic-backed cache is bound to a {@link MeterRegistry} upon first retrieval.
+ * <p>
+ * This works for dynamically created caches, too. When the delegate manager is created via
+ * {@link #MeteredSpringCacheManager(Function, MeterRegistry, Iterable)}, each cache is instrumented like those of {@link MeteredCacheApi}:
+ * statistics are enabled, removals are counted by cause, and meters are tagged by the provider.
+ * <p>
+ * Otherwise, the specification of the delegate manager should enable {@link io.github.xanthic.cache.api.ICacheSpec#recordStats()}
+ * (or only the cache size is meaningful), and callers may include a {@link MeteredCacheApi#PROVIDER_TAG} in the tags.
+ */
+public class MeteredSpringCacheManager implements CacheManager {
+	private final CacheManager delegate;
+	private final MeterRegistry registry;
+	private final Iterable<Tag> tags;
+	private final Set<String> bound = ConcurrentHashMap.newKeySet();
+	private final Map<String, Instrumentation> instrumentations = new ConcurrentHashMap<>();
+
+	/**
+	 * @param delegate the manager whose caches should be monitored
+	 * @param registry the registry to bind meters to
+	 * @param tags     additional tags to apply to all meters
+	 */
+	public MeteredSpringCacheManager(@NotNull CacheManager delegate, @NotNull MeterRegistry registry, @NotNull Iterable<Tag> tags) {
+		this.delegate = delegate;
+		this.registry = registry;
+		this.tags = tags;
+	}
+
+	/**
+	 * @param factory  creates the manager whose caches should be monitored, given a customizer to pass to the
+	 *                 {@code XanthicSpringCacheManager} constructor (e.g., {@code c -> new XanthicSpringCacheManager(spec, null, c)})
+	 * @param registry the registry to bind meters to
+	 * @param tags     additional tags to apply to all meters
+	 */
+	public MeteredSpringCacheManager(@NotNull Function<BiConsumer<String, CacheApiSpec<Object, Object>>, CacheManager> factory, @NotNull MeterRegistry registry, @NotNull Iterable<Tag> tags) {
+		this.registry = registry;
+		this.tags = tags;
+		this.delegate = factory.apply(this::instrument);
+	}
+
+	@Override
+	@Nullable
+	public Cache getCache(@NotNull String name) {
+		Cache cache = delegate.getCache(name);
+		if (cache != null && !bound.contains(name)) {
+			Object nativeCache = cache.getNativeCache();
+			if (nativeCache instanceof io.github.xanthic.cache.api.Cache && bound.add(name)) {
+				io.github.xanthic.cache.api.Cache<?, ?> xanthicCache = (io.github.xanthic.cache.api.Cache<?, ?>) nativeCache;
+				Instrumentation instrumentation = instrumentations.get(name);
+				if (instrumentation != null) {
+					new XanthicCacheMetrics(xanthicCache, name, Tags.concat(tags, MeteredCacheApi.PROVIDER_TAG, instrumentation.getProvider()), instrumentation.getRemovals()).bindTo(registry);
+				} else {
+					new XanthicCacheMetrics(xanthicCache, name, tags).bindTo(registry);
+				}
+			}
+		}
+		return cache;
+	}
+
+	@Override
+	public @NotNull Collection<String> getCacheNames() {
+		return delegate.getCacheNames();
+	}
+
+	private void instrument(String name, CacheApiSpec<Object, Object> spec) {
+		RemovalCounter removals = new RemovalCounter();
+		String provider = MeteredCacheApi.instrument(spec, removals);
+		instrumentations.put(name, new Instrumentation(removals, provider));
+	}
+
+	@Value
+	private static class Instrumentation {
+		RemovalCounter removals;
+		String provider;
+	}
+}
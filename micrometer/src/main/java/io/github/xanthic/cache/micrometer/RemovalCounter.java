@@ -0,0 +1,35 @@
+package io.github.xanthic.cache.micrometer;
+
+import io.github.xanthic.cache.api.RemovalListener;
+import io.github.xanthic.cache.api.domain.RemovalCause;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts cache entry removals by {@link RemovalCause}, optionally forwarding them to another listener.
+ */
+final class RemovalCounter {
+	private final Map<RemovalCause, LongAdder> counts = new EnumMap<>(RemovalCause.class);
+
+	RemovalCounter() {
+		for (RemovalCause cause : RemovalCause.values()) {
+			counts.put(cause, new LongAdder());
+		}
+	}
+
+	long count(@NotNull RemovalCause cause) {
+		return counts.get(cause).sum();
+	}
+
+	@NotNull
+	<K, V> RemovalListener<K, V> wrap(@Nullable RemovalListener<K, V> listener) {
+		return (key, value, cause) -> {
+			counts.get(cause).increment();
+			if (listener != null) listener.onRemoval(key, value, cause);
+		};
+	}
+}
@@ -0,0 +1,127 @@
+package io.github.xanthic.cache.micrometer;
+
+import io.github.xanthic.cache.api.Cache;
+import io.github.xanthic.cache.api.ICacheSpec;
+import io.github.xanthic.cache.api.domain.CacheStats;
+import io.github.xanthic.cache.api.domain.RemovalCause;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+/**
+ * Binds a Xanthic {@link Cache} to a {@link MeterRegistry}.
+ * <p>
+ * In addition to the standard cache meters (size, gets, puts, evictions),
+ * this registers {@code cache.load} counters by result, a {@code cache.load.duration} timer,
+ * and (when created via {@link MeteredCacheApi}) {@code cache.removals} counters by {@link RemovalCause}.
+ * <p>
+ * Apart from size, these meters are derived from {@link Cache#stats()},
+ * so {@link ICacheSpec#recordStats()} should be enabled for the cache.
+ * The size gauge polls {@link Cache#estimatedSize()}, to avoid full traversals on providers where {@link Cache#size()} is linear.
+ *
+ * @see MeteredCacheApi
+ */
+public class XanthicCacheMetrics extends CacheMeterBinder<Cache<?, ?>> {
+	private final RemovalCounter removals;
+
+	/**
+	 * @param cache     the cache to be monitored
+	 * @param cacheName the name of the cache, used as the {@code cache} tag
+	 * @param tags      additional tags to apply to all meters
+	 */
+	public XanthicCacheMetrics(@NotNull Cache<?, ?> cache, @NotNull String cacheName, @NotNull Iterable<Tag> tags) {
+		this(cache, cacheName, tags, null);
+	}
+
+	XanthicCacheMetrics(Cache<?, ?> cache, String cacheName, Iterable<Tag> tags, @Nullable RemovalCounter removals) {
+		super(cache, cacheName, tags);
+		this.removals = removals;
+	}
+
+	/**
+	 * Binds the specified cache to the registry.
+	 *
+	 * @param registry  the registry to bind meters to
+	 * @param cache     the cache to be monitored
+	 * @param cacheName the name of the cache, used as the {@code cache} tag
+	 * @param tags      additional tags to apply to all meters
+	 * @param <C>       the type of cache
+	 * @return the monitored cache
+	 */
+	@NotNull
+	public static <C extends Cache<?, ?>> C monitor(@NotNull MeterRegistry registry, @NotNull C cache, @NotNull String cacheName, @NotNull Iterable<Tag> tags) {
+		new XanthicCacheMetrics(cache, cacheName, tags).bindTo(registry);
+		return cache;
+	}
+
+	@Override
+	protected Long size() {
+		Cache<?, ?> cache = getCache();
+		return cache != null ? cache.estimatedSize() : null;
+	}
+
+	@Override
+	protected long hitCount() {
+		return stat(this, CacheStats::getHitCount);
+	}
+
+	@Override
+	protected Long missCount() {
+		return stat(this, CacheStats::getMissCount);
+	}
+
+	@Override
+	protected Long evictionCount() {
+		return stat(this, CacheStats::getEvictionCount);
+	}
+
+	@Override
+	protected long putCount() {
+		// explicit writes are not tracked, so we follow the convention of reporting loads (like the Caffeine binder)
+		return stat(this, CacheStats::loadCount);
+	}
+
+	@Override
+	protected void bindImplementationSpecificMetrics(@NotNull MeterRegistry registry) {
+		Iterable<Tag> tags = getTagsWithCacheName();
+
+		FunctionCounter.builder("cache.load", this, m -> stat(m, CacheStats::getLoadSuccessCount))
+			.tags(tags)
+			.tag("result", "success")
+			.description("The number of times cache lookup methods have successfully loaded a new value")
+			.register(registry);
+
+		FunctionCounter.builder("cache.load", this, m -> stat(m, CacheStats::getLoadFailureCount))
+			.tags(tags)
+			.tag("result", "failure")
+			.description("The number of times cache lookup methods failed to load a new value")
+			.register(registry);
+
+		FunctionTimer.builder("cache.load.duration", this, m -> stat(m, CacheStats::loadCount), m -> stat(m, CacheStats::getTotalLoadTimeNanos), TimeUnit.NANOSECONDS)
+			.tags(tags)
+			.description("The time spent loading new values")
+			.register(registry);
+
+		if (removals != null) {
+			for (RemovalCause cause : RemovalCause.values()) {
+				FunctionCounter.builder("cache.removals", removals, r -> r.count(cause))
+					.tags(Tags.concat(tags, "cause", cause.name(), "eviction", String.valueOf(cause.isEviction())))
+					.description("The number of entries removed from the cache, by cause")
+					.register(registry);
+			}
+		}
+	}
+
+	private static long stat(XanthicCacheMetrics metrics, ToLongFunction<CacheStats> stat) {
+		Cache<?, ?> cache = metrics.getCache();
+		return cache != null ? stat.applyAsLong(cache.stats()) : 0L;
+	}
+}
@@ -0,0 +1,104 @@
+package io.github.xanthic.cache.micrometer;
+
+import io.github.xanthic.cache.api.Cache;
+import io.github.xanthic.cache.api.domain.RemovalCause;
+import io.github.xanthic.cache.provider.caffeine.CaffeineProvider;
+import io.github.xanthic.cache.spring.XanthicSpringCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+
+public class XanthicCacheMetricsTest {
+
+	@Test
+	@DisplayName("Test that lookups, loads, and removals are reported to the registry")
+	public void meteredCacheTest() {
+		MeterRegistry registry = new SimpleMeterRegistry();
+		Cache<String, Integer> cache = MeteredCacheApi.create(registry, "numbers", spec -> {
+			spec.provider(new CaffeineProvider());
+			spec.maxSize(4L);
+		});
+
+		// Perform lookups
+		cache.put("1", 1);
+		Assertions.assertEquals(1, cache.get("1"));
+		Assertions.assertNull(cache.get("2"));
+		Assertions.assertEquals(3, cache.computeIfAbsent("3", Integer::parseInt));
+		Assertions.assertEquals(1, cache.remove("1"));
+
+		// Ensure meters are tagged and populated
+		Tags tags = Tags.of("cache", "numbers", MeteredCacheApi.PROVIDER_TAG, "CaffeineProvider");
+		Assertions.assertEquals(1.0, registry.get("cache.gets").tags(tags).tag("result", "hit").functionCounter().count());
+		Assertions.assertEquals(2.0, registry.get("cache.gets").tags(tags).tag("result", "miss").functionCounter().count());
+		Assertions.assertEquals(1.0, registry.get("cache.load").tags(tags).tag("result", "success").functionCounter().count());
+		Assertions.assertEquals(1.0, registry.get("cache.load.duration").tags(tags).functionTimer().count());
+		Assertions.assertEquals(1.0, registry.get("cache.size").tags(tags).gauge().value());
+		await().atMost(30, TimeUnit.SECONDS).until(() -> registry.get("cache.removals").tags(tags).tag("cause", RemovalCause.MANUAL.name()).functionCounter().count() == 1.0);
+
+		// Ensure evictions are reported
+		for (int i = 0; i < 16; i++) {
+			cache.put(String.valueOf(i), i);
+		}
+		await().atMost(30, TimeUnit.SECONDS).until(() -> {
+			cache.size(); // performs pending maintenance
+			return registry.get("cache.evictions").tags(tags).functionCounter().count() > 0
+				&& registry.get("cache.removals").tags(tags).tag("cause", RemovalCause.SIZE.name()).functionCounter().count() > 0;
+		});
+	}
+
+	@Test
+	@DisplayName("Test that caches of a spring cache manager are bound upon retrieval")
+	public void springCacheManagerTest() {
+		MeterRegistry registry = new SimpleMeterRegistry();
+		CacheManager manager = new MeteredSpringCacheManager(
+			new XanthicSpringCacheManager(spec -> spec.provider(new CaffeineProvider()).recordStats(true)),
+			registry,
+			Tags.of(MeteredCacheApi.PROVIDER_TAG, "CaffeineProvider")
+		);
+
+		// Perform lookups on a dynamically created cache
+		org.springframework.cache.Cache cache = Objects.requireNonNull(manager.getCache("dynamic"));
+		cache.put("key", "value");
+		Assertions.assertNotNull(cache.get("key"));
+		Assertions.assertNull(cache.get("missing"));
+
+		// Ensure meters are tagged and populated
+		Assertions.assertEquals(1.0, registry.get("cache.gets").tag("cache", "dynamic").tag("result", "hit").functionCounter().count());
+		Assertions.assertEquals(1.0, registry.get("cache.gets").tag("cache", "dynamic").tag("result", "miss").functionCounter().count());
+		Assertions.assertEquals(1.0, registry.get("cache.size").tag("cache", "dynamic").tag(MeteredCacheApi.PROVIDER_TAG, "CaffeineProvider").gauge().value());
+	}
+
+	@Test
+	@DisplayName("Test that caches created by an instrumented spring cache manager count removals and are tagged by provider")
+	public void instrumentedSpringCacheManagerTest() {
+		MeterRegistry registry = new SimpleMeterRegistry();
+		CacheManager manager = new MeteredSpringCacheManager(
+			customizer -> new XanthicSpringCacheManager(spec -> spec.provider(new CaffeineProvider()), null, customizer),
+			registry,
+			Tags.empty()
+		);
+
+		// Perform lookups and a removal on a dynamically created cache
+		org.springframework.cache.Cache cache = Objects.requireNonNull(manager.getCache("dynamic"));
+		cache.put("key", "value");
+		Assertions.assertNotNull(cache.get("key"));
+		cache.evict("key");
+
+		// Ensure statistics were enabled, and meters are tagged by provider
+		Tags tags = Tags.of("cache", "dynamic", MeteredCacheApi.PROVIDER_TAG, "CaffeineProvider");
+		Assertions.assertEquals(1.0, registry.get("cache.gets").tags(tags).tag("result", "hit").functionCounter().count());
+
+		// Ensure removals are counted by cause
+		await().atMost(30, TimeUnit.SECONDS).until(() -> registry.get("cache.removals").tags(tags).tag("cause", RemovalCause.MANUAL.name()).functionCounter().count() == 1.0);
+	}
+
+}
@@ -4,7 +4,11 @@ import io.github.xanthic.cache.api.Cache;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -12,7 +16,7 @@ abstract class AbstractCache<K, V> implements Cache<K, V> {
 
 	@Override
 	public V computeIfAbsent(@NotNull K key, @NotNull Function<K, V> computeFunc) {
-		synchronized (getLock()) {
+		synchronized (getLock(key)) {
 			V old = this.get(key);
 			if (old != null) return old;
 			V computed = computeFunc.apply(key);
@@ -24,7 +28,7 @@ abstract class AbstractCache<K, V> implements Cache<K, V> {
 	@Nullable
 	@Override
 	public V compute(@NotNull K key, @NotNull BiFunction<? super K, ? super V, ? extends V> computeFunc) {
-		synchronized (getLock()) {
+		synchronized (getLock(key)) {
 			V oldValue = this.get(key);
 			V newValue = computeFunc.apply(key, oldValue);
 			if (newValue != null) {
@@ -39,7 +43,7 @@ abstract class AbstractCache<K, V> implements Cache<K, V> {
 
 	@Override
 	public V computeIfPresent(@NotNull K key, @NotNull BiFunction<? super K, ? super V, ? extends V> computeFunc) {
-		synchronized (getLock()) {
+		synchronized (getLock(key)) {
 			V oldValue = this.get(key);
 			if (oldValue != null) {
 				V newValue = computeFunc.apply(key, oldValue);
@@ -56,7 +60,7 @@ abstract class AbstractCache<K, V> implements Cache<K, V> {
 
 	@Override
 	public V putIfAbsent(@NotNull K key, @NotNull V value) {
-		synchronized (getLock()) {
+		synchronized (getLock(key)) {
 			V old = this.get(key);
 			if (old == null) {
 				this.put(key, value);
@@ -67,7 +71,7 @@ abstract class AbstractCache<K, V> implements Cache<K, V> {
 
 	@Override
 	public V merge(@NotNull K key, @NotNull V value, @NotNull BiFunction<V, V, V> mergeFunc) {
-		synchronized (getLock()) {
+		synchronized (getLock(key)) {
 			V old = putIfAbsent(key, value);
 			if (old == null) return value;
 			V merged = mergeFunc.apply(old, value);
@@ -78,7 +82,7 @@ abstract class AbstractCache<K, V> implements Cache<K, V> {
 
 	@Override
 	public boolean replace(@NotNull K key, @NotNull V value) {
-		synchronized (getLock()) {
+		synchronized (getLock(key)) {
 			V old = this.get(key);
 			if (old == null) return false;
 			put(key, value);
@@ -90,7 +94,7 @@ abstract class AbstractCache<K, V> implements Cache<K, V> {
 	public boolean replace(@NotNull K key, @NotNull V oldValue, @NotNull V newValue) {
 		// noinspection ConstantConditions
 		if (oldValue == null) return false;
-		synchronized (getLock()) {
+		synchronized (getLock(key)) {
 			if (Objects.equals(oldValue, this.get(key))) {
 				this.put(key, newValue);
 				return true;
@@ -104,4 +108,24 @@ abstract class AbstractCache<K, V> implements Cache<K, V> {
 		return this;
 	}
 
+	/**
+	 * @param key the key whose mapping is atomically read and updated
+	 * @return the monitor that guards compound operations on the key, which defaults to {@link #getLock()}
+	 */
+	@NotNull
+	protected Object getLock(@NotNull K key) {
+		return getLock();
+	}
+
+	/**
+	 * Visits the entries of a {@link androidx.collection.LruCache#snapshot()}, from most to least recently used.
+	 */
+	protected static <K, V> void forEachReversed(@NotNull Map<K, V> snapshot, @NotNull BiConsumer<? super K, ? super V> action) {
+		List<Map.Entry<K, V>> entries = new ArrayList<>(snapshot.entrySet());
+		for (int i = entries.size() - 1; i >= 0; i--) {
+			Map.Entry<K, V> entry = entries.get(i);
+			action.accept(entry.getKey(), entry.getValue());
+		}
+	}
+
 }
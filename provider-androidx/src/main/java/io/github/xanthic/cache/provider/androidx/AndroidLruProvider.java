@@ -4,19 +4,28 @@ import androidx.collection.LruCache;
 import io.github.xanthic.cache.api.Cache;
 import io.github.xanthic.cache.api.ICacheSpec;
 import io.github.xanthic.cache.api.RemovalListener;
+import io.github.xanthic.cache.api.Weigher;
 import io.github.xanthic.cache.core.AbstractCacheProvider;
+import io.github.xanthic.cache.core.MaintenanceScheduler;
+import io.github.xanthic.cache.api.domain.ExpiryType;
 import io.github.xanthic.cache.api.domain.RemovalCause;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.time.Duration;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
 
 /**
  * Provides {@link Cache} instances using {@link LruCache}.
  * <p>
- * Supports size and time-based eviction.
+ * Supports size, weight, and time-based eviction.
+ * Expiration runs on {@link ICacheSpec#executor()}, or the shared {@link MaintenanceScheduler} if unspecified.
+ * <p>
+ * When {@link ICacheSpec#highContention()} is enabled, the cache is partitioned into independently locked segments,
+ * each holding an equal share of the capacity, so that throughput scales with the number of cores
+ * (at the cost of tracking recency per segment).
+ * Weighted caches are never partitioned, since an equal share of the weight would reject entries heavier than a segment.
  * <p>
  * Note: on {@link Cache#clear()}, listeners will receive {@link RemovalCause#SIZE}
  * due to backing library limitations.
@@ -27,17 +36,43 @@ public final class AndroidLruProvider extends AbstractCacheProvider {
 
 	@Override
 	public <K, V> Cache<K, V> build(ICacheSpec<K, V> spec) {
+		return buildWithGenericStats(spec, this::buildLru);
+	}
+
+	private <K, V> Cache<K, V> buildLru(ICacheSpec<K, V> spec) {
 		ScheduledExecutorService executor = spec.executor();
 		Duration expiryTime = spec.expiryTime();
-		if (executor == null) handleUnsupportedExpiry(expiryTime);
-		if (expiryTime == null) return new LruDelegate<>(buildSimple(spec.maxSize(), spec.removalListener()));
-		ScheduledExecutorService exec = executor != null ? executor : Executors.newSingleThreadScheduledExecutor();
-		return new ExpiringLruDelegate<>(spec.maxSize(), spec.removalListener(), expiryTime.toNanos(), getExpiryType(spec.expiryType()), exec);
+		handleUnsupportedSetting(spec.expiryCalculator(), "Per-entry expiry");
+		handleUnsupportedSetting(spec.maxOffHeapBytes(), "Off-heap storage");
+		handleUnsupportedSetting(spec.diskDirectory(), "Disk storage");
+		// when weighted, LruCache tracks the sum of entry weights rather than the entry count
+		Weigher<K, V> weigher = spec.maxWeight() != null ? spec.weigher() : null;
+		Long capacity = weigher != null ? spec.maxWeight() : spec.maxSize();
+		RemovalListener<K, V> listener = spec.removalListener();
+		Function<Long, Cache<K, V>> segmentBuilder;
+		if (expiryTime == null) {
+			segmentBuilder = segmentCapacity -> new LruDelegate<>(buildSimple(segmentCapacity, weigher, listener), weigher != null);
+		} else {
+			ScheduledExecutorService exec = MaintenanceScheduler.getOrDefault(executor);
+			ExpiryType type = getExpiryType(spec.expiryType());
+			segmentBuilder = segmentCapacity -> new ExpiringLruDelegate<>(segmentCapacity, weigher, listener, expiryTime.toNanos(), type, exec);
+		}
+
+		// under contention, partition the cache so that threads do not serialize on a single monitor
+		if (Boolean.TRUE.equals(spec.highContention()) && weigher == null) {
+			int segments = StripedLruDelegate.segmentCount(capacity);
+			if (segments > 1) return new StripedLruDelegate<>(capacity, segments, segmentBuilder);
+		}
+		return segmentBuilder.apply(capacity);
 	}
 
-	private static <K, V> LruCache<K, V> buildSimple(Long maxSize, RemovalListener<K, V> listener) {
-		int size = maxSize != null ? maxSize.intValue() : Integer.MAX_VALUE;
-		return new LruCache<K, V>(size) {
+	private static <K, V> LruCache<K, V> buildSimple(Long maxSize, Weigher<K, V> weigher, RemovalListener<K, V> listener) {
+		return new LruCache<K, V>(toCapacity(maxSize)) {
+			@Override
+			protected int sizeOf(@NotNull K key, @NotNull V value) {
+				return weigher != null ? weigher.weigh(key, value) : 1;
+			}
+
 			@Override
 			protected void entryRemoved(boolean evicted, @NotNull K key, @NotNull V oldValue, @Nullable V newValue) {
 				RemovalCause cause;
@@ -55,6 +90,14 @@ public final class AndroidLruProvider extends AbstractCacheProvider {
 		};
 	}
 
+	/**
+	 * @param maxSize the entry count or total weight bound, if any
+	 * @return the bound as a {@link LruCache} capacity, which is clamped since LruCache tracks its size as an int
+	 */
+	static int toCapacity(@Nullable Long maxSize) {
+		return maxSize != null ? (int) Math.min(maxSize, Integer.MAX_VALUE) : Integer.MAX_VALUE;
+	}
+
 	@Override
 	public int getDiscoveryOrder() {
 		return 1;
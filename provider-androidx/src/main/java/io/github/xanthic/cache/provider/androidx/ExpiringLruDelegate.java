@@ -2,24 +2,31 @@ package io.github.xanthic.cache.provider.androidx;
 
 import androidx.collection.LruCache;
 import io.github.xanthic.cache.api.RemovalListener;
+import io.github.xanthic.cache.api.Weigher;
 import io.github.xanthic.cache.api.domain.ExpiryType;
 import io.github.xanthic.cache.api.domain.RemovalCause;
+import io.github.xanthic.cache.core.MaintenanceScheduler;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Value;
+import lombok.experimental.NonFinal;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.ScheduledFuture;
 import java.util.function.BiConsumer;
 
+/**
+ * Expires entries of an {@link LruCache} via a {@link TimerWheel}, which is advanced by one periodic task on the executor.
+ * <p>
+ * Lookups also check the deadline of the entry, so expired values are not returned while awaiting the next tick.
+ * Closing the cache cancels the periodic task.
+ */
 @Value
 @Getter(AccessLevel.PRIVATE)
 @EqualsAndHashCode(callSuper = false)
@@ -27,54 +34,94 @@ class ExpiringLruDelegate<K, V> extends AbstractCache<K, V> {
 	@EqualsAndHashCode.Exclude
 	Long maxSize;
 	@EqualsAndHashCode.Exclude
+	Weigher<K, V> weigher;
+	@EqualsAndHashCode.Exclude
 	RemovalListener<K, V> listener;
 	@EqualsAndHashCode.Exclude
 	long expiry;
 	@EqualsAndHashCode.Exclude
 	ExpiryType type;
+
+	// guarded by the monitor of the cache
+	@EqualsAndHashCode.Exclude
+	TimerWheel<K> wheel;
+	@EqualsAndHashCode.Exclude
+	Map<K, TimerWheel.Timer<K>> timers = new HashMap<>();
+	@NonFinal
 	@EqualsAndHashCode.Exclude
-	ScheduledExecutorService exec;
+	Object expiringKey;
 	@EqualsAndHashCode.Exclude
-	Map<Map.Entry<K, V>, Future<?>> tracker = new ConcurrentHashMap<>();
-
-	LruCache<K, V> cache = new LruCache<K, V>(getMaxSize() != null ? getMaxSize().intValue() : Integer.MAX_VALUE) {
-		@Override
-		protected void entryRemoved(boolean evicted, @NotNull K key, @NotNull V oldValue, @Nullable V newValue) {
-			RemovalCause cause;
-			if (evicted) {
-				cause = RemovalCause.SIZE;
-			} else if (newValue != null) {
-				cause = RemovalCause.REPLACED;
-			} else {
-				Future<?> fut = tracker.get(new AbstractMap.SimpleEntry<>(key, oldValue));
-				if (fut != null && !fut.isCancelled()) {
+	ScheduledFuture<?> expirationTask;
+
+	LruCache<K, V> cache;
+
+	ExpiringLruDelegate(@Nullable Long maxSize, @Nullable Weigher<K, V> weigher, @Nullable RemovalListener<K, V> listener, long expiry, @NotNull ExpiryType type, @NotNull ScheduledExecutorService exec) {
+		this.maxSize = maxSize;
+		this.weigher = weigher;
+		this.listener = listener;
+		this.expiry = expiry;
+		this.type = type;
+		this.wheel = new TimerWheel<>(expiry, System.nanoTime());
+		this.cache = new LruCache<K, V>(AndroidLruProvider.toCapacity(maxSize)) {
+			@Override
+			protected int sizeOf(@NotNull K key, @NotNull V value) {
+				return weigher != null ? weigher.weigh(key, value) : 1;
+			}
+
+			@Override
+			protected void entryRemoved(boolean evicted, @NotNull K key, @NotNull V oldValue, @Nullable V newValue) {
+				RemovalCause cause;
+				if (evicted) {
+					cause = RemovalCause.SIZE;
+				} else if (newValue != null) {
+					cause = RemovalCause.REPLACED;
+				} else if (key.equals(expiringKey)) {
 					cause = RemovalCause.TIME;
 				} else {
 					cause = RemovalCause.MANUAL;
 				}
+
+				if (newValue == null) cancel(key); // replacements are rescheduled by the writer
+
+				if (listener != null)
+					listener.onRemoval(key, oldValue, cause);
 			}
+		};
 
-			if (listener != null)
-				listener.onRemoval(key, oldValue, cause);
-		}
-	};
+		long tick = wheel.tickNanos();
+		this.expirationTask = MaintenanceScheduler.scheduleWeakly(exec, this, ExpiringLruDelegate::expireEntries, tick, tick);
+	}
 
 	@Override
 	public V get(@NotNull K key) {
 		synchronized (getLock()) {
-			V v = cache.get(key);
-			if (type == ExpiryType.POST_ACCESS) start(key, v);
-			return v;
+			return read(key, System.nanoTime());
 		}
 	}
 
+	@NotNull
+	@Override
+	public Map<K, V> getAll(@NotNull Collection<? extends K> keys) {
+		Map<K, V> map = new HashMap<>();
+		synchronized (getLock()) {
+			long now = System.nanoTime();
+			for (K key : keys) {
+				V value = read(key, now);
+				if (value != null) {
+					map.put(key, value);
+				}
+			}
+		}
+		return map;
+	}
+
 	@Override
 	public V put(@NotNull K key, @NotNull V value) {
 		synchronized (getLock()) {
+			long now = System.nanoTime();
+			expireIfElapsed(key, now);
 			V prev = cache.put(key, value);
-			start(key, value);
-			if (prev != value) cancelIfRunning(key, prev); // mapping was already removed
-			if (maxSize != null) cache.trimToSize(maxSize.intValue());
+			start(key, now);
 			return prev;
 		}
 	}
@@ -82,34 +129,59 @@ class ExpiringLruDelegate<K, V> extends AbstractCache<K, V> {
 	@Override
 	public V remove(@NotNull K key) {
 		synchronized (getLock()) {
-			cancelIfRunning(key, cache.get(key)); // mapping is being removed already
+			expireIfElapsed(key, System.nanoTime());
 			return cache.remove(key);
 		}
 	}
 
+	@Override
+	public void removeAll(@NotNull Collection<? extends K> keys) {
+		synchronized (getLock()) {
+			for (K key : keys) {
+				remove(key);
+			}
+		}
+	}
+
 	@Override
 	public void clear() {
 		synchronized (getLock()) {
 			cache.evictAll();
-			tracker.values().forEach(fut -> fut.cancel(true));
-			tracker.clear();
+			wheel.clear();
+			timers.clear();
 		}
 	}
 
 	@Override
 	public long size() {
-		return cache.size();
+		// LruCache#size yields the total weight when sizeOf is overridden
+		return weigher != null ? cache.snapshot().size() : cache.size();
+	}
+
+	@Override
+	public long estimatedSize() {
+		if (weigher == null) return cache.size();
+		synchronized (getLock()) {
+			return timers.size(); // each entry owns one timer
+		}
+	}
+
+	@Override
+	public void close() {
+		expirationTask.cancel(false);
 	}
 
 	@Override
 	public void forEach(@NotNull BiConsumer<? super K, ? super V> action) {
-		if (type == ExpiryType.POST_ACCESS) {
-			synchronized (getLock()) {
-				BiConsumer<K, V> markAccessed = this::start;
-				cache.snapshot().forEach(markAccessed.andThen(action));
-			}
-		} else {
-			cache.snapshot().forEach(action);
+		synchronized (getLock()) {
+			visit(cache.snapshot(), action);
+		}
+	}
+
+	@Override
+	public void forEachHottest(@NotNull BiConsumer<? super K, ? super V> action) {
+		synchronized (getLock()) {
+			forEachReversed(cache.snapshot(), (key, value) -> visit(key, value, action));
 		}
 	}
 
@@ -119,38 +191,65 @@ class ExpiringLruDelegate<K, V> extends AbstractCache<K, V> {
 		return this.cache;
 	}
 
-	private void start(final K key, final V value) {
-		if (value == null) return;
+	private V read(K key, long now) {
+		V value = cache.get(key);
+		if (value == null || expireIfElapsed(key, now)) return null;
+		if (type == ExpiryType.POST_ACCESS) start(key, now);
+		return value;
+	}
 
-		final AbstractMap.SimpleEntry<K, V> entry = new AbstractMap.SimpleEntry<>(key, value);
+	private void visit(Map<K, V> snapshot, BiConsumer<? super K, ? super V> action) {
+		snapshot.forEach((key, value) -> visit(key, value, action));
+	}
 
-		final AtomicReference<Future<?>> futRef = new AtomicReference<>();
-		final Future<?> future = exec.schedule(() -> {
-			synchronized (getLock()) {
-				if (!Thread.interrupted() && value == cache.get(key))
-					cache.remove(key);
-			}
-			tracker.remove(entry, futRef.get());
-			futRef.lazySet(null);
-		}, expiry, TimeUnit.NANOSECONDS);
-		futRef.set(future);
-
-		tracker.merge(
-			entry,
-			future,
-			(oldFuture, newFuture) -> {
-				if (oldFuture.isDone() && cache.get(key) == null && !newFuture.isDone()) cache.put(key, value);
-				else oldFuture.cancel(true);
-				return newFuture;
-			}
-		);
+	private void visit(K key, V value, BiConsumer<? super K, ? super V> action) {
+		TimerWheel.Timer<K> timer = timers.get(key);
+		if (timer != null && timer.deadline - System.nanoTime() <= 0) return;
+		if (type == ExpiryType.POST_ACCESS) start(key, System.nanoTime());
+		action.accept(key, value);
 	}
 
-	private void cancelIfRunning(final K key, final V value) {
-		if (value == null) return;
-		final AbstractMap.SimpleEntry<K, V> entry = new AbstractMap.SimpleEntry<>(key, value);
-		final Future<?> future = tracker.remove(entry);
-		if (future != null)
-			future.cancel(true);
+	private void start(K key, long now) {
+		TimerWheel.Timer<K> timer = timers.get(key);
+		if (timer == null) {
+			timer = new TimerWheel.Timer<>(key);
+			timers.put(key, timer);
+		} else {
+			wheel.deschedule(timer);
+		}
+		timer.deadline = now + expiry;
+		wheel.schedule(timer);
+	}
+
+	private void cancel(K key) {
+		TimerWheel.Timer<K> timer = timers.remove(key);
+		if (timer != null) wheel.deschedule(timer);
+	}
+
+	private boolean expireIfElapsed(K key, long now) {
+		TimerWheel.Timer<K> timer = timers.get(key);
+		if (timer == null || timer.deadline - now > 0) return false;
+		wheel.deschedule(timer);
+		expire(timer);
+		return true;
+	}
+
+	private void expire(TimerWheel.Timer<K> timer) {
+		if (timers.get(timer.key) != timer) return; // superseded
+		timers.remove(timer.key);
+
+		Object previous = expiringKey;
+		expiringKey = timer.key;
+		try {
+			cache.remove(timer.key);
+		} finally {
+			expiringKey = previous;
+		}
+	}
+
+	private void expireEntries() {
+		synchronized (getLock()) {
+			wheel.advance(System.nanoTime(), this::expire);
+		}
 	}
 }
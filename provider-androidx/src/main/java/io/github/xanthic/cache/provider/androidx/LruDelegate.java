@@ -7,6 +7,9 @@ import lombok.Getter;
 import lombok.Value;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.BiConsumer;
 
 @Value
@@ -14,6 +17,8 @@ import java.util.function.BiConsumer;
 @EqualsAndHashCode(callSuper = false)
 class LruDelegate<K, V> extends AbstractCache<K, V> {
 	LruCache<K, V> cache;
+	@EqualsAndHashCode.Exclude
+	boolean weighted;
 
 	@Override
 	public V get(@NotNull K key) {
@@ -31,6 +36,30 @@ class LruDelegate<K, V> extends AbstractCache<K, V> {
 		return cache.remove(key);
 	}
 
+	@NotNull
+	@Override
+	public Map<K, V> getAll(@NotNull Collection<? extends K> keys) {
+		Map<K, V> map = new HashMap<>();
+		synchronized (getLock()) {
+			for (K key : keys) {
+				V value = cache.get(key);
+				if (value != null) {
+					map.put(key, value);
+				}
+			}
+		}
+		return map;
+	}
+
+	@Override
+	public void removeAll(@NotNull Collection<? extends K> keys) {
+		synchronized (getLock()) {
+			for (K key : keys) {
+				cache.remove(key);
+			}
+		}
+	}
+
 	@Override
 	public void clear() {
 		cache.evictAll();
@@ -38,7 +67,8 @@ class LruDelegate<K, V> extends AbstractCache<K, V> {
 
 	@Override
 	public long size() {
-		return cache.size();
+		// LruCache#size yields the total weight when sizeOf is overridden
+		return weighted ? cache.snapshot().size() : cache.size();
 	}
 
 	@Override
@@ -46,6 +76,11 @@ class LruDelegate<K, V> extends AbstractCache<K, V> {
 		cache.snapshot().forEach(action);
 	}
 
+	@Override
+	public void forEachHottest(@NotNull BiConsumer<? super K, ? super V> action) {
+		forEachReversed(cache.snapshot(), action);
+	}
+
 	@NotNull
 	@Override
 	protected Object getLock() {
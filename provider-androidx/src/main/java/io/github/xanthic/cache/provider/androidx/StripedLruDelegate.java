@@ -0,0 +1,180 @@
+package io.github.xanthic.cache.provider.androidx;
+
+import io.github.xanthic.cache.api.Cache;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Partitions entries by key hash across independently locked segments (i.e., {@link LruDelegate} or {@link ExpiringLruDelegate}),
+ * each with an equal share of the total capacity.
+ * <p>
+ * Compound operations (e.g., compute functions) only hold a lock that is striped by key,
+ * rather than the monitor of the segment, so a slow function only blocks writers of keys that share its stripe.
+ * <p>
+ * Since each segment evicts independently, recency is only tracked per segment, approximating a global LRU.
+ * Capacity is split by entry count, so weighted caches should not be striped.
+ *
+ * @param <K> The type of keys that form the cache
+ * @param <V> The type of values contained in the cache
+ */
+class StripedLruDelegate<K, V> extends AbstractCache<K, V> {
+	private static final int MAX_SEGMENTS = 64;
+	private static final int MIN_SEGMENT_CAPACITY = 16;
+	private static final int LOCKS_PER_SEGMENT = 16;
+
+	private final Cache<K, V>[] segments;
+	private final Object[] locks;
+
+	@SuppressWarnings("unchecked")
+	StripedLruDelegate(@Nullable Long capacity, int segmentCount, @NotNull Function<Long, Cache<K, V>> segmentBuilder) {
+		this.segments = new Cache[segmentCount];
+		for (int i = 0; i < segmentCount; i++) {
+			Long budget = capacity != null ? capacity / segmentCount + (i < capacity % segmentCount ? 1 : 0) : null;
+			segments[i] = segmentBuilder.apply(budget);
+		}
+
+		// lock stripes nest within segments, since both are indexed by the low bits of the same hash
+		this.locks = new Object[segmentCount * LOCKS_PER_SEGMENT];
+		for (int i = 0; i < locks.length; i++) {
+			locks[i] = new Object();
+		}
+	}
+
+	/**
+	 * @param capacity the total capacity (entry count) of the cache, if bounded
+	 * @return a power of two that scales with the number of cores, while granting each segment a reasonable capacity
+	 */
+	static int segmentCount(@Nullable Long capacity) {
+		int segments = Integer.highestOneBit(Math.min(Runtime.getRuntime().availableProcessors() * 2, MAX_SEGMENTS));
+		long limit = capacity != null ? capacity / MIN_SEGMENT_CAPACITY : Long.MAX_VALUE;
+		while (segments > 1 && segments > limit) {
+			segments >>>= 1;
+		}
+		return segments;
+	}
+
+	@Override
+	public V get(@NotNull K key) {
+		return segmentFor(key).get(key);
+	}
+
+	@Override
+	public V put(@NotNull K key, @NotNull V value) {
+		synchronized (getLock(key)) {
+			return segmentFor(key).put(key, value);
+		}
+	}
+
+	@Override
+	public V remove(@NotNull K key) {
+		synchronized (getLock(key)) {
+			return segmentFor(key).remove(key);
+		}
+	}
+
+	@NotNull
+	@Override
+	public Map<K, V> getAll(@NotNull Collection<? extends K> keys) {
+		Map<K, V> map = new HashMap<>();
+		for (K key : keys) {
+			V value = get(key);
+			if (value != null) {
+				map.put(key, value);
+			}
+		}
+		return map;
+	}
+
+	@Override
+	public void removeAll(@NotNull Collection<? extends K> keys) {
+		for (K key : keys) {
+			remove(key);
+		}
+	}
+
+	@Override
+	public void clear() {
+		for (Cache<K, V> segment : segments) {
+			segment.clear();
+		}
+	}
+
+	@Override
+	public long size() {
+		long size = 0;
+		for (Cache<K, V> segment : segments) {
+			size += segment.size();
+		}
+		return size;
+	}
+
+	@Override
+	public long estimatedSize() {
+		long size = 0;
+		for (Cache<K, V> segment : segments) {
+			size += segment.estimatedSize();
+		}
+		return size;
+	}
+
+	@Override
+	public void forEach(@NotNull BiConsumer<? super K, ? super V> action) {
+		for (Cache<K, V> segment : segments) {
+			segment.forEach(action);
+		}
+	}
+
+	@Override
+	public void forEachHottest(@NotNull BiConsumer<? super K, ? super V> action) {
+		// interleave the segments, as recency is not comparable across them
+		List<List<Map.Entry<K, V>>> orders = new ArrayList<>(segments.length);
+		int longest = 0;
+		for (Cache<K, V> segment : segments) {
+			List<Map.Entry<K, V>> order = new ArrayList<>();
+			segment.forEachHottest((key, value) -> order.add(new AbstractMap.SimpleImmutableEntry<>(key, value)));
+			orders.add(order);
+			longest = Math.max(longest, order.size());
+		}
+
+		for (int i = 0; i < longest; i++) {
+			for (List<Map.Entry<K, V>> order : orders) {
+				if (i < order.size()) {
+					Map.Entry<K, V> entry = order.get(i);
+					action.accept(entry.getKey(), entry.getValue());
+				}
+			}
+		}
+	}
+
+	@Override
+	public void close() {
+		for (Cache<K, V> segment : segments) {
+			segment.close();
+		}
+	}
+
+	@NotNull
+	@Override
+	protected Object getLock(@NotNull K key) {
+		return locks[hash(key) & (locks.length - 1)];
+	}
+
+	private Cache<K, V> segmentFor(K key) {
+		return segments[hash(key) & (segments.length - 1)];
+	}
+
+	private static int hash(Object key) {
+		int h = key.hashCode();
+		return h ^ (h >>> 16);
+	}
+
+}
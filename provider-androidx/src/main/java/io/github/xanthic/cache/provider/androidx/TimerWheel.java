@@ -0,0 +1,156 @@
+package io.github.xanthic.cache.provider.androidx;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A hashed, hierarchical timer wheel that tracks the deadlines of entries in O(1) per (re)scheduling.
+ * <p>
+ * Each level consists of 64 buckets, where a bucket of the lowest level spans a power-of-two number of nanoseconds
+ * (chosen from the expiry duration), and each higher level spans 64 buckets of the level below.
+ * Timers are placed on the lowest level that can hold their remaining duration,
+ * and cascade to lower levels as {@link #advance(long, Consumer)} passes over their bucket.
+ * <p>
+ * Not thread-safe; callers must synchronize all operations.
+ *
+ * @param <K> The type of keys that the timers are associated with
+ */
+final class TimerWheel<K> {
+	private static final int LEVELS = 4;
+	private static final int BUCKET_BITS = 6;
+	private static final int BUCKETS = 1 << BUCKET_BITS;
+	private static final int MASK = BUCKETS - 1;
+	private static final int RESOLUTION_BITS = 4; // ~16 ticks per expiry duration
+	private static final int MIN_SHIFT = 20; // ~1 ms
+	private static final int MAX_SHIFT = 30; // ~1 s
+
+	private final int shift;
+	private final Timer<K>[][] wheel;
+	private final List<Timer<K>> due = new ArrayList<>();
+	private long nanos;
+
+	@SuppressWarnings("unchecked")
+	TimerWheel(long expiryNanos, long now) {
+		int bits = 63 - Long.numberOfLeadingZeros(Math.max(expiryNanos, 1L));
+		this.shift = Math.min(Math.max(bits - RESOLUTION_BITS, MIN_SHIFT), MAX_SHIFT);
+		this.wheel = new Timer[LEVELS][BUCKETS];
+		for (Timer<K>[] buckets : wheel) {
+			for (int i = 0; i < BUCKETS; i++) {
+				buckets[i] = new Timer<>(null);
+			}
+		}
+		this.nanos = now;
+	}
+
+	/**
+	 * @return the granularity of the lowest level, which is a sensible period for calls to {@link #advance(long, Consumer)}
+	 */
+	long tickNanos() {
+		return 1L << shift;
+	}
+
+	void schedule(@NotNull Timer<K> timer) {
+		long duration = timer.deadline - nanos;
+		int level = 0;
+		while (level < LEVELS - 1 && duration >= 1L << shiftOf(level + 1)) {
+			level++;
+		}
+
+		Timer<K> sentinel = wheel[level][(int) ((timer.deadline >>> shiftOf(level)) & MASK)];
+		timer.prev = sentinel.prev;
+		timer.next = sentinel;
+		sentinel.prev.next = timer;
+		sentinel.prev = timer;
+	}
+
+	void deschedule(@NotNull Timer<K> timer) {
+		if (timer.next != null) {
+			timer.prev.next = timer.next;
+			timer.next.prev = timer.prev;
+			timer.prev = null;
+			timer.next = null;
+		}
+	}
+
+	/**
+	 * Advances the wheel to the current time, expiring timers whose deadline has elapsed and cascading the remainder.
+	 *
+	 * @param now       the current time, via {@link System#nanoTime()}
+	 * @param onExpired the action to perform on each timer whose deadline has elapsed (which is no longer scheduled)
+	 */
+	void advance(long now, @NotNull Consumer<Timer<K>> onExpired) {
+		long previous = nanos;
+		nanos = now;
+
+		for (int level = 0; level < LEVELS; level++) {
+			long previousTicks = previous >>> shiftOf(level);
+			long currentTicks = now >>> shiftOf(level);
+			if (currentTicks - previousTicks <= 0) break;
+
+			// the previous bucket may hold timers that were not yet due during the last pass
+			long count = Math.min(currentTicks - previousTicks + 1, BUCKETS);
+			for (long ticks = previousTicks; count > 0; ticks++, count--) {
+				Timer<K> sentinel = wheel[level][(int) (ticks & MASK)];
+				for (Timer<K> timer = sentinel.next; timer != sentinel; timer = sentinel.next) {
+					deschedule(timer);
+					due.add(timer);
+				}
+			}
+		}
+
+		try {
+			for (Timer<K> timer : due) {
+				if (timer.next != null) continue; // rescheduled by an earlier callback
+				if (timer.deadline - now > 0) {
+					schedule(timer);
+				} else {
+					onExpired.accept(timer);
+				}
+			}
+		} finally {
+			due.clear();
+		}
+	}
+
+	/**
+	 * Deschedules all timers.
+	 */
+	void clear() {
+		for (Timer<K>[] buckets : wheel) {
+			for (Timer<K> sentinel : buckets) {
+				for (Timer<K> timer = sentinel.next; timer != sentinel; timer = sentinel.next) {
+					deschedule(timer);
+				}
+			}
+		}
+	}
+
+	private int shiftOf(int level) {
+		return shift + level * BUCKET_BITS;
+	}
+
+	/**
+	 * The deadline of an entry, which is intrusively linked into a bucket of the wheel while scheduled.
+	 *
+	 * @param <K> The type of the associated key
+	 */
+	static final class Timer<K> {
+		final K key;
+		long deadline;
+		Timer<K> prev;
+		Timer<K> next;
+
+		Timer(K key) {
+			this.key = key;
+			// sentinels form an empty circular list
+			if (key == null) {
+				this.prev = this;
+				this.next = this;
+			}
+		}
+	}
+
+}
@@ -1,6 +1,17 @@
 package io.github.xanthic.cache.provider.androidx;
 
+import io.github.xanthic.cache.api.Cache;
 import io.github.xanthic.cache.core.provider.ProviderTestBase;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 public class AndroidLruProviderTest extends ProviderTestBase {
 
@@ -8,4 +19,87 @@ public class AndroidLruProviderTest extends ProviderTestBase {
 		super(new AndroidLruProvider());
 	}
 
+	@Test
+	@DisplayName("Test that a slow compute function only blocks its own lock stripe under high contention")
+	public void stripedComputeTest() throws Exception {
+		// Build partitioned cache
+		StripedLruDelegate<String, Integer> cache = (StripedLruDelegate<String, Integer>) this.<String, Integer>build(spec -> spec.highContention(true).maxSize(1024L));
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		// Hold a lock stripe within a compute function
+		CompletableFuture<Integer> slow = CompletableFuture.supplyAsync(() -> cache.computeIfAbsent("slow", key -> {
+			started.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return -1;
+		}));
+		Assertions.assertTrue(started.await(30, TimeUnit.SECONDS));
+
+		// Ensure keys of other stripes can be computed meanwhile
+		Object blocked = cache.getLock("slow");
+		int computed = 0;
+		for (int i = 0; i < 100; i++) {
+			String key = String.valueOf(i);
+			if (cache.getLock(key) == blocked) continue;
+			final int value = i;
+			Assertions.assertEquals(value, cache.computeIfAbsent(key, k -> value));
+			computed++;
+		}
+		Assertions.assertFalse(slow.isDone());
+
+		// Ensure the slow computation completes once released
+		release.countDown();
+		Assertions.assertEquals(-1, slow.get(30, TimeUnit.SECONDS));
+		Assertions.assertEquals(computed + 1, cache.size());
+	}
+
+	@Test
+	@DisplayName("Test that a maxWeight beyond the int range does not overflow the LruCache capacity")
+	public void largeWeightTest() {
+		for (Duration expiry : Arrays.asList(null, Duration.ofMinutes(1L))) {
+			// Build caches whose weight budget would truncate to 0 or wrap to a negative capacity
+			for (long maxWeight : new long[] { 1L << 32, 3L << 30 }) {
+				Cache<String, Integer> cache = build(spec -> spec.maxSize(null).expiryTime(expiry).maxWeight(maxWeight).weigher((key, value) -> value));
+
+				// Ensure entries are retained
+				cache.put("a", 1);
+				cache.put("b", Integer.MAX_VALUE / 2);
+				Assertions.assertEquals(1, cache.get("a"));
+				Assertions.assertEquals(Integer.MAX_VALUE / 2, cache.get("b"));
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("Test that weighted caches under high contention retain entries heavier than a per-segment share of the weight")
+	public void stripedWeightTest() {
+		// Build cache
+		Cache<String, Integer> cache = build(spec -> spec.maxSize(null).highContention(true).maxWeight(1000L).weigher((key, value) -> value));
+
+		// Ensure a single heavy entry is retained, as with an unpartitioned cache
+		cache.put("heavy", 900);
+		Assertions.assertEquals(900, cache.get("heavy"));
+
+		// Ensure the total weight is still bounded
+		cache.put("other", 200);
+		Assertions.assertNull(cache.get("heavy"));
+		Assertions.assertEquals(200, cache.get("other"));
+	}
+
+	@Disabled
+	@Override
+	public void variableExpiryTest() {
+		// skip test; per-entry expiry is not supported
+	}
+
+	@Disabled
+	@Override
+	public void putWithTtlTest() {
+		// skip test; per-entry expiry is not supported
+	}
+
 }
@@ -1,16 +1,24 @@
 package io.github.xanthic.cache.provider.cache2k;
 
+import io.github.xanthic.cache.api.domain.CacheStats;
 import io.github.xanthic.cache.core.delegate.GenericMapCacheDelegate;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
+import lombok.experimental.NonFinal;
 import org.cache2k.Cache;
+import org.cache2k.operation.CacheControl;
+import org.cache2k.operation.CacheStatistics;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 @Value
+@NonFinal
 @EqualsAndHashCode(callSuper = false)
 class Cache2kDelegate<K, V> extends GenericMapCacheDelegate<K, V> {
 	Cache<K, V> cache;
@@ -25,11 +33,31 @@ class Cache2kDelegate<K, V> extends GenericMapCacheDelegate<K, V> {
 		return cache.get(key);
 	}
 
+	@NotNull
+	@Override
+	public Map<K, V> getAll(@NotNull Collection<? extends K> keys) {
+		return cache.peekAll(keys);
+	}
+
+	@Override
+	public void removeAll(@NotNull Collection<? extends K> keys) {
+		cache.removeAll(keys);
+	}
+
 	@Override
 	public V put(@NotNull K key, @NotNull V value) {
 		return cache.peekAndPut(key, value);
 	}
 
+	@Override
+	public V put(@NotNull K key, @NotNull V value, @NotNull Duration ttl) {
+		return cache.invoke(key, entry -> {
+			V previous = entry.exists() ? entry.getValue() : null;
+			entry.setValue(value).setExpiryTime(entry.getStartTime() + ttl.toMillis());
+			return previous;
+		});
+	}
+
 	@Override
 	public V remove(@NotNull K key) {
 		return cache.peekAndRemove(key);
@@ -40,6 +68,22 @@ class Cache2kDelegate<K, V> extends GenericMapCacheDelegate<K, V> {
 		cache.clear();
 	}
 
+	@NotNull
+	@Override
+	public CacheStats stats() {
+		CacheStatistics stats = CacheControl.of(cache).sampleStatistics();
+		if (stats == null) return CacheStats.EMPTY; // statistics are disabled
+		return new CacheStats(
+			stats.getGetCount() - stats.getMissCount(),
+			stats.getMissCount(),
+			stats.getLoadCount(),
+			stats.getLoadExceptionCount(),
+			TimeUnit.MILLISECONDS.toNanos(stats.getTotalLoadMillis()),
+			stats.getEvictedCount() + stats.getExpiredCount(),
+			0L // not tracked by cache2k
+		);
+	}
+
 	@Override
 	public V computeIfAbsent(@NotNull K key, @NotNull Function<K, V> computeFunc) {
 		return cache.computeIfAbsent(key, computeFunc);
@@ -64,4 +108,9 @@ class Cache2kDelegate<K, V> extends GenericMapCacheDelegate<K, V> {
 	public void forEach(@NotNull BiConsumer<? super K, ? super V> action) {
 		cache.entries().forEach(e -> action.accept(e.getKey(), e.getValue()));
 	}
+
+	@Override
+	public void close() {
+		cache.close(); // cancels timers and removes the cache from its manager
+	}
 }
@@ -0,0 +1,90 @@
+package io.github.xanthic.cache.provider.cache2k;
+
+import io.github.xanthic.cache.api.CacheLoader;
+import io.github.xanthic.cache.api.LoadingCache;
+import io.github.xanthic.cache.api.exception.CacheLoadingException;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.cache2k.Cache;
+import org.cache2k.io.CacheLoaderException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+@Value
+@EqualsAndHashCode(callSuper = true)
+class Cache2kLoadingDelegate<K, V> extends Cache2kDelegate<K, V> implements LoadingCache<K, V> {
+
+	CacheLoader<K, V> loader;
+
+	public Cache2kLoadingDelegate(Cache<K, V> cache, CacheLoader<K, V> loader) {
+		super(cache);
+		this.loader = loader;
+	}
+
+	@NotNull
+	@Override
+	public V get(@NotNull K key) {
+		try {
+			return getCache().get(key);
+		} catch (CacheLoaderException e) {
+			throw unwrap(e);
+		}
+	}
+
+	@Override
+	public V getIfPresent(@NotNull K key) {
+		return getCache().peek(key);
+	}
+
+	@NotNull
+	@Override
+	public V getOrDefault(@NotNull K key, @NotNull V defaultValue) {
+		V value = getCache().peek(key);
+		return value != null ? value : defaultValue;
+	}
+
+	@NotNull
+	@Override
+	public Map<K, V> getAll(@NotNull Collection<? extends K> keys) {
+		Map<K, V> present = getCache().peekAll(keys);
+		Set<K> misses = new LinkedHashSet<>();
+		for (K key : keys) {
+			if (!present.containsKey(key)) {
+				misses.add(key);
+			}
+		}
+		if (misses.isEmpty()) return present;
+
+		// the advanced loader is not a bulk loader, so misses are collapsed into a single CacheLoader#loadAll call here
+		Map<K, V> loaded;
+		try {
+			loaded = loader.loadAll(misses);
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new CacheLoadingException(e);
+		}
+		getCache().putAll(loaded);
+
+		Map<K, V> result = new HashMap<>(present);
+		for (K key : misses) {
+			V value = loaded.get(key);
+			if (value != null) {
+				result.put(key, value);
+			}
+		}
+		return result;
+	}
+
+	private static RuntimeException unwrap(CacheLoaderException e) {
+		Throwable cause = e.getCause();
+		if (cause instanceof RuntimeException) return (RuntimeException) cause;
+		if (cause instanceof Error) throw (Error) cause;
+		return cause != null ? new CacheLoadingException(cause) : e;
+	}
+}
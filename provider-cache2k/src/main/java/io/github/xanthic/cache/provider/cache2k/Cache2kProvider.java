@@ -1,42 +1,78 @@
 package io.github.xanthic.cache.provider.cache2k;
 
 import io.github.xanthic.cache.api.Cache;
+import io.github.xanthic.cache.api.CacheLoader;
+import io.github.xanthic.cache.api.ExpiryCalculator;
 import io.github.xanthic.cache.api.ICacheSpec;
+import io.github.xanthic.cache.api.LoadingCache;
 import io.github.xanthic.cache.api.RemovalListener;
 import io.github.xanthic.cache.api.domain.ExpiryType;
 import io.github.xanthic.cache.api.domain.RemovalCause;
+import io.github.xanthic.cache.api.exception.CacheLoadingException;
 import io.github.xanthic.cache.core.AbstractCacheProvider;
+import io.github.xanthic.cache.core.RemovalFilters;
 import org.cache2k.Cache2kBuilder;
 import org.cache2k.event.CacheEntryEvictedListener;
 import org.cache2k.event.CacheEntryExpiredListener;
 import org.cache2k.event.CacheEntryOperationListener;
 import org.cache2k.event.CacheEntryRemovedListener;
 import org.cache2k.event.CacheEntryUpdatedListener;
+import org.cache2k.io.AdvancedCacheLoader;
 import org.cache2k.operation.Scheduler;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Provides {@link Cache} instances using {@link Cache2kBuilder}.
  * <p>
- * Implements size and time-based eviction, but {@link ExpiryType#POST_ACCESS} is
+ * Implements size, weight, and time-based eviction (including per-entry expiry), but {@link ExpiryType#POST_ACCESS} is
  * <a href="https://cache2k.org/docs/latest/apidocs/cache2k-api/org/cache2k/Cache2kBuilder.html#idleScanTime(java.time.Duration)">imprecisely</a> handled.
+ * <p>
+ * Supports {@link LoadingCache} natively, via an advanced loader (with bulk loads performed by the delegate).
+ * {@link ICacheSpec#refreshAfter()} is implemented via refresh-ahead, which takes precedence over {@link ICacheSpec#expiryTime()}.
+ * <p>
+ * Statistics are sampled from cache2k, which does not report the weight of evicted entries.
  */
 public final class Cache2kProvider extends AbstractCacheProvider {
 
 	@Override
 	public <K, V> Cache<K, V> build(ICacheSpec<K, V> spec) {
+		return new Cache2kDelegate<>(configure(spec).build());
+	}
+
+	@Override
+	public <K, V> LoadingCache<K, V> buildLoading(ICacheSpec<K, V> spec) {
+		CacheLoader<K, V> loader = spec.loader();
+		Cache2kBuilder<K, V> builder = configure(spec);
+		// an advanced loader receives the current entry, such that refreshes can be routed to CacheLoader#reload
+		builder.loader((AdvancedCacheLoader<K, V>) (key, startTime, currentEntry) -> {
+			//noinspection ConstantConditions
+			V value = currentEntry != null ? loader.reload(key, currentEntry.getValue()) : loader.load(key);
+			if (value == null) throw CacheLoadingException.nullValue(key); // rather than cache2k's own exception
+			return value;
+		});
+		return new Cache2kLoadingDelegate<>(builder.build(), loader);
+	}
+
+	private <K, V> Cache2kBuilder<K, V> configure(ICacheSpec<K, V> spec) {
+		handleUnsupportedSetting(spec.maxOffHeapBytes(), "Off-heap storage");
+		handleUnsupportedSetting(spec.diskDirectory(), "Disk storage");
 		//noinspection unchecked
 		Cache2kBuilder<K, V> builder = (Cache2kBuilder<K, V>) Cache2kBuilder.forUnknownTypes()
-			.disableStatistics(true) // avoid performance penalty since we don't offer an interface for these statistics
+			.disableStatistics(!Boolean.TRUE.equals(spec.recordStats())) // avoid performance penalty unless statistics were requested
 			.boostConcurrency(Boolean.TRUE.equals(spec.highContention())); // utilize more memory to optimize for many threads performing mutations
 
-		if (spec.maxSize() != null) {
+		if (spec.maxWeight() != null) {
+			//noinspection ConstantConditions
+			builder.weigher((key, value) -> spec.weigher().weigh(key, value));
+			builder.maximumWeight(spec.maxWeight());
+		} else if (spec.maxSize() != null) {
 			builder.entryCapacity(spec.maxSize());
 		} else {
 			// We must specify MAX_VALUE to create an unbounded cache to comply with the Xanthic maxSize spec
@@ -46,7 +82,7 @@ public final class Cache2kProvider extends AbstractCacheProvider {
 
 		ScheduledExecutorService exec = populateExecutor(builder, spec.executor());
 
-		buildListeners(spec.removalListener()).forEach(li -> {
+		buildListeners(spec.removalListener(), RemovalFilters.listenedCauses(spec)).forEach(li -> {
 			if (exec != null) {
 				builder.addAsyncListener(li);
 			} else {
@@ -54,7 +90,19 @@ public final class Cache2kProvider extends AbstractCacheProvider {
 			}
 		});
 
-		if (spec.expiryTime() == null) {
+		if (spec.refreshAfter() != null) {
+			// cache2k reloads entries in the background once they reach their write expiry, while still serving the prior value.
+			// Thus, the refresh interval doubles as the expiry; refreshed entries that are not accessed expire after another interval
+			handleUnsupportedExpiry(spec.expiryTime());
+			handleUnsupportedSetting(spec.expiryCalculator(), "Per-entry expiry alongside refreshAfter");
+			builder.expireAfterWrite(spec.refreshAfter());
+			builder.refreshAhead(true);
+		} else if (spec.expiryCalculator() != null) {
+			ExpiryCalculator<K, V> calculator = spec.expiryCalculator();
+			builder.expiryPolicy((key, value, startTime, currentEntry) -> startTime + calculator.expireAfterWrite(key, value).toMillis());
+			if (exec != null)
+				builder.sharpExpiry(true);
+		} else if (spec.expiryTime() == null) {
 			builder.eternal(true);
 		} else {
 			handleExpiration(spec.expiryTime(), spec.expiryType(), (time, type) -> {
@@ -70,7 +118,7 @@ public final class Cache2kProvider extends AbstractCacheProvider {
 			});
 		}
 
-		return new Cache2kDelegate<>(builder.build());
+		return builder;
 	}
 
 	@Override
@@ -98,14 +146,19 @@ public final class Cache2kProvider extends AbstractCacheProvider {
 		return exec;
 	}
 
-	private static <K, V> Collection<CacheEntryOperationListener<K, V>> buildListeners(RemovalListener<K, V> listener) {
+	private static <K, V> Collection<CacheEntryOperationListener<K, V>> buildListeners(RemovalListener<K, V> listener, Set<RemovalCause> causes) {
 		if (listener == null) return Collections.emptyList();
-		return Arrays.asList(
-			(CacheEntryEvictedListener<K, V>) (cache, entry) -> listener.onRemoval(entry.getKey(), entry.getValue(), RemovalCause.SIZE),
-			(CacheEntryExpiredListener<K, V>) (cache, entry) -> listener.onRemoval(entry.getKey(), entry.getValue(), RemovalCause.TIME),
-			(CacheEntryRemovedListener<K, V>) (cache, entry) -> listener.onRemoval(entry.getKey(), entry.getValue(), RemovalCause.MANUAL),
-			(CacheEntryUpdatedListener<K, V>) (cache, entry, newEntry) -> listener.onRemoval(entry.getKey(), entry.getValue(), RemovalCause.REPLACED)
-		);
+		// only register the listener types of interest, so other operations incur no event dispatch
+		Collection<CacheEntryOperationListener<K, V>> listeners = new ArrayList<>(causes.size());
+		if (causes.contains(RemovalCause.SIZE))
+			listeners.add((CacheEntryEvictedListener<K, V>) (cache, entry) -> listener.onRemoval(entry.getKey(), entry.getValue(), RemovalCause.SIZE));
+		if (causes.contains(RemovalCause.TIME))
+			listeners.add((CacheEntryExpiredListener<K, V>) (cache, entry) -> listener.onRemoval(entry.getKey(), entry.getValue(), RemovalCause.TIME));
+		if (causes.contains(RemovalCause.MANUAL))
+			listeners.add((CacheEntryRemovedListener<K, V>) (cache, entry) -> listener.onRemoval(entry.getKey(), entry.getValue(), RemovalCause.MANUAL));
+		if (causes.contains(RemovalCause.REPLACED))
+			listeners.add((CacheEntryUpdatedListener<K, V>) (cache, entry, newEntry) -> listener.onRemoval(entry.getKey(), entry.getValue(), RemovalCause.REPLACED));
+		return listeners;
 	}
 
 	@Override
@@ -0,0 +1,39 @@
+package io.github.xanthic.cache.provider.caffeine;
+
+import io.github.xanthic.cache.api.AsyncCache;
+import io.github.xanthic.cache.api.Cache;
+import lombok.Value;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+@Value
+class CaffeineAsyncDelegate<K, V> implements AsyncCache<K, V> {
+	com.github.benmanes.caffeine.cache.AsyncCache<K, V> cache;
+	Cache<K, V> synchronous;
+
+	public CaffeineAsyncDelegate(com.github.benmanes.caffeine.cache.AsyncCache<K, V> cache) {
+		this.cache = cache;
+		this.synchronous = new CaffeineDelegate<>(cache.synchronous());
+	}
+
+	@NotNull
+	@Override
+	public CompletableFuture<V> getAsync(@NotNull K key) {
+		CompletableFuture<V> future = cache.getIfPresent(key);
+		return future != null ? future : CompletableFuture.completedFuture(null);
+	}
+
+	@NotNull
+	@Override
+	public CompletableFuture<V> computeIfAbsentAsync(@NotNull K key, @NotNull Function<K, V> computeFunc) {
+		return cache.get(key, computeFunc);
+	}
+
+	@NotNull
+	@Override
+	public Cache<K, V> synchronous() {
+		return synchronous;
+	}
+}
@@ -1,15 +1,24 @@
 package io.github.xanthic.cache.provider.caffeine;
 
 import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import io.github.xanthic.cache.api.domain.CacheStats;
 import io.github.xanthic.cache.core.delegate.GenericMapCacheDelegate;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
+import lombok.experimental.NonFinal;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 @Value
+@NonFinal
 @EqualsAndHashCode(callSuper = false)
 class CaffeineDelegate<K, V> extends GenericMapCacheDelegate<K, V> {
 	Cache<K, V> cache;
@@ -24,11 +33,29 @@ class CaffeineDelegate<K, V> extends GenericMapCacheDelegate<K, V> {
 		return cache.getIfPresent(key);
 	}
 
+	@Override
+	public V put(@NotNull K key, @NotNull V value, @NotNull Duration ttl) {
+		Optional<Policy.VarExpiration<K, V>> policy = cache.policy().expireVariably();
+		if (!policy.isPresent()) return super.put(key, value, ttl);
+		return policy.get().put(key, value, ttl.toNanos(), TimeUnit.NANOSECONDS);
+	}
+
 	@Override
 	public V computeIfAbsent(@NotNull K key, @NotNull Function<K, V> computeFunc) {
 		return cache.get(key, computeFunc);
 	}
 
+	@NotNull
+	@Override
+	public Map<K, V> getAll(@NotNull Collection<? extends K> keys) {
+		return cache.getAllPresent(keys);
+	}
+
+	@Override
+	public void removeAll(@NotNull Collection<? extends K> keys) {
+		cache.invalidateAll(keys);
+	}
+
 	@Override
 	public void clear() {
 		cache.invalidateAll();
@@ -40,8 +67,41 @@ class CaffeineDelegate<K, V> extends GenericMapCacheDelegate<K, V> {
 		return cache.estimatedSize();
 	}
 
+	@Override
+	public long estimatedSize() {
+		return cache.estimatedSize();
+	}
+
+	@NotNull
+	@Override
+	public CacheStats stats() {
+		com.github.benmanes.caffeine.cache.stats.CacheStats stats = cache.stats();
+		return new CacheStats(
+			stats.hitCount(),
+			stats.missCount(),
+			stats.loadSuccessCount(),
+			stats.loadFailureCount(),
+			stats.totalLoadTime(),
+			stats.evictionCount(),
+			stats.evictionWeight()
+		);
+	}
+
 	@Override
 	public void putAll(@NotNull Map<? extends K, ? extends V> map) {
 		cache.putAll(map);
 	}
+
+	@Override
+	public void forEachHottest(@NotNull BiConsumer<? super K, ? super V> action) {
+		Policy<K, V> policy = cache.policy();
+		Optional<Map<K, V>> ordered = policy.eviction().map(eviction -> eviction.hottest(Integer.MAX_VALUE));
+		if (!ordered.isPresent())
+			ordered = policy.expireAfterAccess().map(expiration -> expiration.youngest(Integer.MAX_VALUE));
+		if (ordered.isPresent()) {
+			ordered.get().forEach(action);
+		} else {
+			forEach(action);
+		}
+	}
 }
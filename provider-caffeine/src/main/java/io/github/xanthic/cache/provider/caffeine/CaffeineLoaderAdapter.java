@@ -0,0 +1,58 @@
+package io.github.xanthic.cache.provider.caffeine;
+
+import io.github.xanthic.cache.api.CacheLoader;
+import io.github.xanthic.cache.api.exception.CacheLoadingException;
+import lombok.Value;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Adapts a Xanthic {@link CacheLoader} to Caffeine, such that checked exceptions and null values surface as {@link CacheLoadingException}.
+ */
+@Value
+class CaffeineLoaderAdapter<K, V> implements com.github.benmanes.caffeine.cache.CacheLoader<K, V> {
+	CacheLoader<K, V> loader;
+
+	@Override
+	public V load(K key) {
+		V value;
+		try {
+			value = loader.load(key);
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new CacheLoadingException(e);
+		}
+		if (value == null) throw CacheLoadingException.nullValue(key);
+		return value;
+	}
+
+	@Override
+	public Map<K, V> loadAll(Iterable<? extends K> keys) {
+		Set<K> keySet = new LinkedHashSet<>();
+		keys.forEach(keySet::add);
+		try {
+			return loader.loadAll(keySet);
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new CacheLoadingException(e);
+		}
+	}
+
+	@Override
+	public V reload(K key, V oldValue) {
+		V value;
+		try {
+			value = loader.reload(key, oldValue);
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new CacheLoadingException(e);
+		}
+		if (value == null) throw CacheLoadingException.nullValue(key);
+		return value;
+	}
+}
@@ -0,0 +1,44 @@
+package io.github.xanthic.cache.provider.caffeine;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Map;
+
+@Value
+@EqualsAndHashCode(callSuper = true)
+class CaffeineLoadingDelegate<K, V> extends CaffeineDelegate<K, V> implements io.github.xanthic.cache.api.LoadingCache<K, V> {
+	LoadingCache<K, V> loadingCache;
+
+	public CaffeineLoadingDelegate(LoadingCache<K, V> cache) {
+		super(cache);
+		this.loadingCache = cache;
+	}
+
+	@NotNull
+	@Override
+	public V get(@NotNull K key) {
+		return loadingCache.get(key);
+	}
+
+	@Override
+	public V getIfPresent(@NotNull K key) {
+		return loadingCache.getIfPresent(key);
+	}
+
+	@NotNull
+	@Override
+	public V getOrDefault(@NotNull K key, @NotNull V defaultValue) {
+		V value = loadingCache.getIfPresent(key);
+		return value != null ? value : defaultValue;
+	}
+
+	@NotNull
+	@Override
+	public Map<K, V> getAll(@NotNull Collection<? extends K> keys) {
+		return loadingCache.getAll(keys);
+	}
+}
@@ -0,0 +1,39 @@
+package io.github.xanthic.cache.provider.caffeine3;
+
+import io.github.xanthic.cache.api.AsyncCache;
+import io.github.xanthic.cache.api.Cache;
+import lombok.Value;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+@Value
+class Caffeine3AsyncDelegate<K, V> implements AsyncCache<K, V> {
+	com.github.benmanes.caffeine.cache.AsyncCache<K, V> cache;
+	Cache<K, V> synchronous;
+
+	public Caffeine3AsyncDelegate(com.github.benmanes.caffeine.cache.AsyncCache<K, V> cache) {
+		this.cache = cache;
+		this.synchronous = new Caffeine3Delegate<>(cache.synchronous());
+	}
+
+	@NotNull
+	@Override
+	public CompletableFuture<V> getAsync(@NotNull K key) {
+		CompletableFuture<V> future = cache.getIfPresent(key);
+		return future != null ? future : CompletableFuture.completedFuture(null);
+	}
+
+	@NotNull
+	@Override
+	public CompletableFuture<V> computeIfAbsentAsync(@NotNull K key, @NotNull Function<K, V> computeFunc) {
+		return cache.get(key, computeFunc);
+	}
+
+	@NotNull
+	@Override
+	public Cache<K, V> synchronous() {
+		return synchronous;
+	}
+}
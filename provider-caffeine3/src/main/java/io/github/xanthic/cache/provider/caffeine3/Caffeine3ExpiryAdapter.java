@@ -0,0 +1,28 @@
+package io.github.xanthic.cache.provider.caffeine3;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.github.xanthic.cache.api.ExpiryCalculator;
+import lombok.Value;
+
+/**
+ * Adapts a Xanthic {@link ExpiryCalculator} to Caffeine, such that reads do not extend the lifetime of entries.
+ */
+@Value
+class Caffeine3ExpiryAdapter<K, V> implements Expiry<K, V> {
+	ExpiryCalculator<K, V> calculator;
+
+	@Override
+	public long expireAfterCreate(K key, V value, long currentTime) {
+		return calculator.expireAfterWrite(key, value).toNanos();
+	}
+
+	@Override
+	public long expireAfterUpdate(K key, V value, long currentTime, long currentDuration) {
+		return calculator.expireAfterWrite(key, value).toNanos();
+	}
+
+	@Override
+	public long expireAfterRead(K key, V value, long currentTime, long currentDuration) {
+		return currentDuration;
+	}
+}
@@ -2,8 +2,10 @@ package io.github.xanthic.cache.provider.caffeine3;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Scheduler;
+import io.github.xanthic.cache.api.AsyncCache;
 import io.github.xanthic.cache.api.Cache;
 import io.github.xanthic.cache.api.ICacheSpec;
+import io.github.xanthic.cache.api.LoadingCache;
 import io.github.xanthic.cache.api.domain.ExpiryType;
 import io.github.xanthic.cache.api.domain.RemovalCause;
 import io.github.xanthic.cache.core.AbstractCacheProvider;
@@ -11,7 +13,9 @@ import io.github.xanthic.cache.core.AbstractCacheProvider;
 /**
  * Provides {@link Cache} instances using {@link Caffeine}.
  * <p>
- * Implements size and time-based eviction.
+ * Implements size, weight, and time-based eviction, including per-entry expiry.
+ * <p>
+ * Supports {@link AsyncCache} and {@link LoadingCache} natively, running computations on {@link ICacheSpec#executor()} if specified.
  * <p>
  * For timely {@link ICacheSpec#removalListener()} calls, {@link ICacheSpec#executor()} should be specified.
  */
@@ -19,8 +23,35 @@ public final class Caffeine3Provider extends AbstractCacheProvider {
 
 	@Override
 	public <K, V> Cache<K, V> build(ICacheSpec<K, V> spec) {
+		return new Caffeine3Delegate<>(configure(spec).build());
+	}
+
+	@Override
+	public <K, V> AsyncCache<K, V> buildAsync(ICacheSpec<K, V> spec) {
+		Caffeine<Object, Object> builder = configure(spec);
+		if (spec.executor() != null) builder.executor(spec.executor());
+		return new Caffeine3AsyncDelegate<>(builder.buildAsync());
+	}
+
+	@Override
+	public <K, V> LoadingCache<K, V> buildLoading(ICacheSpec<K, V> spec) {
+		Caffeine<Object, Object> builder = configure(spec);
+		if (spec.refreshAfter() != null) {
+			builder.refreshAfterWrite(spec.refreshAfter());
+			if (spec.executor() != null) builder.executor(spec.executor());
+		}
+		//noinspection ConstantConditions
+		return new Caffeine3LoadingDelegate<>(builder.build(new Caffeine3LoaderAdapter<>(spec.loader())));
+	}
+
+	private <K, V> Caffeine<Object, Object> configure(ICacheSpec<K, V> spec) {
+		handleUnsupportedSetting(spec.maxOffHeapBytes(), "Off-heap storage");
+		handleUnsupportedSetting(spec.diskDirectory(), "Disk storage");
 		Caffeine<Object, Object> builder = Caffeine.newBuilder();
 		if (spec.maxSize() != null) builder.maximumSize(spec.maxSize());
+		if (spec.maxWeight() != null) builder.maximumWeight(spec.maxWeight()).<K, V>weigher((key, value) -> spec.weigher().weigh(key, value));
+		if (spec.expiryCalculator() != null) builder.expireAfter(new Caffeine3ExpiryAdapter<>(spec.expiryCalculator()));
+		if (Boolean.TRUE.equals(spec.recordStats())) builder.recordStats();
 		if (spec.executor() != null) builder.scheduler(Scheduler.forScheduledExecutorService(spec.executor()));
 		if (spec.removalListener() != null) builder.<K, V>removalListener((key, value, cause) -> spec.removalListener().onRemoval(key, value, getCause(cause)));
 		handleExpiration(spec.expiryTime(), spec.expiryType(), (time, type) -> {
@@ -29,8 +60,7 @@ public final class Caffeine3Provider extends AbstractCacheProvider {
 			else
 				builder.expireAfterAccess(time);
 		});
-
-		return new Caffeine3Delegate<>(builder.build());
+		return builder;
 	}
 
 	@SuppressWarnings("DuplicatedCode")
@@ -1,63 +1,120 @@
 package io.github.xanthic.cache.provider.ehcache;
 
 import io.github.xanthic.cache.api.Cache;
+import io.github.xanthic.cache.api.domain.CacheStats;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 import lombok.Value;
+import org.ehcache.core.statistics.CacheStatistics;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+/**
+ * Wraps an Ehcache {@link org.ehcache.Cache}, which lacks atomic compute operations.
+ * <p>
+ * Writes are serialized per key via a table of lock stripes, so compute functions are invoked at most once per call,
+ * and concurrent callers for the same key await the in-flight computation rather than duplicating it.
+ * Reads remain lock-free. Compute functions must not write to other keys of this cache, as their stripes could deadlock.
+ * Bulk writes are grouped by stripe, such that each group is passed to the native bulk operation while holding only its own stripe.
+ *
+ * @param <K> The type of keys that form the cache
+ * @param <V> The type of values contained in the cache
+ */
 @Value
 @ApiStatus.Internal
 @SuppressWarnings("unchecked")
 public class EhcacheDelegate<K, V> implements Cache<K, V> {
+	private static final int LOCKS_PER_CORE = 16;
+
 	org.ehcache.Cache<Object, Object> cache;
 
+	@Getter(AccessLevel.NONE)
+	LongAdder entries; // maintained by cache events
+
+	@Nullable
+	CacheStatistics statistics; // null unless statistics were requested
+
+	@ToString.Exclude
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	Runnable releaser; // cancels maintenance and removes the cache from its manager
+
+	@ToString.Exclude
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	Object[] locks = newLocks();
+
+	@ToString.Exclude
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	AtomicBoolean closed = new AtomicBoolean();
+
 	@Override
 	public @Nullable V get(@NotNull K key) {
 		return (V) cache.get(key);
 	}
 
 	@Override
-	public @Nullable V put(@NotNull K key, @NotNull V value) {
-		Object prev = cache.get(key);
-		while (true) {
-			if (prev == null) {
-				Object latest = cache.putIfAbsent(key, value);
-				if (latest == null) {
-					return null;
-				}
-				prev = latest;
-			} else {
-				if (cache.replace(key, prev, value)) {
-					return (V) prev;
-				}
-				prev = cache.get(key);
+	public @NotNull Map<K, V> getAll(@NotNull Collection<? extends K> keys) {
+		Set<? extends K> keySet = keys instanceof Set ? (Set<? extends K>) keys : new HashSet<>(keys);
+		Map<K, V> map = new HashMap<>();
+		cache.getAll(keySet).forEach((k, v) -> {
+			if (v != null) {
+				map.put((K) k, (V) v);
 			}
+		});
+		return map;
+	}
+
+	@Override
+	public void removeAll(@NotNull Collection<? extends K> keys) {
+		Map<Integer, Set<Object>> stripes = new HashMap<>();
+		for (K key : keys) {
+			stripes.computeIfAbsent(getStripe(key), i -> new HashSet<>()).add(key);
 		}
+		stripes.forEach((stripe, group) -> {
+			synchronized (locks[stripe]) {
+				cache.removeAll(group);
+			}
+		});
 	}
 
 	@Override
-	public @Nullable V remove(@NotNull K key) {
-		while (true) {
+	public @Nullable V put(@NotNull K key, @NotNull V value) {
+		synchronized (getLock(key)) {
 			Object prev = cache.get(key);
-			if (prev == null) {
-				return null;
-			}
+			cache.put(key, value);
+			return (V) prev;
+		}
+	}
 
-			if (cache.remove(key, prev)) {
-				return (V) prev;
-			}
+	@Override
+	public @Nullable V remove(@NotNull K key) {
+		synchronized (getLock(key)) {
+			Object prev = cache.get(key);
+			if (prev != null) cache.remove(key);
+			return (V) prev;
 		}
 	}
 
 	@Override
 	public void clear() {
 		cache.clear();
+		entries.reset(); // ehcache does not fire events upon clear
 	}
 
 	@Override
@@ -69,31 +126,36 @@ public class EhcacheDelegate<K, V> implements Cache<K, V> {
 		return n;
 	}
 
+	@Override
+	public long estimatedSize() {
+		return Math.max(entries.sum(), 0L);
+	}
+
+	@Override
+	public @NotNull CacheStats stats() {
+		if (statistics == null) return CacheStats.EMPTY;
+		return new CacheStats(
+			statistics.getCacheHits(),
+			statistics.getCacheMisses(),
+			0L,
+			0L,
+			0L,
+			statistics.getCacheEvictions() + statistics.getCacheExpirations(),
+			0L
+		);
+	}
+
 	@Override
 	public @Nullable V compute(@NotNull K key, @NotNull BiFunction<? super K, ? super V, ? extends V> computeFunc) {
-		Object old = cache.get(key);
-		while (true) {
-			V computed = computeFunc.apply(key, (V) old);
-			if (computed == null) {
-				if (old == null || cache.remove(key, old)) {
-					return null;
-				}
-			} else {
-				if (old == null) {
-					Object latest = cache.putIfAbsent(key, computed);
-					if (latest == null) {
-						return computed;
-					} else {
-						old = latest;
-						continue;
-					}
-				} else {
-					if (cache.replace(key, old, computed)) {
-						return computed;
-					}
-				}
+		synchronized (getLock(key)) {
+			V old = (V) cache.get(key);
+			V computed = computeFunc.apply(key, old);
+			if (computed != null) {
+				cache.put(key, computed);
+			} else if (old != null) {
+				cache.remove(key);
 			}
-			old = cache.get(key);
+			return computed;
 		}
 	}
 
@@ -104,82 +166,111 @@ public class EhcacheDelegate<K, V> implements Cache<K, V> {
 			return (V) initial;
 		}
 
-		V computed = computeFunc.apply(key);
-		if (computed == null) {
-			return null;
-		}
+		synchronized (getLock(key)) {
+			Object present = cache.get(key);
+			if (present != null) {
+				return (V) present; // computed by a concurrent caller
+			}
 
-		Object previous = cache.putIfAbsent(key, computed);
-		if (previous == null) {
+			V computed = computeFunc.apply(key);
+			if (computed != null) {
+				cache.put(key, computed);
+			}
 			return computed;
-		} else {
-			return (V) previous;
 		}
 	}
 
 	@Override
 	public @Nullable V computeIfPresent(@NotNull K key, @NotNull BiFunction<? super K, ? super V, ? extends V> computeFunc) {
-		while (true) {
-			Object oldValue = cache.get(key);
-			if (oldValue == null) {
+		if (cache.get(key) == null) {
+			return null;
+		}
+
+		synchronized (getLock(key)) {
+			V old = (V) cache.get(key);
+			if (old == null) {
 				return null;
 			}
-			V computed = computeFunc.apply(key, (V) oldValue);
-			if (computed == null) {
-				if (cache.remove(key, oldValue))
-					return null;
+
+			V computed = computeFunc.apply(key, old);
+			if (computed != null) {
+				cache.put(key, computed);
 			} else {
-				if (cache.replace(key, oldValue, computed)) {
-					return computed;
-				}
+				cache.remove(key);
 			}
+			return computed;
 		}
 	}
 
 	@Override
 	public @Nullable V putIfAbsent(@NotNull K key, @NotNull V value) {
-		return (V) cache.putIfAbsent(key, value);
+		synchronized (getLock(key)) {
+			return (V) cache.putIfAbsent(key, value);
+		}
 	}
 
 	@Override
 	public V merge(@NotNull K key, @NotNull V value, @NotNull BiFunction<V, V, V> mergeFunc) {
-		Object oldValue = cache.get(key);
-		while (true) {
-			if (oldValue == null) {
-				Object latest = cache.putIfAbsent(key, value);
-				if (latest == null) {
-					return value;
-				} else {
-					oldValue = latest;
-				}
-			} else {
-				V merged = mergeFunc.apply((V) oldValue, value);
-				if (cache.replace(key, oldValue, merged)) {
-					return merged;
-				} else {
-					oldValue = cache.get(key);
-				}
-			}
+		synchronized (getLock(key)) {
+			V old = (V) cache.get(key);
+			V merged = old != null ? mergeFunc.apply(old, value) : value;
+			cache.put(key, merged);
+			return merged;
 		}
 	}
 
 	@Override
 	public boolean replace(@NotNull K key, @NotNull V value) {
-		return cache.replace(key, value) != null;
+		synchronized (getLock(key)) {
+			return cache.replace(key, value) != null;
+		}
 	}
 
 	@Override
 	public boolean replace(@NotNull K key, @NotNull V oldValue, @NotNull V newValue) {
-		return cache.replace(key, oldValue, newValue);
+		synchronized (getLock(key)) {
+			return cache.replace(key, oldValue, newValue);
+		}
 	}
 
 	@Override
 	public void putAll(@NotNull Map<? extends K, ? extends V> map) {
-		cache.putAll(map);
+		Map<Integer, Map<Object, Object>> stripes = new HashMap<>();
+		map.forEach((key, value) -> stripes.computeIfAbsent(getStripe(key), i -> new HashMap<>()).put(key, value));
+		stripes.forEach((stripe, group) -> {
+			synchronized (locks[stripe]) {
+				cache.putAll(group);
+			}
+		});
 	}
 
 	@Override
 	public void forEach(@NotNull BiConsumer<? super K, ? super V> action) {
 		cache.forEach(e -> action.accept((K) e.getKey(), (V) e.getValue()));
 	}
+
+	@Override
+	public void close() {
+		if (closed.compareAndSet(false, true)) {
+			releaser.run();
+		}
+	}
+
+	private Object getLock(Object key) {
+		return locks[getStripe(key)];
+	}
+
+	private int getStripe(Object key) {
+		int h = key.hashCode();
+		return (h ^ (h >>> 16)) & (locks.length - 1);
+	}
+
+	private static Object[] newLocks() {
+		int n = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * LOCKS_PER_CORE - 1) << 1;
+		Object[] locks = new Object[n];
+		for (int i = 0; i < n; i++) {
+			locks[i] = new Object();
+		}
+		return locks;
+	}
 }
@@ -0,0 +1,33 @@
+package io.github.xanthic.cache.provider.ehcache;
+
+import io.github.xanthic.cache.api.ExpiryCalculator;
+import lombok.Value;
+import org.ehcache.expiry.ExpiryPolicy;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Adapts a Xanthic {@link ExpiryCalculator} to Ehcache, such that reads do not extend the lifetime of entries.
+ */
+@Value
+class EhcacheExpiryAdapter<K, V> implements ExpiryPolicy<Object, Object> {
+	ExpiryCalculator<K, V> calculator;
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Duration getExpiryForCreation(Object key, Object value) {
+		return calculator.expireAfterWrite((K) key, (V) value);
+	}
+
+	@Override
+	public Duration getExpiryForAccess(Object key, Supplier<?> value) {
+		return null; // retain the existing expiry
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Duration getExpiryForUpdate(Object key, Supplier<?> oldValue, Object newValue) {
+		return calculator.expireAfterWrite((K) key, (V) newValue);
+	}
+}
@@ -1,53 +1,137 @@
 package io.github.xanthic.cache.provider.ehcache;
 
 import io.github.xanthic.cache.api.Cache;
+import io.github.xanthic.cache.api.CacheSerializer;
 import io.github.xanthic.cache.api.ICacheSpec;
+import io.github.xanthic.cache.api.RemovalListener;
 import io.github.xanthic.cache.api.domain.ExpiryType;
 import io.github.xanthic.cache.api.domain.RemovalCause;
+import io.github.xanthic.cache.api.exception.MisconfiguredCacheException;
 import io.github.xanthic.cache.core.AbstractCacheProvider;
+import io.github.xanthic.cache.core.RemovalFilters;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
 import org.ehcache.CacheManager;
 import org.ehcache.config.builders.CacheConfigurationBuilder;
 import org.ehcache.config.builders.CacheEventListenerConfigurationBuilder;
 import org.ehcache.config.builders.CacheManagerBuilder;
 import org.ehcache.config.builders.ExpiryPolicyBuilder;
 import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.config.units.EntryUnit;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.core.spi.service.StatisticsService;
 import org.ehcache.core.spi.time.TickingTimeSource;
+import org.ehcache.core.util.ClassLoading;
 import org.ehcache.event.EventType;
 import org.ehcache.expiry.ExpiryPolicy;
+import org.ehcache.impl.config.persistence.DefaultPersistenceConfiguration;
 import org.ehcache.impl.internal.TimeSourceConfiguration;
+import org.ehcache.impl.internal.statistics.DefaultStatisticsService;
+import org.ehcache.impl.serialization.PlainJavaSerializer;
+import org.ehcache.spi.serialization.Serializer;
+import org.jetbrains.annotations.Nullable;
 
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * Provides {@link Cache} instances using {@link org.ehcache.core.Ehcache} in heap-mode.
+ * Provides {@link Cache} instances using {@link org.ehcache.core.Ehcache}, in heap-mode by default.
  * <p>
- * Implements size and time-based expiry.
+ * When {@link ICacheSpec#maxOffHeapBytes()} is specified, entries are stored in an off-heap tier,
+ * and {@link ICacheSpec#maxSize()} bounds the heap tier in front of it (defaulting to {@value #DEFAULT_HEAP_ENTRIES} entries).
+ * Similarly, {@link ICacheSpec#diskDirectory()} adds a (non-persistent) disk tier, to which cold entries overflow.
+ * When both are specified, {@link ICacheSpec#maxDiskBytes()} must exceed {@link ICacheSpec#maxOffHeapBytes()}.
+ * Off-heap and disk keys and values must be {@link java.io.Serializable}, unless custom serializers are specified.
+ * <p>
+ * Implements size and time-based expiry, including {@link ICacheSpec#expiryCalculator()}.
+ * However, {@link Cache#put(Object, Object, Duration)} is not supported.
+ * Expired entries are removed upon access, or by periodic sweeps on {@link ICacheSpec#executor()} (if specified).
+ * <p>
+ * Writes are serialized per key (via lock striping), so compute functions are invoked at most once per call,
+ * rather than being retried under contention.
+ * <p>
+ * Statistics are obtained from the Ehcache statistics service, which does not track loads or eviction weights.
+ * {@link Cache#estimatedSize()} is maintained by a (synchronous) listener that counts the created and removed mappings,
+ * whereas {@link Cache#size()} iterates over the cache.
+ * The removal listener (if any) is registered separately, and only subscribes to the events of the causes it is interested in.
+ * <p>
+ * Caches are created within a pooled {@link CacheManager} that is shared by caches that require the same manager-level services
+ * (i.e., time source, statistics, and disk directory), so building a cache does not initialize a new manager.
+ * Closing a cache removes it from its manager, and the manager is closed once its last cache has been closed.
+ * Managers that share a disk directory (but not the other services) persist to distinct subdirectories, so they do not compete for its lock.
  * <p>
  * Specifying {@link ICacheSpec#maxSize()} is highly recommended.
  */
 public final class EhcacheProvider extends AbstractCacheProvider {
+	/**
+	 * The capacity of the heap tier that fronts the off-heap or disk tiers, when {@link ICacheSpec#maxSize()} is not specified.
+	 */
+	static final long DEFAULT_HEAP_ENTRIES = 1000L;
+
+	/**
+	 * The events that add or remove mappings, which are counted to support {@link Cache#estimatedSize()}.
+	 */
+	static final Set<EventType> COUNTED_EVENTS = Collections.unmodifiableSet(EnumSet.of(EventType.CREATED, EventType.REMOVED, EventType.EVICTED, EventType.EXPIRED));
+
+	private static final Map<ManagerKey, SharedManager> MANAGERS = new ConcurrentHashMap<>();
 
 	@Override
 	public <K, V> Cache<K, V> build(ICacheSpec<K, V> spec) {
-		CacheManagerBuilder<CacheManager> managerBuilder = CacheManagerBuilder.newCacheManagerBuilder();
-		if (Boolean.TRUE.equals(spec.highContention()) && spec.expiryTime() != null) {
-			// https://www.ehcache.org/documentation/3.10/performance.html#time-source
-			managerBuilder = managerBuilder.using(
-				new TimeSourceConfiguration(new TickingTimeSource(1L, 1000L))
-			);
+		handleUnsupportedWeight(spec.maxWeight());
+		if (spec.maxOffHeapBytes() != null && spec.maxDiskBytes() != null && spec.maxDiskBytes() <= spec.maxOffHeapBytes())
+			throw new MisconfiguredCacheException("Ehcache requires maxDiskBytes to exceed maxOffHeapBytes!");
+
+		boolean ticking = Boolean.TRUE.equals(spec.highContention()) && (spec.expiryTime() != null || spec.expiryCalculator() != null);
+		Path diskDirectory = spec.diskDirectory() != null ? spec.diskDirectory().toAbsolutePath().normalize() : null;
+		ManagerKey key = new ManagerKey(ticking, Boolean.TRUE.equals(spec.recordStats()), diskDirectory);
+		SharedManager shared = acquire(key);
+		try {
+			return buildCache(spec, shared, () -> release(key, shared));
+		} catch (RuntimeException e) {
+			release(key, shared);
+			throw e;
 		}
-		CacheManager manager = managerBuilder.build(true);
+	}
+
+	private <K, V> Cache<K, V> buildCache(ICacheSpec<K, V> spec, SharedManager shared, Runnable releaser) {
+		CacheManager manager = shared.getManager();
+		StatisticsService statistics = shared.getStatistics();
+
+		boolean serialized = spec.maxOffHeapBytes() != null || spec.maxDiskBytes() != null;
+		// ehcache always requires a heap tier, which must be bounded when it caches lower tiers
+		long heapEntries = spec.maxSize() != null ? spec.maxSize() : serialized ? DEFAULT_HEAP_ENTRIES : Long.MAX_VALUE;
+		ResourcePoolsBuilder pools = ResourcePoolsBuilder.newResourcePoolsBuilder().heap(heapEntries, EntryUnit.ENTRIES);
+		if (spec.maxOffHeapBytes() != null)
+			pools = pools.offheap(spec.maxOffHeapBytes(), MemoryUnit.B);
+		if (spec.maxDiskBytes() != null)
+			pools = pools.disk(spec.maxDiskBytes(), MemoryUnit.B, false);
 
 		//noinspection unchecked
 		final CacheConfigurationBuilder<Object, Object>[] builder = new CacheConfigurationBuilder[] {
-			CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class,
-				ResourcePoolsBuilder.heap(spec.maxSize() != null ? spec.maxSize() : Long.MAX_VALUE)
-			)
+			CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class, pools)
 		};
 
-		if (spec.expiryTime() == null) {
+		if (serialized) {
+			// ehcache has no default serializer for Object, so fall back to java serialization
+			builder[0] = builder[0]
+				.withKeySerializer(getSerializer(spec.keySerializer()))
+				.withValueSerializer(getSerializer(spec.valueSerializer()));
+		}
+
+		if (spec.expiryCalculator() != null) {
+			builder[0] = builder[0].withExpiry(new EhcacheExpiryAdapter<>(spec.expiryCalculator()));
+		} else if (spec.expiryTime() == null) {
 			builder[0].withExpiry(ExpiryPolicy.NO_EXPIRY);
 		} else {
 			handleExpiration(spec.expiryTime(), spec.expiryType(), (time, type) -> {
@@ -58,32 +142,114 @@ public final class EhcacheProvider extends AbstractCacheProvider {
 			});
 		}
 
-		if (spec.removalListener() != null) {
+		// count entries from events, since ehcache can only determine its size by iterating over (and deserializing) all tiers
+		LongAdder entries = new LongAdder();
+		builder[0] = builder[0].withService(
+			CacheEventListenerConfigurationBuilder.newEventListenerConfiguration(
+				e -> {
+					if (e.getType() == EventType.CREATED)
+						entries.increment();
+					else
+						entries.decrement();
+				},
+				EnumSet.copyOf(COUNTED_EVENTS)
+			).synchronous().unordered()
+		);
+
+		// the removal listener is registered separately, and only subscribes to the events of interest
+		RemovalListener<K, V> listener = spec.removalListener();
+		Set<RemovalCause> causes = RemovalFilters.listenedCauses(spec);
+		EnumSet<EventType> events = getEventTypes(causes);
+		if (listener != null && !events.isEmpty()) {
 			builder[0] = builder[0].withService(
 				CacheEventListenerConfigurationBuilder.newEventListenerConfiguration(
 					e -> {
 						//noinspection unchecked
-						spec.removalListener().onRemoval((K) e.getKey(), (V) e.getOldValue(), getCause(e.getType()));
+						listener.onRemoval((K) e.getKey(), (V) e.getOldValue(), getCause(e.getType()));
 					},
-					EventType.EVICTED, EventType.EXPIRED, EventType.REMOVED, EventType.UPDATED
+					events
 				)
 			);
 		}
 
-		org.ehcache.Cache<Object, Object> cache = manager.createCache(UUID.randomUUID().toString(), builder[0]);
-		EhcacheDelegate<K, V> delegate = new EhcacheDelegate<>(cache);
+		String alias = UUID.randomUUID().toString();
+		org.ehcache.Cache<Object, Object> cache = manager.createCache(alias, builder[0]);
 
-		// background thread for faster eviction events since ehcache does not offer prompt expiration
-		if (spec.removalListener() != null && spec.executor() != null && spec.expiryTime() != null && !spec.expiryTime().isZero()) {
-			spec.executor().scheduleAtFixedRate(
-				delegate::size,
+		// background thread for faster eviction events since ehcache does not offer prompt expiration,
+		// which is opt-in because each sweep iterates over (and deserializes) every tier
+		ScheduledFuture<?> cleanupTask = null;
+		if (spec.executor() != null && causes.contains(RemovalCause.TIME) && spec.expiryTime() != null && !spec.expiryTime().isZero()) {
+			// the manager retains the cache until it is closed, so it need not be referenced weakly
+			cleanupTask = spec.executor().scheduleAtFixedRate(
+				() -> cache.forEach(entry -> {}), // iteration expires stale entries
 				spec.expiryTime().toNanos(),
 				Math.min(spec.expiryTime().toNanos(), Duration.ofMinutes(1L).toNanos()),
 				TimeUnit.NANOSECONDS
 			);
 		}
 
-		return delegate;
+		ScheduledFuture<?> task = cleanupTask;
+		return new EhcacheDelegate<>(cache, entries, statistics != null ? statistics.getCacheStatistics(alias) : null, () -> {
+			if (task != null) task.cancel(false);
+			manager.removeCache(alias);
+			releaser.run();
+		});
+	}
+
+	private static SharedManager acquire(ManagerKey key) {
+		return MANAGERS.compute(key, (k, existing) -> {
+			SharedManager shared = existing != null ? existing : createManager(k);
+			shared.getReferences().incrementAndGet();
+			return shared;
+		});
+	}
+
+	private static void release(ManagerKey key, SharedManager shared) {
+		MANAGERS.computeIfPresent(key, (k, existing) -> {
+			if (existing != shared || shared.getReferences().decrementAndGet() > 0) return existing;
+			shared.getManager().close();
+			return null;
+		});
+	}
+
+	/**
+	 * @param diskDirectory the disk directory of the caches, or null for memory-only caches
+	 * @return the number of pooled managers for the directory
+	 */
+	static long countManagers(@Nullable Path diskDirectory) {
+		Path directory = diskDirectory != null ? diskDirectory.toAbsolutePath().normalize() : null;
+		return MANAGERS.keySet().stream().filter(key -> Objects.equals(key.getDiskDirectory(), directory)).count();
+	}
+
+	private static SharedManager createManager(ManagerKey key) {
+		CacheManagerBuilder<CacheManager> managerBuilder = CacheManagerBuilder.newCacheManagerBuilder();
+		if (key.isTicking()) {
+			// https://www.ehcache.org/documentation/3.10/performance.html#time-source
+			managerBuilder = managerBuilder.using(
+				new TimeSourceConfiguration(new TickingTimeSource(1L, 1000L))
+			);
+		}
+		if (key.getDiskDirectory() != null) {
+			String services = (key.isTicking() ? "ticking" : "system") + (key.isStatistics() ? "-statistics" : "");
+			managerBuilder = managerBuilder.using(new DefaultPersistenceConfiguration(key.getDiskDirectory().resolve(services).toFile()));
+		}
+		StatisticsService statistics = key.isStatistics() ? new DefaultStatisticsService() : null;
+		if (statistics != null) managerBuilder = managerBuilder.using(statistics);
+		return new SharedManager(managerBuilder.build(true), statistics);
+	}
+
+	private static Serializer<Object> getSerializer(CacheSerializer<?> serializer) {
+		if (serializer != null) return new EhcacheSerializerAdapter<>(serializer);
+		return new PlainJavaSerializer<>(ClassLoading.getDefaultClassLoader());
+	}
+
+	private static EnumSet<EventType> getEventTypes(Set<RemovalCause> causes) {
+		EnumSet<EventType> events = EnumSet.noneOf(EventType.class);
+		if (causes.contains(RemovalCause.SIZE)) events.add(EventType.EVICTED);
+		if (causes.contains(RemovalCause.TIME)) events.add(EventType.EXPIRED);
+		if (causes.contains(RemovalCause.MANUAL)) events.add(EventType.REMOVED);
+		if (causes.contains(RemovalCause.REPLACED)) events.add(EventType.UPDATED);
+		return events;
 	}
 
 	private static RemovalCause getCause(EventType type) {
@@ -105,4 +271,24 @@ public final class EhcacheProvider extends AbstractCacheProvider {
 	public int getDiscoveryOrder() {
 		return 10;
 	}
+
+	/**
+	 * The manager-level services required by a cache, such that caches with equal requirements can share a manager.
+	 */
+	@Value
+	private static class ManagerKey {
+		boolean ticking;
+		boolean statistics;
+		@Nullable
+		Path diskDirectory;
+	}
+
+	@Value
+	private static class SharedManager {
+		CacheManager manager;
+		@Nullable
+		StatisticsService statistics; // null unless statistics were requested
+		@EqualsAndHashCode.Exclude
+		AtomicInteger references = new AtomicInteger(); // the number of open caches, only mutated within MANAGERS
+	}
 }
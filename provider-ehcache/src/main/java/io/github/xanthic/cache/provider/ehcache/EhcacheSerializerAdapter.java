@@ -0,0 +1,33 @@
+package io.github.xanthic.cache.provider.ehcache;
+
+import io.github.xanthic.cache.api.CacheSerializer;
+import lombok.Value;
+import org.ehcache.spi.serialization.Serializer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Adapts a Xanthic {@link CacheSerializer} to Ehcache, for use with the off-heap tier.
+ */
+@Value
+class EhcacheSerializerAdapter<T> implements Serializer<Object> {
+	CacheSerializer<T> serializer;
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public ByteBuffer serialize(Object object) {
+		return ByteBuffer.wrap(serializer.serialize((T) object));
+	}
+
+	@Override
+	public Object read(ByteBuffer binary) {
+		byte[] bytes = new byte[binary.remaining()];
+		binary.get(bytes);
+		return serializer.deserialize(bytes);
+	}
+
+	@Override
+	public boolean equals(Object object, ByteBuffer binary) {
+		return object.equals(read(binary));
+	}
+}
@@ -1,6 +1,36 @@
 package io.github.xanthic.cache.provider.ehcache;
 
+import io.github.xanthic.cache.api.Cache;
+import io.github.xanthic.cache.api.CacheSerializer;
+import io.github.xanthic.cache.api.domain.RemovalCause;
+import io.github.xanthic.cache.api.exception.MisconfiguredCacheException;
 import io.github.xanthic.cache.core.provider.ProviderTestBase;
+import lombok.RequiredArgsConstructor;
+import org.ehcache.event.EventType;
+import org.ehcache.impl.config.event.DefaultCacheEventListenerConfiguration;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 public class EhcacheProviderTest extends ProviderTestBase {
 
@@ -8,4 +38,199 @@ public class EhcacheProviderTest extends ProviderTestBase {
 		super(new EhcacheProvider());
 	}
 
+	@Override
+	protected boolean supportsOffHeap() {
+		return true;
+	}
+
+	@Override
+	protected boolean supportsDisk() {
+		return true;
+	}
+
+	@Test
+	@DisplayName("Tests that concurrent computeIfAbsent calls for the same key invoke the function once")
+	public void computeStampedeTest() throws Exception {
+		// Build cache
+		Cache<String, Integer> cache = build(null);
+		AtomicInteger invocations = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+
+		// Concurrently miss the same key
+		int threads = 32;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<Integer>> results = new ArrayList<>(threads);
+			for (int i = 0; i < threads; i++) {
+				results.add(executor.submit(() -> {
+					start.await();
+					return cache.computeIfAbsent("hot", key -> {
+						invocations.incrementAndGet();
+						try {
+							Thread.sleep(50L);
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+						return 420;
+					});
+				}));
+			}
+			start.countDown();
+
+			// Ensure every caller observed the single computed value
+			for (Future<Integer> result : results) {
+				Assertions.assertEquals(420, result.get(30, TimeUnit.SECONDS));
+			}
+			Assertions.assertEquals(1, invocations.get());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("Tests that cache events are only registered for counting entries and for the causes of interest to the removal listener")
+	public void eventSubscriptionTest() {
+		// Ensure only the counting events are registered without a listener
+		EhcacheDelegate<String, Integer> unlistened = (EhcacheDelegate<String, Integer>) this.<String, Integer>build(spec -> spec.removalListener(null));
+		Assertions.assertEquals(Collections.singleton(EhcacheProvider.COUNTED_EVENTS), getSubscribedEvents(unlistened));
+
+		// Ensure the removal listener only subscribes to the events of the listened causes
+		EhcacheDelegate<String, Integer> manual = (EhcacheDelegate<String, Integer>) this.<String, Integer>build(spec -> spec.removalCauses(EnumSet.of(RemovalCause.MANUAL)));
+		Set<Set<EventType>> expected = new HashSet<>(Arrays.asList(EhcacheProvider.COUNTED_EVENTS, EnumSet.of(EventType.REMOVED)));
+		Assertions.assertEquals(expected, getSubscribedEvents(manual));
+
+		// Ensure the size estimate is maintained regardless of the listener
+		unlistened.put("1", 1);
+		unlistened.put("2", 2);
+		unlistened.put("2", 3);
+		Assertions.assertEquals(2, unlistened.estimatedSize());
+		unlistened.remove("1");
+		Assertions.assertEquals(1, unlistened.estimatedSize());
+	}
+
+	@Test
+	@DisplayName("Tests that the size estimate does not iterate over (and deserialize) the tiers")
+	public void estimatedSizeTest() {
+		// Build cache whose serializers count deserializations
+		AtomicInteger reads = new AtomicInteger();
+		Cache<String, String> cache = build(spec -> spec.maxSize(10L).maxOffHeapBytes(1024L * 1024).keySerializer(new CountingSerializer(reads)).valueSerializer(new CountingSerializer(reads)));
+
+		// Populate cache beyond its heap capacity
+		for (int i = 0; i < 100; i++) {
+			cache.put(String.valueOf(i), String.valueOf(i));
+		}
+		cache.remove("0");
+
+		// Ensure the estimate is accurate, without reading the off-heap tier
+		int before = reads.get();
+		Assertions.assertEquals(99, cache.estimatedSize());
+		Assertions.assertEquals(before, reads.get());
+
+		// Ensure an iteration would have been detected
+		Assertions.assertEquals(99, cache.size());
+		Assertions.assertTrue(reads.get() > before);
+
+		// Ensure the estimate is reset upon clear, which does not fire events
+		cache.clear();
+		Assertions.assertEquals(0, cache.estimatedSize());
+	}
+
+	private static Set<Set<EventType>> getSubscribedEvents(EhcacheDelegate<?, ?> delegate) {
+		return delegate.getCache().getRuntimeConfiguration().getServiceConfigurations().stream()
+			.filter(DefaultCacheEventListenerConfiguration.class::isInstance)
+			.map(config -> (Set<EventType>) ((DefaultCacheEventListenerConfiguration) config).fireOn())
+			.collect(Collectors.toSet());
+	}
+
+	@RequiredArgsConstructor
+	private static class CountingSerializer implements CacheSerializer<String> {
+		private final AtomicInteger reads;
+
+		@NotNull
+		@Override
+		public byte[] serialize(@NotNull String object) {
+			return object.getBytes(StandardCharsets.UTF_8);
+		}
+
+		@NotNull
+		@Override
+		public String deserialize(@NotNull byte[] bytes) {
+			reads.incrementAndGet();
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+	}
+
+	@Test
+	@DisplayName("Tests that off-heap and disk tiers can be combined without specifying the heap capacity")
+	public void offHeapDiskTest(@TempDir Path directory) {
+		// Build cache
+		Cache<String, Integer> cache = build(spec -> spec.maxOffHeapBytes(1024L * 1024).diskDirectory(directory).maxDiskBytes(64L * 1024 * 1024));
+
+		// Populate cache beyond its default heap capacity
+		int n = (int) EhcacheProvider.DEFAULT_HEAP_ENTRIES * 2;
+		for (int i = 0; i < n; i++) {
+			cache.put(String.valueOf(i), i);
+		}
+
+		// Ensure entries were retained by the lower tiers
+		for (int i = 0; i < n; i++) {
+			Assertions.assertEquals(i, cache.get(String.valueOf(i)));
+		}
+	}
+
+	@Test
+	@DisplayName("Tests that disk caches on equivalent directory paths share a manager, which is closed with its last cache")
+	public void sharedDiskManagerTest(@TempDir Path directory) {
+		// Build caches on the same directory, specified via different paths
+		Path alias = directory.resolve("nested").resolve("..");
+		Cache<String, Integer> first = build(spec -> spec.maxSize(10L).diskDirectory(directory).maxDiskBytes(64L * 1024 * 1024));
+		Cache<String, Integer> second = build(spec -> spec.maxSize(10L).diskDirectory(alias).maxDiskBytes(64L * 1024 * 1024));
+		Assertions.assertEquals(1, EhcacheProvider.countManagers(directory));
+
+		// Ensure both caches overflow to disk independently
+		for (int i = 0; i < 100; i++) {
+			first.put(String.valueOf(i), i);
+			second.put(String.valueOf(i), -i);
+		}
+		for (int i = 0; i < 100; i++) {
+			Assertions.assertEquals(i, first.get(String.valueOf(i)));
+			Assertions.assertEquals(-i, second.get(String.valueOf(i)));
+		}
+
+		// Ensure the manager is only released with its last cache
+		first.close();
+		Assertions.assertEquals(1, EhcacheProvider.countManagers(directory));
+		Assertions.assertEquals(0, second.get("0"));
+		second.close();
+		Assertions.assertEquals(0, EhcacheProvider.countManagers(directory));
+
+		// Ensure the directory can be reused by a new manager
+		Cache<String, Integer> third = build(spec -> spec.maxSize(10L).diskDirectory(directory).maxDiskBytes(64L * 1024 * 1024));
+		third.put("1", 1);
+		Assertions.assertEquals(1, third.get("1"));
+		third.close();
+		Assertions.assertEquals(0, EhcacheProvider.countManagers(directory));
+	}
+
+	@Test
+	@DisplayName("Tests that a disk tier that does not exceed the off-heap tier is rejected")
+	public void diskSmallerThanOffHeapTest(@TempDir Path directory) {
+		Assertions.assertThrows(
+			MisconfiguredCacheException.class,
+			() -> build(spec -> spec.maxOffHeapBytes(64L * 1024 * 1024).diskDirectory(directory).maxDiskBytes(1024L * 1024))
+		);
+	}
+
+	@Disabled
+	@Override
+	public void weightEvictionTest() {
+		// skip test; Ehcache does not support custom weighers
+	}
+
+	@Disabled
+	@Override
+	public void putWithTtlTest() {
+		// skip test; ehcache only supports per-entry expiry via an expiry policy
+	}
+
 }
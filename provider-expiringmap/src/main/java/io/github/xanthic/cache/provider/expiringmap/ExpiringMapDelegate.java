@@ -1,46 +1,109 @@
 package io.github.xanthic.cache.provider.expiringmap;
 
+import io.github.xanthic.cache.api.ExpiryCalculator;
 import io.github.xanthic.cache.core.delegate.GenericMapCacheDelegate;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
+import net.jodah.expiringmap.ExpirationPolicy;
 import net.jodah.expiringmap.ExpiringMap;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 @Value
 @EqualsAndHashCode(callSuper = false)
 class ExpiringMapDelegate<K, V> extends GenericMapCacheDelegate<K, V> {
 	ExpiringMap<K, V> map; // permits null values, so we disallow such calls in this delegate
+	ExpiryCalculator<K, V> calculator; // requires variable expiration to be enabled on the map
 
-	ExpiringMapDelegate(ExpiringMap<K, V> map) {
+	ExpiringMapDelegate(ExpiringMap<K, V> map, @Nullable ExpiryCalculator<K, V> calculator) {
 		super(map);
 		this.map = map;
+		this.calculator = calculator;
 	}
 
 	@Override
 	public V put(@NotNull K key, @NotNull V value) {
-		return super.put(key, Objects.requireNonNull(value));
+		if (calculator == null) return super.put(key, Objects.requireNonNull(value));
+		return put(key, value, calculator.expireAfterWrite(key, value));
+	}
+
+	@Override
+	public V put(@NotNull K key, @NotNull V value, @NotNull Duration ttl) {
+		return map.put(key, Objects.requireNonNull(value), ExpirationPolicy.CREATED, ttl.toNanos(), TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public V compute(@NotNull K key, @NotNull BiFunction<? super K, ? super V, ? extends V> computeFunc) {
+		return written(key, super.compute(key, computeFunc));
+	}
+
+	@Override
+	public V computeIfAbsent(@NotNull K key, @NotNull Function<K, V> computeFunc) {
+		if (calculator == null) return super.computeIfAbsent(key, computeFunc);
+		boolean[] computed = { false };
+		V value = super.computeIfAbsent(key, k -> {
+			computed[0] = true;
+			return computeFunc.apply(k);
+		});
+		return computed[0] ? written(key, value) : value;
+	}
+
+	@Override
+	public V computeIfPresent(@NotNull K key, @NotNull BiFunction<? super K, ? super V, ? extends V> computeFunc) {
+		return written(key, super.computeIfPresent(key, computeFunc));
 	}
 
 	@Override
 	public V putIfAbsent(@NotNull K key, @NotNull V value) {
-		return super.putIfAbsent(key, Objects.requireNonNull(value));
+		V previous = super.putIfAbsent(key, Objects.requireNonNull(value));
+		if (previous == null) written(key, value);
+		return previous;
 	}
 
 	@Override
 	public V merge(@NotNull K key, @NotNull V value, @NotNull BiFunction<V, V, V> mergeFunc) {
-		return super.merge(key, Objects.requireNonNull(value), mergeFunc);
+		return written(key, super.merge(key, Objects.requireNonNull(value), mergeFunc));
 	}
 
 	@Override
 	public boolean replace(@NotNull K key, @NotNull V value) {
-		return super.replace(key, Objects.requireNonNull(value));
+		boolean replaced = super.replace(key, Objects.requireNonNull(value));
+		if (replaced) written(key, value);
+		return replaced;
 	}
 
 	@Override
 	public boolean replace(@NotNull K key, @NotNull V oldValue, @NotNull V newValue) {
-		return super.replace(key, oldValue, Objects.requireNonNull(newValue));
+		boolean replaced = super.replace(key, oldValue, Objects.requireNonNull(newValue));
+		if (replaced) written(key, newValue);
+		return replaced;
+	}
+
+	@Override
+	public void putAll(@NotNull Map<? extends K, ? extends V> map) {
+		if (calculator == null) {
+			super.putAll(map);
+		} else {
+			map.forEach(this::put);
+		}
+	}
+
+	/**
+	 * Applies the per-entry expiry (if configured) to a value that was just written.
+	 * <p>
+	 * Unlike {@link #put(Object, Object)}, these writes are not atomic with the expiry update,
+	 * since ExpiringMap lacks a compute-style method that accepts a duration.
+	 */
+	private V written(K key, V value) {
+		if (calculator != null && value != null)
+			map.setExpiration(key, calculator.expireAfterWrite(key, value).toNanos(), TimeUnit.NANOSECONDS);
+		return value;
 	}
 }
@@ -5,6 +5,7 @@ import io.github.xanthic.cache.api.ICacheSpec;
 import io.github.xanthic.cache.api.domain.ExpiryType;
 import io.github.xanthic.cache.api.domain.RemovalCause;
 import io.github.xanthic.cache.core.AbstractCacheProvider;
+import io.github.xanthic.cache.core.RemovalFilters;
 import io.github.xanthic.cache.core.delegate.GenericMapCacheDelegate;
 import net.jodah.expiringmap.ExpirationPolicy;
 import net.jodah.expiringmap.ExpiringMap;
@@ -14,7 +15,7 @@ import java.util.concurrent.TimeUnit;
 /**
  * Provides {@link Cache} instances using {@link ExpiringMap}.
  * <p>
- * Implements size and time-based expiry.
+ * Implements size and time-based expiry, including per-entry expiry.
  * <p>
  * Note: listeners will always receive {@link RemovalCause#OTHER} due to limitations of the backing library.
  * <p>
@@ -23,9 +24,18 @@ import java.util.concurrent.TimeUnit;
 public final class ExpiringMapProvider extends AbstractCacheProvider {
 	@Override
 	public <K, V> Cache<K, V> build(ICacheSpec<K, V> spec) {
+		return buildWithGenericStats(spec, this::buildMap);
+	}
+
+	private <K, V> Cache<K, V> buildMap(ICacheSpec<K, V> spec) {
+		handleUnsupportedWeight(spec.maxWeight());
+		handleUnsupportedSetting(spec.maxOffHeapBytes(), "Off-heap storage");
+		handleUnsupportedSetting(spec.diskDirectory(), "Disk storage");
+
 		ExpiringMap.Builder<Object, Object> builder = ExpiringMap.builder();
 		if (spec.maxSize() != null) builder.maxSize(spec.maxSize().intValue());
-		if (spec.removalListener() != null) builder.<K, V>expirationListener((key, value) -> spec.removalListener().onRemoval(key, value, RemovalCause.OTHER));
+		if (RemovalFilters.listenedCauses(spec).contains(RemovalCause.OTHER)) builder.<K, V>expirationListener((key, value) -> spec.removalListener().onRemoval(key, value, RemovalCause.OTHER));
+		if (spec.expiryCalculator() != null) builder.variableExpiration().expirationPolicy(ExpirationPolicy.CREATED);
 		handleExpiration(spec.expiryTime(), spec.expiryType(), (time, type) -> {
 			builder.expiration(time.toNanos(), TimeUnit.NANOSECONDS);
 			if (type == ExpiryType.POST_WRITE)
@@ -34,7 +44,7 @@ public final class ExpiringMapProvider extends AbstractCacheProvider {
 				builder.expirationPolicy(ExpirationPolicy.ACCESSED);
 		});
 
-		return new ExpiringMapDelegate<>(builder.build());
+		return new ExpiringMapDelegate<>(builder.build(), spec.expiryCalculator());
 	}
 
 	@Override
@@ -21,4 +21,22 @@ public class ExpiringMapProviderTest extends ProviderTestBase {
 		// skip test; library limitations of ExpiringMap don't allow for this granularity
 	}
 
+	@Disabled
+	@Override
+	public void removalCausesTest() {
+		// skip test; library limitations of ExpiringMap don't allow for this granularity
+	}
+
+	@Disabled
+	@Override
+	public void batchRemovalListenerTest() {
+		// skip test; library limitations of ExpiringMap don't allow for this granularity
+	}
+
+	@Disabled
+	@Override
+	public void weightEvictionTest() {
+		// skip test; ExpiringMap does not support custom weighers
+	}
+
 }
@@ -1,23 +1,33 @@
 package io.github.xanthic.cache.provider.guava;
 
 import com.google.common.cache.Cache;
+import io.github.xanthic.cache.api.domain.CacheStats;
 import io.github.xanthic.cache.core.delegate.GenericMapCacheDelegate;
 import lombok.EqualsAndHashCode;
 import lombok.SneakyThrows;
 import lombok.Value;
+import lombok.experimental.NonFinal;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
 import java.util.function.Function;
 
 @Value
+@NonFinal
 @EqualsAndHashCode(callSuper = false)
 class GuavaDelegate<K, V> extends GenericMapCacheDelegate<K, V> {
 	Cache<K, V> cache;
+	@Nullable
+	@EqualsAndHashCode.Exclude
+	ScheduledFuture<?> cleanupTask;
 
-	public GuavaDelegate(com.google.common.cache.Cache<K, V> cache) {
+	public GuavaDelegate(com.google.common.cache.Cache<K, V> cache, @Nullable ScheduledFuture<?> cleanupTask) {
 		super(cache.asMap());
 		this.cache = cache;
+		this.cleanupTask = cleanupTask;
 	}
 
 	@Override
@@ -31,6 +41,17 @@ class GuavaDelegate<K, V> extends GenericMapCacheDelegate<K, V> {
 		return cache.get(key, () -> computeFunc.apply(key));
 	}
 
+	@NotNull
+	@Override
+	public Map<K, V> getAll(@NotNull Collection<? extends K> keys) {
+		return cache.getAllPresent(keys);
+	}
+
+	@Override
+	public void removeAll(@NotNull Collection<? extends K> keys) {
+		cache.invalidateAll(keys);
+	}
+
 	@Override
 	public void clear() {
 		cache.invalidateAll();
@@ -42,6 +63,31 @@ class GuavaDelegate<K, V> extends GenericMapCacheDelegate<K, V> {
 		return cache.size();
 	}
 
+	@Override
+	public long estimatedSize() {
+		return cache.size();
+	}
+
+	@Override
+	public void close() {
+		if (cleanupTask != null) cleanupTask.cancel(false);
+	}
+
+	@NotNull
+	@Override
+	public CacheStats stats() {
+		com.google.common.cache.CacheStats stats = cache.stats();
+		return new CacheStats(
+			stats.hitCount(),
+			stats.missCount(),
+			stats.loadSuccessCount(),
+			stats.loadExceptionCount(),
+			stats.totalLoadTime(),
+			stats.evictionCount(),
+			0L // not tracked by guava
+		);
+	}
+
 	@Override
 	public void putAll(@NotNull Map<? extends K, ? extends V> map) {
 		cache.putAll(map);
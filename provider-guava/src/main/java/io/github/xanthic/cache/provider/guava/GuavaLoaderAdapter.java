@@ -0,0 +1,41 @@
+package io.github.xanthic.cache.provider.guava;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import io.github.xanthic.cache.api.CacheLoader;
+import io.github.xanthic.cache.api.exception.CacheLoadingException;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+class GuavaLoaderAdapter<K, V> extends com.google.common.cache.CacheLoader<K, V> {
+	CacheLoader<K, V> loader;
+
+	@Override
+	public V load(K key) throws Exception {
+		return requireLoaded(key, loader.load(key));
+	}
+
+	@Override
+	public Map<K, V> loadAll(Iterable<? extends K> keys) throws Exception {
+		Set<K> keySet = new LinkedHashSet<>();
+		keys.forEach(keySet::add);
+		return loader.loadAll(keySet);
+	}
+
+	@Override
+	public ListenableFuture<V> reload(K key, V oldValue) throws Exception {
+		return Futures.immediateFuture(requireLoaded(key, loader.reload(key, oldValue)));
+	}
+
+	private static <K, V> V requireLoaded(K key, V value) {
+		// guava would throw its own InvalidCacheLoadException otherwise
+		if (value == null) throw CacheLoadingException.nullValue(key);
+		return value;
+	}
+}
@@ -0,0 +1,64 @@
+package io.github.xanthic.cache.provider.guava;
+
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.github.xanthic.cache.api.exception.CacheLoadingException;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+
+@Value
+@EqualsAndHashCode(callSuper = true)
+class GuavaLoadingDelegate<K, V> extends GuavaDelegate<K, V> implements io.github.xanthic.cache.api.LoadingCache<K, V> {
+	LoadingCache<K, V> loadingCache;
+
+	public GuavaLoadingDelegate(LoadingCache<K, V> cache, @Nullable ScheduledFuture<?> cleanupTask) {
+		super(cache, cleanupTask);
+		this.loadingCache = cache;
+	}
+
+	@NotNull
+	@Override
+	public V get(@NotNull K key) {
+		try {
+			return loadingCache.getUnchecked(key);
+		} catch (UncheckedExecutionException | ExecutionError e) {
+			throw unwrap(e.getCause());
+		}
+	}
+
+	@Override
+	public V getIfPresent(@NotNull K key) {
+		return loadingCache.getIfPresent(key);
+	}
+
+	@NotNull
+	@Override
+	public V getOrDefault(@NotNull K key, @NotNull V defaultValue) {
+		V value = loadingCache.getIfPresent(key);
+		return value != null ? value : defaultValue;
+	}
+
+	@NotNull
+	@Override
+	public Map<K, V> getAll(@NotNull Collection<? extends K> keys) {
+		try {
+			return loadingCache.getAll(keys);
+		} catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+			throw unwrap(e.getCause());
+		}
+	}
+
+	private static RuntimeException unwrap(Throwable cause) {
+		if (cause instanceof RuntimeException) return (RuntimeException) cause;
+		if (cause instanceof Error) throw (Error) cause;
+		return new CacheLoadingException(cause);
+	}
+}
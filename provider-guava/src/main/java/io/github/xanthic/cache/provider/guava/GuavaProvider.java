@@ -3,25 +3,64 @@ package io.github.xanthic.cache.provider.guava;
 import com.google.common.cache.CacheBuilder;
 import io.github.xanthic.cache.api.Cache;
 import io.github.xanthic.cache.api.ICacheSpec;
+import io.github.xanthic.cache.api.LoadingCache;
+import io.github.xanthic.cache.api.domain.CacheStats;
 import io.github.xanthic.cache.api.domain.ExpiryType;
 import io.github.xanthic.cache.api.domain.RemovalCause;
 import io.github.xanthic.cache.core.AbstractCacheProvider;
+import io.github.xanthic.cache.core.MaintenanceScheduler;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.Duration;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledFuture;
 
 /**
  * Provides {@link Cache} instances using Guava's {@link CacheBuilder}.
  * <p>
- * Implements size and time-based expiry.
+ * Implements size, weight, and time-based expiry.
+ * <p>
+ * Supports {@link LoadingCache} natively.
+ * <p>
+ * Guava does not track the weight of evicted entries, so {@link CacheStats#getEvictionWeight()} is always zero.
  * <p>
  * Consider using Caffeine over Guava, if not targeting Android, for better performance.
  */
 public final class GuavaProvider extends AbstractCacheProvider {
 	@Override
 	public <K, V> Cache<K, V> build(ICacheSpec<K, V> spec) {
+		com.google.common.cache.Cache<K, V> cache = configure(spec).build();
+		return new GuavaDelegate<>(cache, scheduleCleanUp(spec, cache));
+	}
+
+	@Override
+	public <K, V> LoadingCache<K, V> buildLoading(ICacheSpec<K, V> spec) {
+		CacheBuilder<Object, Object> builder = configure(spec);
+		//noinspection ConstantConditions
+		com.google.common.cache.CacheLoader<K, V> loader = new GuavaLoaderAdapter<>(spec.loader());
+		if (spec.refreshAfter() != null) {
+			builder.refreshAfterWrite(spec.refreshAfter());
+			// guava reloads synchronously on the reading thread unless the loader dispatches the work elsewhere
+			loader = com.google.common.cache.CacheLoader.asyncReloading(loader, spec.executor() != null ? spec.executor() : ForkJoinPool.commonPool());
+		}
+		com.google.common.cache.LoadingCache<K, V> cache = builder.build(loader);
+		return new GuavaLoadingDelegate<>(cache, scheduleCleanUp(spec, cache));
+	}
+
+	private <K, V> CacheBuilder<Object, Object> configure(ICacheSpec<K, V> spec) {
+		handleUnsupportedSetting(spec.expiryCalculator(), "Per-entry expiry");
+		handleUnsupportedSetting(spec.maxOffHeapBytes(), "Off-heap storage");
+		handleUnsupportedSetting(spec.diskDirectory(), "Disk storage");
 		CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder();
 		if (spec.maxSize() != null) builder.maximumSize(spec.maxSize());
+		if (Boolean.TRUE.equals(spec.recordStats())) builder.recordStats();
+		if (spec.maxWeight() != null) {
+			//noinspection ConstantConditions
+			builder = builder.maximumWeight(spec.maxWeight()).weigher((key, value) -> {
+				//noinspection unchecked
+				return spec.weigher().weigh((K) key, (V) value);
+			});
+		}
 		if (Boolean.TRUE.equals(spec.highContention())) {
 			// https://github.com/google/guava/issues/2063
 			builder.concurrencyLevel(64);
@@ -40,20 +79,22 @@ public final class GuavaProvider extends AbstractCacheProvider {
 			else
 				finalBuilder.expireAfterAccess(time);
 		});
+		return finalBuilder;
+	}
 
-		com.google.common.cache.Cache<K, V> cache = finalBuilder.build();
-
-		// background thread for faster eviction events since guava does not offer prompt expiration
-		if (spec.removalListener() != null && spec.executor() != null && spec.expiryTime() != null && !spec.expiryTime().isZero()) {
-			spec.executor().scheduleAtFixedRate(
-				cache::cleanUp,
+	@Nullable
+	private static ScheduledFuture<?> scheduleCleanUp(ICacheSpec<?, ?> spec, com.google.common.cache.Cache<?, ?> cache) {
+		// background maintenance for faster eviction events since guava does not offer prompt expiration
+		if (spec.removalListener() != null && spec.expiryTime() != null && !spec.expiryTime().isZero()) {
+			return MaintenanceScheduler.scheduleWeakly(
+				MaintenanceScheduler.getOrDefault(spec.executor()),
+				cache,
+				com.google.common.cache.Cache::cleanUp,
 				spec.expiryTime().toNanos(),
-				Math.min(spec.expiryTime().toNanos(), Duration.ofMinutes(1L).toNanos()),
-				TimeUnit.NANOSECONDS
+				Math.min(spec.expiryTime().toNanos(), Duration.ofMinutes(1L).toNanos())
 			);
 		}
-
-		return new GuavaDelegate<>(cache);
+		return null;
 	}
 
 	@SuppressWarnings("DuplicatedCode")
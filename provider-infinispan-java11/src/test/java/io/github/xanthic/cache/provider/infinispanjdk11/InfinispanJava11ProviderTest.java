@@ -1,6 +1,7 @@
 package io.github.xanthic.cache.provider.infinispanjdk11;
 
 import io.github.xanthic.cache.core.provider.ProviderTestBase;
+import org.junit.jupiter.api.Disabled;
 
 public class InfinispanJava11ProviderTest extends ProviderTestBase {
 
@@ -8,4 +9,26 @@ public class InfinispanJava11ProviderTest extends ProviderTestBase {
 		super(new InfinispanProvider());
 	}
 
+	@Override
+	protected boolean supportsOffHeap() {
+		return true;
+	}
+
+	@Override
+	protected boolean supportsDisk() {
+		return true;
+	}
+
+	@Disabled
+	@Override
+	public void weightEvictionTest() {
+		// skip test; Infinispan does not support custom weighers
+	}
+
+	@Disabled
+	@Override
+	public void variableExpiryTest() {
+		// skip test; infinispan only supports per-entry expiry via explicit lifespans
+	}
+
 }
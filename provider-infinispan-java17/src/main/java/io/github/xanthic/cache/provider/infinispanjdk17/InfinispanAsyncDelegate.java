@@ -0,0 +1,49 @@
+package io.github.xanthic.cache.provider.infinispanjdk17;
+
+import io.github.xanthic.cache.api.AsyncCache;
+import io.github.xanthic.cache.api.Cache;
+import lombok.Value;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Note: simple caches perform their work on the calling thread,
+ * so the returned futures are typically already completed.
+ */
+@Value
+class InfinispanAsyncDelegate<K, V> implements AsyncCache<K, V> {
+	org.infinispan.Cache<K, V> cache;
+	Cache<K, V> synchronous;
+
+	public InfinispanAsyncDelegate(org.infinispan.Cache<K, V> cache) {
+		this.cache = cache;
+		this.synchronous = new InfinispanDelegate<>(cache);
+	}
+
+	@NotNull
+	@Override
+	public CompletableFuture<V> getAsync(@NotNull K key) {
+		return cache.getAsync(key);
+	}
+
+	@NotNull
+	@Override
+	public CompletableFuture<V> computeIfAbsentAsync(@NotNull K key, @NotNull Function<K, V> computeFunc) {
+		try {
+			return cache.computeIfAbsentAsync(key, computeFunc);
+		} catch (RuntimeException e) {
+			// simple caches invoke the compute function on the calling thread
+			CompletableFuture<V> future = new CompletableFuture<>();
+			future.completeExceptionally(e);
+			return future;
+		}
+	}
+
+	@NotNull
+	@Override
+	public Cache<K, V> synchronous() {
+		return synchronous;
+	}
+}
@@ -18,15 +18,17 @@ import org.infinispan.notifications.cachelistener.event.Event;
 
 import java.lang.annotation.Annotation;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Set;
 
 @Value
 @Listener
 class InfinispanListener<K, V> {
-	static final Set<Event.Type> EVENTS;
-	static final Set<Class<? extends Annotation>> ANNOTATIONS;
+	private static final Map<RemovalCause, Event.Type> EVENTS;
+	private static final Map<RemovalCause, Class<? extends Annotation>> ANNOTATIONS;
 
 	RemovalListener<K, V> removalListener;
 
@@ -58,19 +60,39 @@ class InfinispanListener<K, V> {
 			removalListener.onRemoval(event.getKey(), event.getOldValue(), RemovalCause.MANUAL);
 	}
 
+	/**
+	 * @param causes the removal causes of interest
+	 * @return the event types that yield the specified causes
+	 */
+	static Set<Event.Type> events(Set<RemovalCause> causes) {
+		Set<Event.Type> events = EnumSet.noneOf(Event.Type.class);
+		causes.forEach(cause -> events.add(EVENTS.get(cause)));
+		return events;
+	}
+
+	/**
+	 * @param causes the removal causes of interest
+	 * @return the listener annotations whose methods yield the specified causes
+	 */
+	static Set<Class<? extends Annotation>> annotations(Set<RemovalCause> causes) {
+		Set<Class<? extends Annotation>> annotations = Collections.newSetFromMap(new IdentityHashMap<>());
+		causes.forEach(cause -> annotations.add(ANNOTATIONS.get(cause)));
+		return annotations;
+	}
+
 	static {
-		EVENTS = EnumSet.noneOf(Event.Type.class);
-		EVENTS.add(Event.Type.CACHE_ENTRY_EVICTED);
-		EVENTS.add(Event.Type.CACHE_ENTRY_EXPIRED);
-		EVENTS.add(Event.Type.CACHE_ENTRY_INVALIDATED);
-		EVENTS.add(Event.Type.CACHE_ENTRY_MODIFIED);
-		EVENTS.add(Event.Type.CACHE_ENTRY_REMOVED);
+		EVENTS = new EnumMap<>(RemovalCause.class);
+		EVENTS.put(RemovalCause.SIZE, Event.Type.CACHE_ENTRY_EVICTED);
+		EVENTS.put(RemovalCause.TIME, Event.Type.CACHE_ENTRY_EXPIRED);
+		EVENTS.put(RemovalCause.OTHER, Event.Type.CACHE_ENTRY_INVALIDATED);
+		EVENTS.put(RemovalCause.REPLACED, Event.Type.CACHE_ENTRY_MODIFIED);
+		EVENTS.put(RemovalCause.MANUAL, Event.Type.CACHE_ENTRY_REMOVED);
 
-		ANNOTATIONS = Collections.newSetFromMap(new IdentityHashMap<>());
-		ANNOTATIONS.add(CacheEntriesEvicted.class);
-		ANNOTATIONS.add(CacheEntryExpired.class);
-		ANNOTATIONS.add(CacheEntryInvalidated.class);
-		ANNOTATIONS.add(CacheEntryModified.class);
-		ANNOTATIONS.add(CacheEntryRemoved.class);
+		ANNOTATIONS = new EnumMap<>(RemovalCause.class);
+		ANNOTATIONS.put(RemovalCause.SIZE, CacheEntriesEvicted.class);
+		ANNOTATIONS.put(RemovalCause.TIME, CacheEntryExpired.class);
+		ANNOTATIONS.put(RemovalCause.OTHER, CacheEntryInvalidated.class);
+		ANNOTATIONS.put(RemovalCause.REPLACED, CacheEntryModified.class);
+		ANNOTATIONS.put(RemovalCause.MANUAL, CacheEntryRemoved.class);
 	}
 }
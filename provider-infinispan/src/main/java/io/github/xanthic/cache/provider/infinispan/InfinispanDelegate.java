@@ -1,11 +1,19 @@
 package io.github.xanthic.cache.provider.infinispan;
 
 import io.github.xanthic.cache.api.Cache;
+import io.github.xanthic.cache.api.domain.CacheStats;
 import lombok.Value;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.stats.Stats;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -19,11 +27,23 @@ class InfinispanDelegate<K, V> implements Cache<K, V> {
 		return cache.get(key);
 	}
 
+	@NotNull
+	@Override
+	public Map<K, V> getAll(@NotNull Collection<? extends K> keys) {
+		Set<?> keySet = keys instanceof Set ? (Set<?>) keys : new HashSet<>(keys);
+		return cache.getAdvancedCache().getAll(keySet);
+	}
+
 	@Override
 	public V put(@NotNull K key, @NotNull V value) {
 		return cache.put(key, value);
 	}
 
+	@Override
+	public V put(@NotNull K key, @NotNull V value, @NotNull Duration ttl) {
+		return cache.put(key, value, ttl.toNanos(), TimeUnit.NANOSECONDS);
+	}
+
 	@Override
 	public V remove(@NotNull K key) {
 		return cache.remove(key);
@@ -39,6 +59,30 @@ class InfinispanDelegate<K, V> implements Cache<K, V> {
 		return cache.size();
 	}
 
+	@Override
+	public long estimatedSize() {
+		// passivated entries reside only in the store, so the data container would undercount
+		if (cache.getCacheConfiguration().persistence().usingStores()) return size();
+		return cache.getAdvancedCache().getDataContainer().sizeIncludingExpired();
+	}
+
+	@Override
+	public void close() {
+		// caches are created within a shared manager, which would otherwise retain them
+		EmbeddedCacheManager manager = cache.getCacheManager();
+		if (manager.cacheExists(cache.getName())) {
+			manager.administration().removeCache(cache.getName());
+		}
+	}
+
+	@NotNull
+	@Override
+	public CacheStats stats() {
+		if (!cache.getCacheConfiguration().statistics().enabled()) return CacheStats.EMPTY;
+		Stats stats = cache.getAdvancedCache().getStats();
+		return new CacheStats(stats.getHits(), stats.getMisses(), 0L, 0L, 0L, stats.getEvictions(), 0L);
+	}
+
 	@Nullable
 	@Override
 	public V compute(@NotNull K key, @NotNull BiFunction<? super K, ? super V, ? extends V> computeFunc) {
@@ -1,30 +1,89 @@
 package io.github.xanthic.cache.provider.infinispan;
 
+import io.github.xanthic.cache.api.AsyncCache;
 import io.github.xanthic.cache.api.Cache;
 import io.github.xanthic.cache.api.ICacheSpec;
 import io.github.xanthic.cache.api.domain.ExpiryType;
+import io.github.xanthic.cache.api.domain.RemovalCause;
 import io.github.xanthic.cache.core.AbstractCacheProvider;
+import io.github.xanthic.cache.core.RemovalFilters;
 import org.infinispan.commons.api.CacheContainerAdmin;
 import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.configuration.cache.StorageType;
 import org.infinispan.manager.DefaultCacheManager;
 import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.notifications.cachelistener.event.Event;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Provides {@link Cache} instances using Infinispan's {@link org.infinispan.Cache} in heap-mode.
  * <p>
+ * When {@link ICacheSpec#maxOffHeapBytes()} is specified, entries are instead stored off-heap,
+ * where they are encoded by the global marshaller (which supports primitives, strings, and byte arrays by default).
+ * Custom serializers are not supported, and the off-heap capacity replaces {@link ICacheSpec#maxSize()}.
+ * <p>
+ * When {@link ICacheSpec#diskDirectory()} is specified, evicted entries are passivated to a soft-index file store,
+ * whose size is not bounded by {@link ICacheSpec#maxDiskBytes()}.
+ * <p>
  * Implements size and time-based expiry.
+ * Per-entry expiry is only available via {@link Cache#put(Object, Object, Duration)}, rather than {@link ICacheSpec#expiryCalculator()}.
+ * <p>
+ * Supports {@link AsyncCache} through Infinispan's native asynchronous operations.
+ * <p>
+ * Statistics are obtained from Infinispan, which does not track loads or eviction weights.
  */
 public final class InfinispanProvider extends AbstractCacheProvider {
 	private static final EmbeddedCacheManager MANAGER = new DefaultCacheManager();
 
 	@Override
 	public <K, V> Cache<K, V> build(ICacheSpec<K, V> spec) {
+		return new InfinispanDelegate<>(createCache(spec));
+	}
+
+	@Override
+	public <K, V> AsyncCache<K, V> buildAsync(ICacheSpec<K, V> spec) {
+		return new InfinispanAsyncDelegate<>(createCache(spec));
+	}
+
+	private <K, V> org.infinispan.Cache<K, V> createCache(ICacheSpec<K, V> spec) {
+		handleUnsupportedWeight(spec.maxWeight());
+		handleUnsupportedSetting(spec.expiryCalculator(), "Per-entry expiry calculation");
+
 		ConfigurationBuilder builder = new ConfigurationBuilder();
-		builder.simpleCache(true);
-		if (spec.maxSize() != null) builder.memory().maxCount(spec.maxSize());
+		if (spec.maxOffHeapBytes() != null || spec.diskDirectory() != null) {
+			// entries are (de)serialized by the global marshaller
+			handleUnsupportedSetting(spec.keySerializer(), "Custom key serialization");
+			handleUnsupportedSetting(spec.valueSerializer(), "Custom value serialization");
+		} else {
+			builder.simpleCache(true); // simple caches support neither off-heap storage nor persistence
+		}
+		if (spec.maxOffHeapBytes() != null) {
+			// infinispan cannot bound both count and bytes
+			handleUnsupportedSetting(spec.maxSize(), "Combining maxSize with off-heap storage");
+			builder.memory().storage(StorageType.OFF_HEAP).maxSize(String.valueOf(spec.maxOffHeapBytes()));
+		} else if (spec.maxSize() != null) {
+			builder.memory().maxCount(spec.maxSize());
+		}
+
+		String name = UUID.randomUUID().toString();
+		if (spec.diskDirectory() != null) {
+			// evicted entries are passivated to the file store, rather than discarded
+			handleUnsupportedSetting(spec.maxDiskBytes(), "Bounding the disk tier");
+			Path location = spec.diskDirectory().resolve(name);
+			builder.persistence()
+				.passivation(true)
+				.addSoftIndexFileStore()
+				.dataLocation(location.resolve("data").toString())
+				.indexLocation(location.resolve("index").toString())
+				.purgeOnStartup(true);
+		}
+
+		if (Boolean.TRUE.equals(spec.recordStats())) builder.statistics().enable();
 		handleExpiration(spec.expiryTime(), spec.expiryType(), (time, type) -> {
 			if (type == ExpiryType.POST_WRITE)
 				builder.expiration().lifespan(time.toNanos(), TimeUnit.NANOSECONDS);
@@ -34,18 +93,21 @@ public final class InfinispanProvider extends AbstractCacheProvider {
 
 		org.infinispan.Cache<K, V> cache = MANAGER.administration()
 			.withFlags(CacheContainerAdmin.AdminFlag.VOLATILE)
-			.createCache(UUID.randomUUID().toString(), builder.build());
+			.createCache(name, builder.build());
 
-		if (spec.removalListener() != null) {
+		Set<RemovalCause> causes = RemovalFilters.listenedCauses(spec);
+		if (!causes.isEmpty()) {
+			// only subscribe to the event types of interest (e.g., to avoid a modification event upon every overwrite)
+			Set<Event.Type> events = InfinispanListener.events(causes);
 			cache.addFilteredListener(
 				new InfinispanListener<>(spec.removalListener()),
-				(key, oldValue, oldMeta, newValue, newMeta, eventType) -> eventType != null && InfinispanListener.EVENTS.contains(eventType.getType()),
+				(key, oldValue, oldMeta, newValue, newMeta, eventType) -> eventType != null && events.contains(eventType.getType()),
 				null,
-				InfinispanListener.ANNOTATIONS
+				InfinispanListener.annotations(causes)
 			);
 		}
 
-		return new InfinispanDelegate<>(cache);
+		return cache;
 	}
 
 	@Override
@@ -2,12 +2,15 @@ rootProject.name = "cache"
 
 include(
     ":bom",
+    ":benchmarks",
     ":api",
     ":core",
     ":kotlin",
     ":jackson",
+    ":micrometer",
     ":spring",
     ":spring-java17",
+    ":virtual-java21",
     ":provider-androidx",
     ":provider-cache2k",
     ":provider-caffeine",
@@ -21,12 +24,15 @@ include(
 )
 
 project(":bom").name = "cache-bom"
+project(":benchmarks").name = "cache-benchmarks"
 project(":api").name = "cache-api"
 project(":core").name = "cache-core"
 project(":kotlin").name = "cache-kotlin"
 project(":jackson").name = "cache-jackson"
+project(":micrometer").name = "cache-micrometer"
 project(":spring").name = "cache-spring"
 project(":spring-java17").name = "cache-spring-java17"
+project(":virtual-java21").name = "cache-virtual-java21"
 project(":provider-androidx").name = "cache-provider-androidx"
 project(":provider-cache2k").name = "cache-provider-cache2k"
 project(":provider-caffeine").name = "cache-provider-caffeine"
@@ -14,6 +14,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 /**
@@ -26,6 +27,8 @@ public class XanthicSpringCacheManager implements CacheManager {
 	private final Map<String, CacheWrapper> cacheMap = new ConcurrentHashMap<>();
 	private final Consumer<CacheApiSpec<Object, Object>> spec;
 	private final boolean dynamic;
+	@Nullable
+	private final BiConsumer<String, CacheApiSpec<Object, Object>> customizer;
 
 	/**
 	 * XanthicSpringCacheManager will manage all xanthic cache instances for spring.
@@ -33,8 +36,7 @@ public class XanthicSpringCacheManager implements CacheManager {
 	 * @param spec the default CacheApiSpec used to create a new cache instances
 	 */
 	public XanthicSpringCacheManager(Consumer<CacheApiSpec<Object, Object>> spec) {
-		this.spec = spec;
-		this.dynamic = true;
+		this(spec, null);
 	}
 
 	/**
@@ -44,7 +46,19 @@ public class XanthicSpringCacheManager implements CacheManager {
 	 * @param cacheNames If not null, the number of caches and their names will be fixed, with no creation of further cache keys at runtime.
 	 */
 	public XanthicSpringCacheManager(Consumer<CacheApiSpec<Object, Object>> spec, @Nullable Collection<String> cacheNames) {
+		this(spec, cacheNames, null);
+	}
+
+	/**
+	 * XanthicSpringCacheManager will manage all xanthic cache instances for spring.
+	 *
+	 * @param spec       the default CacheApiSpec used to create a new cache instances
+	 * @param cacheNames If not null, the number of caches and their names will be fixed, with no creation of further cache keys at runtime.
+	 * @param customizer If not null, adjusts the CacheApiSpec of each cache upon creation, given the cache name (e.g., to bind metrics).
+	 */
+	public XanthicSpringCacheManager(Consumer<CacheApiSpec<Object, Object>> spec, @Nullable Collection<String> cacheNames, @Nullable BiConsumer<String, CacheApiSpec<Object, Object>> customizer) {
 		this.spec = spec;
+		this.customizer = customizer;
 
 		if (cacheNames != null) {
 			this.dynamic = false;
@@ -97,21 +111,28 @@ public class XanthicSpringCacheManager implements CacheManager {
 	public void registerCache(String name, Consumer<CacheApiSpec<Object, Object>> spec) {
 		if (!this.dynamic) throw new IllegalStateException("CacheManager has a fixed set of cache keys and does not allow creation of new caches.");
 
-		this.cacheMap.put(name, new CacheWrapper(createCache(name, spec), true));
+		close(this.cacheMap.put(name, new CacheWrapper(createCache(name, spec), true)));
 	}
 
 	/**
-	 * Removes a named cache from this cache manager.
+	 * Removes a named cache from this cache manager, and closes the underlying xanthic cache.
 	 *
 	 * @param name the name of the cache
 	 */
 	public void removeCache(String name) {
 		if (!this.dynamic) throw new IllegalStateException("CacheManager has a fixed set of cache keys and does not allow removal of existing caches.");
 
-		this.cacheMap.remove(name);
+		close(this.cacheMap.remove(name));
+	}
+
+	private static void close(@Nullable CacheWrapper wrapper) {
+		if (wrapper != null && wrapper.cache().getNativeCache() instanceof io.github.xanthic.cache.api.Cache) {
+			((io.github.xanthic.cache.api.Cache<?, ?>) wrapper.cache().getNativeCache()).close();
+		}
 	}
 
 	private Cache createCache(String name, Consumer<CacheApiSpec<Object, Object>> spec) {
-		return new XanthicSpringCache(name, CacheApi.create(spec));
+		Consumer<CacheApiSpec<Object, Object>> finalSpec = customizer != null ? spec.andThen(s -> customizer.accept(name, s)) : spec;
+		return new XanthicSpringCache(name, CacheApi.create(finalSpec));
 	}
 }
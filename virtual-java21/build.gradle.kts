@@ -0,0 +1,16 @@
+dependencies {
+    api(project(":cache-core"))
+    testImplementation(testFixtures(project(":cache-core")))
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_21
+    targetCompatibility = JavaVersion.VERSION_21
+}
+
+publishing.publications.withType<MavenPublication> {
+    pom {
+        name.set("Xanthic - Virtual Threads for JDK 21")
+        description.set("Xanthic Cache execution on virtual threads for JDK 21+")
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.xanthic.cache.virtualjdk21;
+
+import io.github.xanthic.cache.api.AsyncCache;
+import io.github.xanthic.cache.api.Cache;
+import io.github.xanthic.cache.api.CacheProvider;
+import io.github.xanthic.cache.api.ICacheSpec;
+import io.github.xanthic.cache.api.LoadingCache;
+import io.github.xanthic.cache.api.RemovalListener;
+import io.github.xanthic.cache.core.AbstractCacheProvider;
+import io.github.xanthic.cache.core.CacheApiSpec;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Decorates another {@link CacheProvider}, such that the potentially blocking work of its caches runs on virtual threads.
+ * <p>
+ * When {@link ICacheSpec#executor()} is unspecified, a shared {@link VirtualThreadScheduledExecutor} is supplied,
+ * which runs asynchronous loads and refreshes (as well as any provider maintenance) on virtual threads.
+ * <p>
+ * Further, each {@link RemovalListener#onRemoval} call is dispatched on a new virtual thread,
+ * so listeners that perform I/O do not stall cache operations.
+ * As a result, listeners may observe events (even for the same key) out of order.
+ * <p>
+ * This provider is not discovered via the service loader; specify it via {@link CacheApiSpec#provider(CacheProvider)}
+ * or {@link io.github.xanthic.cache.core.CacheApiSettings#setDefaultCacheProvider(CacheProvider)}.
+ */
+public final class VirtualThreadCacheProvider extends AbstractCacheProvider {
+	private final CacheProvider delegate;
+
+	/**
+	 * @param delegate the provider of the backing caches
+	 */
+	public VirtualThreadCacheProvider(@NotNull CacheProvider delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public <K, V> Cache<K, V> build(ICacheSpec<K, V> spec) {
+		return delegate.build(adapt(spec));
+	}
+
+	@Override
+	public <K, V> AsyncCache<K, V> buildAsync(ICacheSpec<K, V> spec) {
+		if (delegate instanceof AbstractCacheProvider) {
+			return ((AbstractCacheProvider) delegate).buildAsync(adapt(spec));
+		}
+		return super.buildAsync(adapt(spec));
+	}
+
+	@Override
+	public <K, V> LoadingCache<K, V> buildLoading(ICacheSpec<K, V> spec) {
+		if (delegate instanceof AbstractCacheProvider) {
+			return ((AbstractCacheProvider) delegate).buildLoading(adapt(spec));
+		}
+		return super.buildLoading(adapt(spec));
+	}
+
+	/**
+	 * @return a copy of the spec that uses virtual threads (which is unchanged if the spec was already adapted)
+	 */
+	private <K, V> ICacheSpec<K, V> adapt(ICacheSpec<K, V> spec) {
+		CacheApiSpec<K, V> copy = CacheApiSpec.copyOf(spec);
+		copy.provider(delegate);
+		if (copy.executor() == null) {
+			copy.executor(ExecutorHolder.INSTANCE);
+		}
+
+		RemovalListener<K, V> listener = copy.removalListener();
+		if (listener != null && !(listener instanceof VirtualThreadRemovalListener)) {
+			copy.removalListener(new VirtualThreadRemovalListener<>(listener, ExecutorHolder.INSTANCE));
+		}
+		return copy;
+	}
+
+	private static class ExecutorHolder {
+		private static final VirtualThreadScheduledExecutor INSTANCE = new VirtualThreadScheduledExecutor();
+	}
+
+}
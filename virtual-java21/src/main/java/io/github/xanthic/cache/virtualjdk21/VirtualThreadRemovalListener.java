@@ -0,0 +1,21 @@
+package io.github.xanthic.cache.virtualjdk21;
+
+import io.github.xanthic.cache.api.RemovalListener;
+import io.github.xanthic.cache.api.domain.RemovalCause;
+import lombok.Value;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Dispatches each removal event to the wrapped listener on a new virtual thread.
+ */
+@Value
+class VirtualThreadRemovalListener<K, V> implements RemovalListener<K, V> {
+	RemovalListener<K, V> listener;
+	Executor executor;
+
+	@Override
+	public void onRemoval(K key, V value, RemovalCause cause) {
+		executor.execute(() -> listener.onRemoval(key, value, cause));
+	}
+}
@@ -0,0 +1,104 @@
+package io.github.xanthic.cache.virtualjdk21;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link ScheduledExecutorService} for {@link io.github.xanthic.cache.api.ICacheSpec#executor()} that runs tasks on virtual threads.
+ * <p>
+ * Immediate tasks (e.g., asynchronous loads, refreshes, and listener dispatch) each run on a new virtual thread,
+ * so blocking work is not bounded by (nor ties up) a pool of platform threads.
+ * <p>
+ * Delayed and periodic tasks (e.g., expiration sweeps) are run by a pool of virtual threads that is sized to the number of cores,
+ * so they should be reserved for short maintenance work.
+ */
+public final class VirtualThreadScheduledExecutor extends AbstractExecutorService implements ScheduledExecutorService {
+	private final ExecutorService workers;
+	private final ScheduledThreadPoolExecutor timers;
+
+	public VirtualThreadScheduledExecutor() {
+		this("xanthic-virtual-");
+	}
+
+	/**
+	 * @param namePrefix the prefix for the names of the spawned threads
+	 */
+	public VirtualThreadScheduledExecutor(@NotNull String namePrefix) {
+		this.workers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(namePrefix, 0).factory());
+		this.timers = new ScheduledThreadPoolExecutor(
+			Runtime.getRuntime().availableProcessors(),
+			Thread.ofVirtual().name(namePrefix + "scheduler-", 0).factory()
+		);
+		this.timers.setRemoveOnCancelPolicy(true);
+	}
+
+	@Override
+	public void execute(@NotNull Runnable command) {
+		workers.execute(command);
+	}
+
+	@NotNull
+	@Override
+	public ScheduledFuture<?> schedule(@NotNull Runnable command, long delay, @NotNull TimeUnit unit) {
+		return timers.schedule(command, delay, unit);
+	}
+
+	@NotNull
+	@Override
+	public <V> ScheduledFuture<V> schedule(@NotNull Callable<V> callable, long delay, @NotNull TimeUnit unit) {
+		return timers.schedule(callable, delay, unit);
+	}
+
+	@NotNull
+	@Override
+	public ScheduledFuture<?> scheduleAtFixedRate(@NotNull Runnable command, long initialDelay, long period, @NotNull TimeUnit unit) {
+		return timers.scheduleAtFixedRate(command, initialDelay, period, unit);
+	}
+
+	@NotNull
+	@Override
+	public ScheduledFuture<?> scheduleWithFixedDelay(@NotNull Runnable command, long initialDelay, long delay, @NotNull TimeUnit unit) {
+		return timers.scheduleWithFixedDelay(command, initialDelay, delay, unit);
+	}
+
+	@Override
+	public void shutdown() {
+		timers.shutdown();
+		workers.shutdown();
+	}
+
+	@NotNull
+	@Override
+	public List<Runnable> shutdownNow() {
+		List<Runnable> pending = new ArrayList<>(timers.shutdownNow());
+		pending.addAll(workers.shutdownNow());
+		return pending;
+	}
+
+	@Override
+	public boolean isShutdown() {
+		return workers.isShutdown();
+	}
+
+	@Override
+	public boolean isTerminated() {
+		return timers.isTerminated() && workers.isTerminated();
+	}
+
+	@Override
+	public boolean awaitTermination(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		return timers.awaitTermination(timeout, unit) && workers.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+	}
+
+}
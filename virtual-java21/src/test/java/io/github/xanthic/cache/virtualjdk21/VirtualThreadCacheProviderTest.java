@@ -0,0 +1,63 @@
+package io.github.xanthic.cache.virtualjdk21;
+
+import io.github.xanthic.cache.api.AsyncCache;
+import io.github.xanthic.cache.api.Cache;
+import io.github.xanthic.cache.core.provider.ProviderTestBase;
+import io.github.xanthic.cache.core.tinylfu.TinyLfuProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class VirtualThreadCacheProviderTest extends ProviderTestBase {
+
+	public VirtualThreadCacheProviderTest() {
+		super(new VirtualThreadCacheProvider(new TinyLfuProvider()));
+	}
+
+	@Test
+	@DisplayName("Test that async loads and removal listeners run on virtual threads")
+	public void virtualThreadTest() throws Exception {
+		CompletableFuture<Boolean> listenerVirtual = new CompletableFuture<>();
+
+		// Build caches
+		AsyncCache<String, Boolean> async = buildAsync(null);
+		Cache<String, Integer> cache = build(spec -> spec.removalListener((key, value, cause) -> listenerVirtual.complete(Thread.currentThread().isVirtual())));
+
+		// Ensure async computations run on virtual threads
+		Assertions.assertTrue(async.computeIfAbsentAsync("a", key -> Thread.currentThread().isVirtual()).get(30, TimeUnit.SECONDS));
+
+		// Ensure listeners are dispatched on virtual threads
+		cache.put("b", 1);
+		cache.remove("b");
+		Assertions.assertTrue(listenerVirtual.get(30, TimeUnit.SECONDS));
+	}
+
+	@Disabled
+	@Override
+	public void registeredAsDefaultTest() {
+		// skip test; VirtualThreadCacheProvider is opt-in, rather than automatically registered as a default
+	}
+
+	@Disabled
+	@Override
+	public void weightEvictionTest() {
+		// skip test; TinyLfuProvider does not implement a weight constraint
+	}
+
+	@Disabled
+	@Override
+	public void variableExpiryTest() {
+		// skip test; per-entry expiry is not supported
+	}
+
+	@Disabled
+	@Override
+	public void putWithTtlTest() {
+		// skip test; per-entry expiry is not supported
+	}
+
+}